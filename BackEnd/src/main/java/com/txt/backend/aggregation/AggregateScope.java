@@ -0,0 +1,8 @@
+package com.txt.backend.aggregation;
+
+public enum AggregateScope {
+    /** One series per {@code TelemetryData.sensorId}. */
+    SENSOR,
+    /** One series per {@code TelemetryData.type}, across all sensors of that type. */
+    TYPE
+}
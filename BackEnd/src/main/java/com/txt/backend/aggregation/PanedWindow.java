@@ -0,0 +1,71 @@
+package com.txt.backend.aggregation;
+
+import java.util.Arrays;
+
+/**
+ * Rolling set of fixed-width time panes for one key (a sensor or a telemetry type).
+ *
+ * Readings are folded into their pane as they arrive, so a query only merges the pre-aggregated
+ * panes it spans: a 1-hour window over 10-second panes is 360 merges regardless of the reading rate.
+ * Tumbling and sliding windows are both unions of whole panes. The ring holds
+ * {@code paneCount} panes; a slot is recycled when a newer pane maps onto it.
+ */
+public final class PanedWindow {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long paneMicros;
+    private final long[] paneNumbers; // epoch pane number held in each slot, EMPTY if unused
+    private final WindowStatistics[] panes;
+
+    public PanedWindow(long paneMicros, int paneCount) {
+        if (paneMicros <= 0 || paneCount <= 0) {
+            throw new IllegalArgumentException("Pane width and pane count must be positive");
+        }
+        this.paneMicros = paneMicros;
+        this.paneNumbers = new long[paneCount];
+        this.panes = new WindowStatistics[paneCount];
+        Arrays.fill(paneNumbers, EMPTY);
+    }
+
+    /**
+     * Folds a reading into its pane.
+     *
+     * @return false when the reading is older than every pane still kept (late data is dropped).
+     */
+    public synchronized boolean add(long timestampMicros, double value) {
+        long pane = Math.floorDiv(timestampMicros, paneMicros);
+        int slot = (int) Math.floorMod(pane, (long) panes.length);
+        if (paneNumbers[slot] != pane) {
+            if (paneNumbers[slot] != EMPTY && paneNumbers[slot] > pane) {
+                return false;
+            }
+            if (panes[slot] == null) {
+                panes[slot] = new WindowStatistics();
+            } else {
+                panes[slot].clear();
+            }
+            paneNumbers[slot] = pane;
+        }
+        panes[slot].add(value);
+        return true;
+    }
+
+    /** Merges the panes covering {@code from <= t < to}; both bounds are rounded down to a pane boundary. */
+    public synchronized WindowStatistics aggregate(long fromMicros, long toMicros) {
+        long fromPane = Math.floorDiv(fromMicros, paneMicros);
+        long toPane = Math.floorDiv(toMicros, paneMicros);
+        WindowStatistics result = new WindowStatistics();
+        for (int slot = 0; slot < panes.length; slot++) {
+            long pane = paneNumbers[slot];
+            if (pane != EMPTY && pane >= fromPane && pane < toPane) {
+                result.merge(panes[slot]);
+            }
+        }
+        return result;
+    }
+
+    public long paneMicros() {
+        return paneMicros;
+    }
+}
@@ -0,0 +1,211 @@
+package com.txt.backend.aggregation;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch with a relative-error guarantee (DDSketch-style log buckets).
+ *
+ * A value {@code v > 0} is counted in bucket {@code ceil(log_gamma(v))}; any quantile is answered
+ * within {@code relativeAccuracy} of the true value. Two sketches with the same accuracy merge by
+ * adding bucket counts, so per-pane sketches can be combined into any larger window.
+ * Bucket counts live in a dense {@code long[]} per sign; when a store would exceed
+ * {@link #MAX_BUCKETS} the lowest-magnitude buckets are collapsed together.
+ */
+public final class QuantileSketch {
+
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    static final int MAX_BUCKETS = 2048;
+
+    // Magnitudes below this are counted as zero (log of tiny values would need too many buckets)
+    private static final double MIN_INDEXABLE = 1e-9;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private final Store positive = new Store();
+    private final Store negative = new Store();
+    private long zeroCount;
+
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    /** Adds one value; NaN and infinities are ignored. */
+    public void add(double value) {
+        if (!Double.isFinite(value)) {
+            return;
+        }
+        if (value > MIN_INDEXABLE) {
+            positive.add(index(value), 1);
+        } else if (value < -MIN_INDEXABLE) {
+            negative.add(index(-value), 1);
+        } else {
+            zeroCount++;
+        }
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        positive.merge(other.positive);
+        negative.merge(other.negative);
+        zeroCount += other.zeroCount;
+    }
+
+    /**
+     * Approximate value at quantile {@code q} (0 = min, 1 = max), or NaN when the sketch is empty.
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        long count = count();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (q * (count - 1));
+        // Ascending order: negatives from the largest magnitude down, then zeros, then positives
+        if (rank < negative.total) {
+            return -value(negative.indexAtRankDescending(rank));
+        }
+        rank -= negative.total;
+        if (rank < zeroCount) {
+            return 0;
+        }
+        return value(positive.indexAtRank(rank - zeroCount));
+    }
+
+    public long count() {
+        return positive.total + negative.total + zeroCount;
+    }
+
+    public double relativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public void clear() {
+        positive.clear();
+        negative.clear();
+        zeroCount = 0;
+    }
+
+    private int index(double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    // Bucket i covers (gamma^(i-1), gamma^i]; this point is within relativeAccuracy of both ends
+    private double value(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    /** Dense bucket counts for indexes [minIndex, maxIndex], stored at {@code counts[index - offset]}. */
+    private static final class Store {
+
+        private long[] counts = new long[0];
+        private int offset;
+        private int minIndex;
+        private int maxIndex;
+        private long total;
+
+        void add(int index, long n) {
+            if (total == 0) {
+                minIndex = index;
+                maxIndex = index;
+            } else if (index < minIndex) {
+                if (maxIndex - index >= MAX_BUCKETS) {
+                    index = maxIndex - MAX_BUCKETS + 1;
+                }
+                minIndex = Math.min(minIndex, index);
+            } else if (index > maxIndex) {
+                if (index - minIndex >= MAX_BUCKETS) {
+                    collapseBelow(index - MAX_BUCKETS + 1);
+                }
+                maxIndex = index;
+            }
+            cover(minIndex, maxIndex);
+            counts[index - offset] += n;
+            total += n;
+        }
+
+        void merge(Store other) {
+            for (int i = other.minIndex; other.total > 0 && i <= other.maxIndex; i++) {
+                long n = other.counts[i - other.offset];
+                if (n > 0) {
+                    add(i, n);
+                }
+            }
+        }
+
+        int indexAtRank(long rank) {
+            long seen = 0;
+            for (int i = minIndex; i <= maxIndex; i++) {
+                seen += counts[i - offset];
+                if (seen > rank) {
+                    return i;
+                }
+            }
+            return maxIndex;
+        }
+
+        int indexAtRankDescending(long rank) {
+            long seen = 0;
+            for (int i = maxIndex; i >= minIndex; i--) {
+                seen += counts[i - offset];
+                if (seen > rank) {
+                    return i;
+                }
+            }
+            return minIndex;
+        }
+
+        void clear() {
+            if (total > 0) {
+                Arrays.fill(counts, minIndex - offset, maxIndex - offset + 1, 0L);
+                total = 0;
+            }
+        }
+
+        // Folds every bucket below newMin into newMin
+        private void collapseBelow(int newMin) {
+            long folded = 0;
+            for (int i = minIndex; i < newMin && i <= maxIndex; i++) {
+                folded += counts[i - offset];
+                counts[i - offset] = 0;
+            }
+            minIndex = newMin;
+            maxIndex = Math.max(maxIndex, newMin);
+            cover(minIndex, maxIndex);
+            counts[newMin - offset] += folded;
+        }
+
+        // Grows or re-centres the array so indexes [lo, hi] are addressable; non-zero counts must lie inside [lo, hi]
+        private void cover(int lo, int hi) {
+            if (lo >= offset && hi < offset + counts.length) {
+                return;
+            }
+            int span = hi - lo + 1;
+            int length = Math.min(Math.max(counts.length * 2, span + 16), MAX_BUCKETS + 16);
+            int newOffset = lo - (length - span) / 2;
+            long[] grown = new long[length];
+            int from = Math.max(offset, newOffset);
+            int to = Math.min(offset + counts.length, newOffset + length);
+            if (from < to) {
+                System.arraycopy(counts, from - offset, grown, from - newOffset, to - from);
+            }
+            counts = grown;
+            offset = newOffset;
+        }
+    }
+}
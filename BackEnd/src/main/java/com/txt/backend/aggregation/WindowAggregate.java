@@ -0,0 +1,7 @@
+package com.txt.backend.aggregation;
+
+/**
+ * Statistics of one window {@code [startMicros, endMicros)}.
+ */
+public record WindowAggregate(long startMicros, long endMicros, WindowStatistics statistics) {
+}
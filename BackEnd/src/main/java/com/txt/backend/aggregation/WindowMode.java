@@ -0,0 +1,8 @@
+package com.txt.backend.aggregation;
+
+public enum WindowMode {
+    /** Consecutive, non-overlapping windows aligned to multiples of the window size. */
+    TUMBLING,
+    /** One window of the given size ending at the current pane. */
+    SLIDING
+}
@@ -0,0 +1,82 @@
+package com.txt.backend.aggregation;
+
+/**
+ * Mergeable summary of the readings in one window: count, min, max, mean and variance
+ * (Welford / Chan et al. for merging) plus a {@link QuantileSketch} for percentiles.
+ * Not thread-safe; {@link PanedWindow} guards its panes.
+ */
+public final class WindowStatistics {
+
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double mean;
+    private double m2; // sum of squared differences from the mean
+    private final QuantileSketch sketch = new QuantileSketch();
+
+    /** Adds one reading; NaN and infinities are ignored. */
+    public void add(double value) {
+        if (!Double.isFinite(value)) {
+            return;
+        }
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sketch.add(value);
+    }
+
+    public void merge(WindowStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sketch.merge(other.sketch);
+    }
+
+    public void clear() {
+        count = 0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+        mean = 0;
+        m2 = 0;
+        sketch.clear();
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double min() {
+        return count > 0 ? min : Double.NaN;
+    }
+
+    public double max() {
+        return count > 0 ? max : Double.NaN;
+    }
+
+    public double mean() {
+        return count > 0 ? mean : Double.NaN;
+    }
+
+    /** Sample standard deviation (n - 1); 0 for a single reading. */
+    public double stddev() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        return count > 1 ? Math.sqrt(m2 / (count - 1)) : 0;
+    }
+
+    /** Approximate quantile, within {@link QuantileSketch#DEFAULT_RELATIVE_ACCURACY} of the true value. */
+    public double quantile(double q) {
+        return sketch.quantile(q);
+    }
+}
@@ -0,0 +1,168 @@
+package com.txt.backend.alerting;
+
+import com.txt.backend.dto.SystemAlert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Turns a stream of repeated alerts into one alert per (systemSource, severity) and suppression window.
+ *
+ * The first alert of a window goes out at once; later ones are only counted, and the window closes with a
+ * single summary carrying the count and the worst reading. An alert whose value is further from its
+ * threshold than the last one sent by {@code escalationRatio} goes out immediately (escalation).
+ * Each key keeps an immutable state behind an {@link AtomicReference}, updated by compare-and-set,
+ * so producers never block each other.
+ */
+public final class AlertCoalescer {
+
+    private static final String ANY_SEVERITY = "*";
+
+    private final long defaultWindowNanos;
+    private final Map<String, Long> windowNanos;
+    private final double escalationRatio;
+    private final ConcurrentHashMap<String, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * @param windowsMillis per-key windows keyed {@code SOURCE:SEVERITY} or {@code SOURCE:*}; 0 disables suppression.
+     */
+    public AlertCoalescer(long defaultWindowMillis, Map<String, Long> windowsMillis, double escalationRatio) {
+        if (defaultWindowMillis < 0 || escalationRatio < 0) {
+            throw new IllegalArgumentException("Suppression window and escalation ratio must not be negative");
+        }
+        this.defaultWindowNanos = TimeUnit.MILLISECONDS.toNanos(defaultWindowMillis);
+        this.windowNanos = new HashMap<>();
+        windowsMillis.forEach((key, millis) -> windowNanos.put(key, TimeUnit.MILLISECONDS.toNanos(millis)));
+        this.escalationRatio = escalationRatio;
+    }
+
+    /**
+     * Parses {@code LIFE_SUPPORT:CRITICAL=10000,POWER_GRID:*=60000} into per-key windows in milliseconds.
+     *
+     * @throws IllegalArgumentException on a malformed entry.
+     */
+    public static Map<String, Long> parseWindows(String spec) {
+        Map<String, Long> windows = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return windows;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2 || !parts[0].contains(":")) {
+                throw new IllegalArgumentException("Invalid alert window '" + entry.trim() + "', expected SOURCE:SEVERITY=millis");
+            }
+            windows.put(parts[0].trim(), Long.parseLong(parts[1].trim()));
+        }
+        return windows;
+    }
+
+    /**
+     * Records an alert.
+     *
+     * @return the alert to send now, with its occurrence count, or null when it was suppressed.
+     */
+    public SystemAlert offer(SystemAlert alert, long nowNanos) {
+        Slot slot = slot(alert.getSystemSource() + ":" + alert.getSeverity(), alert);
+        double distance = distance(alert);
+        while (true) {
+            State current = slot.state.get();
+            State next;
+            SystemAlert send;
+            if (current == null || nowNanos - current.windowStart >= slot.windowNanos) {
+                // Opens a window; readings suppressed in an expired window that was not flushed yet are counted here
+                next = new State(nowNanos, distance, 0, null, Double.NaN);
+                send = copy(alert, 1 + (current != null ? current.pending : 0));
+            } else if (isWorse(distance, current.sentDistance)) {
+                next = new State(current.windowStart, distance, 0, null, Double.NaN);
+                send = copy(alert, current.pending + 1);
+            } else {
+                boolean worst = current.worst == null || !(current.worstDistance >= distance);
+                next = new State(current.windowStart, current.sentDistance, current.pending + 1,
+                        worst ? alert : current.worst, worst ? distance : current.worstDistance);
+                send = null;
+            }
+            if (slot.state.compareAndSet(current, next)) {
+                return send;
+            }
+        }
+    }
+
+    /**
+     * Closes every window that has expired with suppressed alerts pending.
+     *
+     * @return one summary per closed window: the worst suppressed alert with the number suppressed.
+     */
+    public List<SystemAlert> flush(long nowNanos) {
+        List<SystemAlert> summaries = new ArrayList<>();
+        for (Slot slot : slots.values()) {
+            while (true) {
+                State current = slot.state.get();
+                if (current == null || current.pending == 0 || nowNanos - current.windowStart < slot.windowNanos) {
+                    break;
+                }
+                // A condition that persists gets one summary per window
+                State next = new State(nowNanos, current.worstDistance, 0, null, Double.NaN);
+                if (slot.state.compareAndSet(current, next)) {
+                    summaries.add(copy(current.worst, current.pending));
+                    break;
+                }
+            }
+        }
+        return summaries;
+    }
+
+    private Slot slot(String key, SystemAlert alert) {
+        Slot slot = slots.get(key);
+        return slot != null ? slot : slots.computeIfAbsent(key, k -> new Slot(window(alert)));
+    }
+
+    private long window(SystemAlert alert) {
+        Long window = windowNanos.get(alert.getSystemSource() + ":" + alert.getSeverity());
+        if (window == null) {
+            window = windowNanos.get(alert.getSystemSource() + ":" + ANY_SEVERITY);
+        }
+        return window != null ? window : defaultWindowNanos;
+    }
+
+    private boolean isWorse(double distance, double sentDistance) {
+        // NaN (alert without a value or threshold) never escalates
+        return distance > sentDistance && distance >= sentDistance * (1 + escalationRatio);
+    }
+
+    private static double distance(SystemAlert alert) {
+        if (alert.getValue() == null || alert.getThreshold() == null) {
+            return Double.NaN;
+        }
+        return Math.abs(alert.getValue() - alert.getThreshold());
+    }
+
+    private static SystemAlert copy(SystemAlert alert, int occurrences) {
+        return SystemAlert.builder()
+                .systemSource(alert.getSystemSource())
+                .severity(alert.getSeverity())
+                .message(alert.getMessage())
+                .timestamp(alert.getTimestamp())
+                .value(alert.getValue())
+                .threshold(alert.getThreshold())
+                .occurrences(occurrences)
+                .build();
+    }
+
+    private static final class Slot {
+        final long windowNanos;
+        final AtomicReference<State> state = new AtomicReference<>();
+
+        Slot(long windowNanos) {
+            this.windowNanos = windowNanos;
+        }
+    }
+
+    // sentDistance: distance from threshold of the last alert sent; worst: most severe suppressed alert
+    private record State(long windowStart, double sentDistance, int pending, SystemAlert worst, double worstDistance) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.txt.backend.alerting;
+
+import java.util.Locale;
+
+/**
+ * Severity lane an alert travels in: its own publisher queue, RabbitMQ queue and consumer pool,
+ * so a flood of low-severity alerts cannot delay critical ones.
+ */
+public enum AlertLane {
+    CRITICAL,
+    WARNING,
+    INFO;
+
+    public static AlertLane of(String severity) {
+        if (severity == null) {
+            return INFO;
+        }
+        return switch (severity.toUpperCase(Locale.ROOT)) {
+            case "CRITICAL" -> CRITICAL;
+            case "WARNING", "CAUTION" -> WARNING;
+            default -> INFO;
+        };
+    }
+
+    /** Lower-case name used in routing keys, property names and metric tags. */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /** {@code alert.<lane>.<source>}, matched by the lane binding {@code alert.<lane>.#}. */
+    public String routingKey(String systemSource) {
+        String source = systemSource != null ? systemSource.toLowerCase(Locale.ROOT) : "unknown";
+        return "alert." + key() + "." + source;
+    }
+}
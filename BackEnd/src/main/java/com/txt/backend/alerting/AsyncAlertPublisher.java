@@ -0,0 +1,167 @@
+package com.txt.backend.alerting;
+
+import com.txt.backend.dto.SystemAlert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * Hands alerts from caller threads to one publisher thread through a bounded queue.
+ *
+ * {@link #offer} never blocks: when the queue is full the alert is dropped and counted. The publisher drains
+ * up to {@code batchSize} alerts at a time and sends them as one batch, which the {@link BatchSender}
+ * confirms as a whole; a failed batch is retried with exponential backoff, so delivery is at least once.
+ */
+public final class AsyncAlertPublisher implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncAlertPublisher.class);
+
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+    /** Publishes a batch and returns once the broker confirmed all of it; throws otherwise. */
+    @FunctionalInterface
+    public interface BatchSender {
+        void send(List<SystemAlert> batch) throws Exception;
+    }
+
+    private final BlockingQueue<SystemAlert> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final BatchSender sender;
+    private final LongConsumer confirmLatencyListener;
+    private final Thread publisher;
+    private volatile boolean running = true;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param confirmLatencyListener receives the nanoseconds from sending a batch to its confirmation.
+     */
+    public AsyncAlertPublisher(String threadName, int capacity, int batchSize, int maxAttempts,
+                               long initialBackoffMillis, BatchSender sender, LongConsumer confirmLatencyListener) {
+        if (capacity <= 0 || batchSize <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Queue capacity, batch size and attempts must be positive");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.sender = sender;
+        this.confirmLatencyListener = confirmLatencyListener;
+        this.publisher = new Thread(this::run, threadName);
+        this.publisher.setDaemon(true);
+        this.publisher.start();
+    }
+
+    /**
+     * Queues an alert for publishing.
+     *
+     * @return false if the queue was full (or the publisher closed) and the alert was dropped.
+     */
+    public boolean offer(SystemAlert alert) {
+        if (running && queue.offer(alert)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    public long sentCount() {
+        return sent.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    public long retryCount() {
+        return retries.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    /** Stops accepting alerts and waits a bounded time for the queued ones to be published. */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            publisher.join(CLOSE_TIMEOUT_MILLIS);
+            if (publisher.isAlive()) {
+                publisher.interrupt();
+                publisher.join(CLOSE_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int abandoned = queue.size();
+        if (abandoned > 0) {
+            failed.add(abandoned);
+            logger.warn("{} alerts were still queued at shutdown and were not published", abandoned);
+        }
+    }
+
+    private void run() {
+        List<SystemAlert> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                SystemAlert first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                publish(batch);
+            } catch (InterruptedException e) {
+                failed.add(batch.size());
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publish(List<SystemAlert> batch) throws InterruptedException {
+        long backoff = initialBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                sender.send(batch);
+                confirmLatencyListener.accept(System.nanoTime() - start);
+                sent.add(batch.size());
+                return;
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    failed.add(batch.size());
+                    logger.error("Dropping {} alerts after {} failed publish attempts", batch.size(), attempt, e);
+                    return;
+                }
+                retries.increment();
+                logger.warn("Alert publish attempt {} failed, retrying in {} ms: {}", attempt, backoff, e.getMessage());
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.txt.backend.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.txt.backend.model.AlertHistory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Directory of gzip-compressed NDJSON files holding alert history rows moved out of the database, one or more
+ * files per day: {@code alerts-<yyyy-MM-dd>-<minId>-<maxId>.ndjson.gz}.
+ *
+ * The name is derived from the rows, so archiving the same rows again (after a crash between writing the file
+ * and deleting the rows) finds the file already there instead of writing a duplicate. Files are written to a
+ * temporary name and moved into place, so readers never see a partial file.
+ *
+ * Each file's {@link Range} of (timestamp, id) keys is kept in memory, so readers can skip files that cannot
+ * hold the rows they look for. It is known for files written since startup and learned on the first read of
+ * the others.
+ */
+public final class AlertArchive {
+
+    private static final Pattern FILE_NAME = Pattern.compile("alerts-(\\d{4}-\\d{2}-\\d{2})-(\\d+)-(\\d+)\\.ndjson\\.gz");
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
+    private final NavigableMap<LocalDate, List<Path>> files = new ConcurrentSkipListMap<>();
+    private final Map<Path, Range> ranges = new ConcurrentHashMap<>();
+
+    public AlertArchive(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(AlertHistory.class);
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, "alerts-*.ndjson.gz")) {
+                for (Path file : entries) {
+                    LocalDate day = dayOf(file);
+                    if (day != null) {
+                        index(day, file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open alert archive " + directory, e);
+        }
+    }
+
+    /**
+     * Writes rows of one day to a new archive file.
+     *
+     * @return the file, which may already have existed with the same rows.
+     */
+    public Path write(LocalDate day, List<AlertHistory> rows) throws IOException {
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("Nothing to archive for " + day);
+        }
+        long minId = rows.stream().mapToLong(AlertHistory::getId).min().orElseThrow();
+        long maxId = rows.stream().mapToLong(AlertHistory::getId).max().orElseThrow();
+        Path file = directory.resolve("alerts-" + day + "-" + minId + "-" + maxId + ".ndjson.gz");
+        Range range = null;
+        for (AlertHistory row : rows) {
+            range = Range.include(range, row);
+        }
+        if (Files.exists(file)) {
+            index(day, file, range);
+            return file;
+        }
+        Path temporary = directory.resolve(file.getFileName() + ".tmp");
+        try (BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temporary), 64 * 1024), StandardCharsets.UTF_8))) {
+            for (AlertHistory row : rows) {
+                out.write(objectMapper.writeValueAsString(row));
+                out.write('\n');
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+        index(day, file, range);
+        return file;
+    }
+
+    /** Archived days, oldest first. */
+    public NavigableMap<LocalDate, List<Path>> days() {
+        return files;
+    }
+
+    /** Keys of the first and last row in the file, or null until the file has been read once. */
+    public Range range(Path file) {
+        return ranges.get(file);
+    }
+
+    /**
+     * Streams the rows of one file that match the filter to the sink, in file order. Only one row is held at a
+     * time, however large the file.
+     */
+    public void scan(Path file, Predicate<AlertHistory> filter, Consumer<AlertHistory> sink) {
+        Range range = null;
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    AlertHistory row = reader.readValue(line);
+                    range = Range.include(range, row);
+                    if (filter.test(row)) {
+                        sink.accept(row);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read alert archive " + file, e);
+        }
+        if (range != null) {
+            ranges.put(file, range);
+        }
+    }
+
+    public int fileCount() {
+        return files.values().stream().mapToInt(List::size).sum();
+    }
+
+    public long sizeBytes() {
+        long total = 0;
+        for (Map.Entry<LocalDate, List<Path>> day : files.entrySet()) {
+            for (Path file : day.getValue()) {
+                try {
+                    total += Files.size(file);
+                } catch (IOException e) {
+                    // deleted by hand since it was indexed; not counted
+                }
+            }
+        }
+        return total;
+    }
+
+    private void index(LocalDate day, Path file, Range range) {
+        if (range != null) {
+            ranges.put(file, range);
+        }
+        index(day, file);
+    }
+
+    private void index(LocalDate day, Path file) {
+        List<Path> dayFiles = files.computeIfAbsent(day, d -> new CopyOnWriteArrayList<>());
+        if (!dayFiles.contains(file)) {
+            dayFiles.add(file);
+        }
+    }
+
+    private static LocalDate dayOf(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(matcher.group(1));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /** Oldest and newest (timestamp, id) key in one archive file. */
+    public record Range(LocalDateTime oldest, long oldestId, LocalDateTime newest, long newestId) {
+
+        public static final Comparator<Range> BY_NEWEST = Comparator
+                .comparing(Range::newest)
+                .thenComparingLong(Range::newestId);
+
+        /** Whether some row sorts before (timestamp, id). */
+        public boolean startsBefore(LocalDateTime timestamp, long id) {
+            int order = oldest.compareTo(timestamp);
+            return order < 0 || order == 0 && oldestId < id;
+        }
+
+        /** Whether some row sorts after (timestamp, id). */
+        public boolean endsAfter(LocalDateTime timestamp, long id) {
+            int order = newest.compareTo(timestamp);
+            return order > 0 || order == 0 && newestId > id;
+        }
+
+        static Range include(Range range, AlertHistory row) {
+            LocalDateTime timestamp = row.getTimestamp();
+            long id = row.getId();
+            if (range == null) {
+                return new Range(timestamp, id, timestamp, id);
+            }
+            boolean older = range.startsBefore(timestamp, id);
+            boolean newer = range.endsAfter(timestamp, id);
+            if (older && newer) {
+                return range;
+            }
+            return new Range(older ? range.oldest : timestamp, older ? range.oldestId : id,
+                    newer ? range.newest : timestamp, newer ? range.newestId : id);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.txt.backend.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-memory cache: at most {@code maxEntries} entries, each readable for {@code ttlNanos} after it was
+ * written. A full cache drops its least recently used entry; an expired entry is dropped when it is read or
+ * when it reaches the LRU end. Every drop is reported to the {@link EvictionListener}.
+ *
+ * Access order is kept in a {@link LinkedHashMap}, so reads and writes take one monitor; fine for the request
+ * rates it fronts, which are bounded by the work it saves.
+ */
+public final class LruTtlCache<K, V> {
+
+    public enum EvictionCause { SIZE, EXPIRED }
+
+    @FunctionalInterface
+    public interface EvictionListener {
+        void onEviction(EvictionCause cause);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final EvictionListener listener;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public LruTtlCache(int maxEntries, long ttlNanos, EvictionListener listener) {
+        this(maxEntries, ttlNanos, System::nanoTime, listener);
+    }
+
+    LruTtlCache(int maxEntries, long ttlNanos, LongSupplier clock, EvictionListener listener) {
+        if (maxEntries <= 0 || ttlNanos <= 0) {
+            throw new IllegalArgumentException("Cache size and time to live must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+        this.listener = listener;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() <= LruTtlCache.this.maxEntries) {
+                    return false;
+                }
+                listener.onEviction(isExpired(eldest.getValue()) ? EvictionCause.EXPIRED : EvictionCause.SIZE);
+                return true;
+            }
+        };
+    }
+
+    /** The live value for the key, or null. */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry)) {
+            entries.remove(key);
+            listener.onEviction(EvictionCause.EXPIRED);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return clock.getAsLong() - entry.expiresAt() >= 0;
+    }
+}
@@ -0,0 +1,9 @@
+package com.txt.backend.cache;
+
+/** What a cached warp simulation request does on a miss. */
+public enum WarpCacheMode {
+    /** Simulate and return the result without storing a row. */
+    COMPUTE_ONLY,
+    /** Simulate and store one row; later hits return that row instead of inserting another. */
+    PERSIST
+}
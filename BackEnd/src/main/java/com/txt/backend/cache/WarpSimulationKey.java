@@ -0,0 +1,50 @@
+package com.txt.backend.cache;
+
+import com.txt.backend.dto.WarpSimulationRequest;
+
+/**
+ * Canonical form of a warp simulation request: coordinates rounded to multiples of {@code positionQuantum}
+ * metres and velocity to multiples of {@code velocityQuantum} m/s, plus fingerprints of everything else the
+ * result depends on (simulation settings and obstacle catalog), so a change there makes old entries unreachable
+ * instead of wrong.
+ *
+ * Requests with the same key are simulated from the quantized values, so they get the same result whichever of
+ * them comes first.
+ */
+public record WarpSimulationKey(long initialX, long initialY, long initialZ,
+                                long finalX, long finalY, long finalZ,
+                                long bubbleVelocity, double positionQuantum, double velocityQuantum,
+                                long model, long obstacles) {
+
+    public static WarpSimulationKey of(WarpSimulationRequest request, double positionQuantum, double velocityQuantum,
+                                       long model, long obstacles) {
+        return new WarpSimulationKey(
+                quantize(request.initialX(), positionQuantum), quantize(request.initialY(), positionQuantum),
+                quantize(request.initialZ(), positionQuantum), quantize(request.finalX(), positionQuantum),
+                quantize(request.finalY(), positionQuantum), quantize(request.finalZ(), positionQuantum),
+                quantize(request.bubbleVelocity(), velocityQuantum), positionQuantum, velocityQuantum,
+                model, obstacles);
+    }
+
+    /** The request this key stands for: the quantized inputs back in metres and m/s. */
+    public WarpSimulationRequest canonicalRequest() {
+        return new WarpSimulationRequest(initialX * positionQuantum, initialY * positionQuantum,
+                initialZ * positionQuantum, finalX * positionQuantum, finalY * positionQuantum,
+                finalZ * positionQuantum, bubbleVelocity * velocityQuantum);
+    }
+
+    /** Stable string form, used as the Redis key. */
+    public String canonical() {
+        return initialX + ":" + initialY + ":" + initialZ + ":" + finalX + ":" + finalY + ":" + finalZ + ":"
+                + bubbleVelocity + ":" + positionQuantum + ":" + velocityQuantum + ":"
+                + Long.toHexString(model) + ":" + Long.toHexString(obstacles);
+    }
+
+    private static long quantize(double value, double quantum) {
+        double steps = Math.rint(value / quantum);
+        if (Math.abs(steps) >= 0x1p62) {
+            throw new IllegalArgumentException("Value " + value + " is out of range for a quantum of " + quantum);
+        }
+        return (long) steps;
+    }
+}
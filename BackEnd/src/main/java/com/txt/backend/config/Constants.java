@@ -11,13 +11,11 @@ public final class Constants {
 
     // Physics constants
     public static final double SPEED_OF_LIGHT = 299792458.0; // m/s
-    public static final double IDEAL_OXYGEN_LEVEL = 20.5; // percentage
-    public static final double CRITICAL_OXYGEN_LEVEL = 19.5; // percentage
-    public static final double MINIMUM_SAFE_OXYGEN = 19.0; // percentage
+    public static final double IDEAL_OXYGEN_LEVEL = 20.5; // percentage, atmosphere generator set point
 
-    // Energy thresholds
-    public static final double CRITICAL_ENERGY_LEVEL = 10.0; // percentage
-    public static final double LOW_ENERGY_LEVEL = 30.0; // percentage
+    // Oxygen and energy alert thresholds are rules in telemetry-rules.json (see RuleEngineService)
+
+    // Energy
     public static final double BASE_ENERGY_CONSUMPTION = 100.0; // kW
 
     // Warp drive constants
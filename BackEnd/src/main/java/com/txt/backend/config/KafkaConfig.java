@@ -1,15 +1,21 @@
 package com.txt.backend.config;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 
 @Configuration
 public class KafkaConfig {
 
     // Topic name for ship telemetry
     public static final String TELEMETRY_TOPIC = "spaceship.telemetry.v1";
+    public static final int TELEMETRY_PARTITIONS = 3;
+    public static final String TELEMETRY_BATCH_LISTENER_FACTORY = "telemetryBatchListenerFactory";
 
     @Bean
     public NewTopic telemetryTopic() {
@@ -17,8 +23,23 @@ public class KafkaConfig {
         // partitions(3): Enables parallelism (3 consumers can read at the same time)
         // replicas(1): Only 1 data copy (for dev/local)
         return TopicBuilder.name(TELEMETRY_TOPIC)
-                .partitions(3)
+                .partitions(TELEMETRY_PARTITIONS)
                 .replicas(1)
                 .build();
     }
+
+    @Bean(name = TELEMETRY_BATCH_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> telemetryBatchListenerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        // One consumer thread per partition: a partition is never read by two threads,
+        // so readings of the same sensor (same key) are processed in order.
+        factory.setConcurrency(TELEMETRY_PARTITIONS);
+        factory.setBatchListener(true);
+        // Offsets are committed once per poll, after the whole batch has been processed
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        return factory;
+    }
 }
@@ -1,35 +1,89 @@
 package com.txt.backend.config;
 
+import com.txt.backend.alerting.AlertLane;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
 
 @Configuration
 @Profile("!dev") // Only configures RabbitMQ when NOT in 'dev'
 public class RabbitMQConfig {
 
-    public static final String CRITICAL_ALERTS_QUEUE = "space-station.critical.alerts";
     public static final String TELEMETRY_EXCHANGE = "space-station.telemetry.exchange";
+
+    // One queue per severity lane (see AlertLane), each with its own consumer pool
+    public static final String CRITICAL_ALERTS_QUEUE = "space-station.critical.alerts";
+    public static final String WARNING_ALERTS_QUEUE = "space-station.warning.alerts";
+    public static final String INFO_ALERTS_QUEUE = "space-station.info.alerts";
     public static final String CRITICAL_ROUTING_KEY = "alert.critical.#";
+    public static final String WARNING_ROUTING_KEY = "alert.warning.#";
+    public static final String INFO_ROUTING_KEY = "alert.info.#";
+
+    // Quarantine lifecycle events published by the outbox relay
+    public static final String QUARANTINE_EVENTS_QUEUE = "space-station.quarantine.events";
+    public static final String QUARANTINE_ROUTING_KEY = "quarantine.#";
+
+    public static final String CRITICAL_LANE_LISTENER_FACTORY = "criticalLaneListenerFactory";
+    public static final String WARNING_LANE_LISTENER_FACTORY = "warningLaneListenerFactory";
+    public static final String INFO_LANE_LISTENER_FACTORY = "infoLaneListenerFactory";
+
+    private final Environment environment;
+
+    public RabbitMQConfig(Environment environment) {
+        this.environment = environment;
+    }
 
     @Bean
     public Queue criticalQueue() {
         return new Queue(CRITICAL_ALERTS_QUEUE, true);
     }
 
+    @Bean
+    public Queue warningQueue() {
+        return new Queue(WARNING_ALERTS_QUEUE, true);
+    }
+
+    @Bean
+    public Queue infoQueue() {
+        return new Queue(INFO_ALERTS_QUEUE, true);
+    }
+
+    @Bean
+    public Queue quarantineQueue() {
+        return new Queue(QUARANTINE_EVENTS_QUEUE, true);
+    }
+
     @Bean
     public TopicExchange exchange() {
         return new TopicExchange(TELEMETRY_EXCHANGE);
     }
 
     @Bean
-    public Binding binding(Queue queue, TopicExchange exchange) {
-        return BindingBuilder.bind(queue).to(exchange).with(CRITICAL_ROUTING_KEY);
+    public Binding binding() {
+        return BindingBuilder.bind(criticalQueue()).to(exchange()).with(CRITICAL_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding warningBinding() {
+        return BindingBuilder.bind(warningQueue()).to(exchange()).with(WARNING_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding infoBinding() {
+        return BindingBuilder.bind(infoQueue()).to(exchange()).with(INFO_ROUTING_KEY);
+    }
+
+    @Bean
+    public Binding quarantineBinding() {
+        return BindingBuilder.bind(quarantineQueue()).to(exchange()).with(QUARANTINE_ROUTING_KEY);
     }
 
     @Bean
@@ -43,4 +97,47 @@ public class RabbitMQConfig {
         rabbitTemplate.setMessageConverter(jsonMessageConverter());
         return rabbitTemplate;
     }
+
+    // Critical: many consumers, small prefetch and batches, short wait, so one slow batch never queues many alerts
+    @Bean(name = CRITICAL_LANE_LISTENER_FACTORY)
+    public SimpleRabbitListenerContainerFactory criticalLaneListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        return laneListenerFactory(configurer, connectionFactory, AlertLane.CRITICAL, 4, 10, 10, 20);
+    }
+
+    @Bean(name = WARNING_LANE_LISTENER_FACTORY)
+    public SimpleRabbitListenerContainerFactory warningLaneListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        return laneListenerFactory(configurer, connectionFactory, AlertLane.WARNING, 2, 100, 50, 200);
+    }
+
+    @Bean(name = INFO_LANE_LISTENER_FACTORY)
+    public SimpleRabbitListenerContainerFactory infoLaneListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        return laneListenerFactory(configurer, connectionFactory, AlertLane.INFO, 1, 250, 100, 500);
+    }
+
+    /**
+     * Batch container for one lane, tuned by {@code alerts.lanes.<lane>.*}. A batch holds up to {@code batch-size}
+     * alerts, or whatever arrived once no message came for {@code receive-timeout-ms}; messages are acked
+     * after the listener returns, i.e. after the batch commits.
+     */
+    private SimpleRabbitListenerContainerFactory laneListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            AlertLane lane, int concurrency, int prefetch, int batchSize, long receiveTimeoutMs) {
+        String prefix = "alerts.lanes." + lane.key() + ".";
+        int consumers = environment.getProperty(prefix + "concurrency", Integer.class, concurrency);
+        int batch = environment.getProperty(prefix + "batch-size", Integer.class, batchSize);
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(consumers);
+        factory.setMaxConcurrentConsumers(consumers);
+        factory.setPrefetchCount(Math.max(batch, environment.getProperty(prefix + "prefetch", Integer.class, prefetch)));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batch);
+        factory.setReceiveTimeout(environment.getProperty(prefix + "receive-timeout-ms", Long.class, receiveTimeoutMs));
+        return factory;
+    }
 }
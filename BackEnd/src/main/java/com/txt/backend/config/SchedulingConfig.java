@@ -0,0 +1,13 @@
+package com.txt.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} jobs (alert coalescing flush, outbox relay, alert archiving).
+ * Boot's scheduler has a single thread by default; {@code spring.task.scheduling.pool.size} gives each job its own.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
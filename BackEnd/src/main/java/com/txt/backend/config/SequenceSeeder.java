@@ -0,0 +1,82 @@
+package com.txt.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Moves id sequences past the rows that already exist.
+ *
+ * These tables had IDENTITY ids before they switched to pooled sequences. On a database that already holds
+ * rows, {@code ddl-auto=update} creates the new sequence starting at 1 and the first inserts would hit
+ * duplicate keys. On MySQL Hibernate keeps a sequence as a one-row {@code next_val} table; this raises it
+ * past {@code max(id)} while the context starts, before any listener can insert. Native sequences are not
+ * touched (see database-setup.md to move them by hand).
+ */
+@Component
+public class SequenceSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(SequenceSeeder.class);
+
+    // Must match the @SequenceGenerator of each entity
+    private static final List<SeededSequence> SEQUENCES = List.of(
+            new SeededSequence("alert_history_seq", "alert_history", 50),
+            new SeededSequence("warp_simulation_seq", "warp_simulations", 50));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // The EntityManagerFactory is only injected so that the schema update has created the sequences first
+    public SequenceSeeder(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void seedAll() {
+        for (SeededSequence sequence : SEQUENCES) {
+            seed(sequence.name(), sequence.table(), sequence.allocationSize());
+        }
+    }
+
+    /** Raises a table-backed sequence so the next pooled block starts above every stored id; idempotent. */
+    void seed(String sequence, String table, int allocationSize) {
+        if (!isTable(sequence)) {
+            return;
+        }
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        // A pooled block may end at next_val, so stay a whole block above the largest id
+        long floor = maxId + allocationSize + 1;
+        if (jdbcTemplate.update("update " + sequence + " set next_val = ? where next_val < ?", floor, floor) > 0) {
+            logger.info("Sequence {} moved past the existing ids of {} (next_val = {})", sequence, table, floor);
+        }
+    }
+
+    private boolean isTable(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String candidate : List.of(name, name.toUpperCase(Locale.ROOT))) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, candidate,
+                        new String[]{"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+
+    private record SeededSequence(String name, String table, int allocationSize) {
+    }
+}
@@ -1,30 +1,86 @@
 package com.txt.backend.controller;
 
-import com.txt.backend.model.AlertHistory;
-import com.txt.backend.repository.AlertRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.dto.AlertHistoryPage;
+import com.txt.backend.dto.AlertHistoryQuery;
+import com.txt.backend.service.AlertHistoryService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/alerts")
 @Tag(name = "Flight Recorder (Black Box)", description = "Access historical data of system alerts and AI responses")
 public class AlertController {
 
-    private final AlertRepository alertRepository;
+    private final AlertHistoryService alertHistoryService;
+    private final ObjectMapper objectMapper;
 
-    public AlertController(AlertRepository alertRepository) {
-        this.alertRepository = alertRepository;
+    public AlertController(AlertHistoryService alertHistoryService, ObjectMapper objectMapper) {
+        this.alertHistoryService = alertHistoryService;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * Pages through the alert history, newest first. Pass the returned {@code nextCursor} as {@code cursor}
+     * (with the same filters) to get the next page.
+     */
     @GetMapping
-    @Operation(summary = "Get All Flight Logs", description = "Retrieves the persistent history of alerts processed by the system.")
-    public ResponseEntity<List<AlertHistory>> getAllAlerts() {
-        return ResponseEntity.ok(alertRepository.findAll());
+    @Operation(summary = "Get Flight Logs", description = "Retrieves one page of the persistent history of alerts processed by the system, newest first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or time range")
+    })
+    public ResponseEntity<AlertHistoryPage> getAlerts(
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) String systemSource,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        AlertHistoryQuery query = new AlertHistoryQuery(severity, systemSource, from, to);
+        return ResponseEntity.ok(alertHistoryService.findPage(query, cursor, limit));
+    }
+
+    /**
+     * Streams every matching alert as newline-delimited JSON, newest first, for bulk export.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export Flight Logs", description = "Streams all matching alerts as newline-delimited JSON with constant server memory")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Alerts streamed"),
+            @ApiResponse(responseCode = "400", description = "Invalid time range")
+    })
+    public ResponseEntity<StreamingResponseBody> exportAlerts(
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) String systemSource,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Time range start must be before its end");
+        }
+        AlertHistoryQuery query = new AlertHistoryQuery(severity, systemSource, from, to);
+        StreamingResponseBody body = out -> alertHistoryService.export(query, alert -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(alert));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 }
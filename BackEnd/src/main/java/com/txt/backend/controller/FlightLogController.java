@@ -0,0 +1,113 @@
+package com.txt.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.dto.FlightLogStatus;
+import com.txt.backend.service.FlightLogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.time.Instant;
+
+/**
+ * Range reads over the raw telemetry recorded by the flight log.
+ * Times are the moments the readings were recorded, not the sensor timestamps.
+ */
+@RestController
+@RequestMapping("/api/telemetry/flight-log")
+@Tag(name = "Telemetry Flight Log", description = "Range reads over the raw readings kept in the append-only segment log")
+public class FlightLogController {
+
+    private final FlightLogService flightLogService;
+    private final ObjectMapper objectMapper;
+
+    public FlightLogController(FlightLogService flightLogService, ObjectMapper objectMapper) {
+        this.flightLogService = flightLogService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get Flight Log Status", description = "Segments, size and number of readings recorded")
+    public ResponseEntity<FlightLogStatus> getStatus() {
+        requireEnabled();
+        return ResponseEntity.ok(new FlightLogStatus(
+                flightLogService.segmentCount(), flightLogService.sizeBytes(), flightLogService.recordedTotal()));
+    }
+
+    /**
+     * Streams the recorded frames as stored on disk: {@code [int length][int crc32c][long recordedMicros][payload]},
+     * big-endian, where the payload is the binary telemetry wire format.
+     */
+    @GetMapping(value = "/raw", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Download Raw Flight Log Range", description = "Streams recorded frames in [from, to) straight from the segment files")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Frames streamed"),
+            @ApiResponse(responseCode = "400", description = "Invalid time range"),
+            @ApiResponse(responseCode = "409", description = "Flight log disabled")
+    })
+    public ResponseEntity<StreamingResponseBody> getRaw(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        requireEnabled();
+        Instant end = validRange(from, to);
+        StreamingResponseBody body = out -> flightLogService.transferTo(from, end, Channels.newChannel(out));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(body);
+    }
+
+    @GetMapping(value = "/records", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Get Flight Log Readings", description = "Streams the readings recorded in [from, to) as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Readings streamed"),
+            @ApiResponse(responseCode = "400", description = "Invalid time range"),
+            @ApiResponse(responseCode = "409", description = "Flight log disabled")
+    })
+    public ResponseEntity<StreamingResponseBody> getRecords(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "10000") int limit) {
+        requireEnabled();
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Parameter 'limit' must be positive");
+        }
+        Instant end = validRange(from, to);
+        StreamingResponseBody body = out -> {
+            int[] remaining = {limit};
+            flightLogService.read(from, end, (recordedMicros, payload) -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(flightLogService.decode(payload)));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return --remaining[0] > 0;
+            });
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private void requireEnabled() {
+        if (!flightLogService.isEnabled()) {
+            throw new IllegalStateException("The telemetry flight log is disabled");
+        }
+    }
+
+    private static Instant validRange(Instant from, Instant to) {
+        Instant end = to != null ? to : Instant.now();
+        if (!from.isBefore(end)) {
+            throw new IllegalArgumentException("Time range start must be before its end");
+        }
+        return end;
+    }
+}
@@ -0,0 +1,83 @@
+package com.txt.backend.controller;
+
+import com.txt.backend.dto.ObstacleCatalogStatus;
+import com.txt.backend.dto.ObstacleRequest;
+import com.txt.backend.exception.ResourceNotFoundException;
+import com.txt.backend.obstacle.Obstacle;
+import com.txt.backend.service.ObstacleCatalogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Maintenance of the obstacle catalog warp paths are checked against.
+ */
+@RestController
+@RequestMapping("/api/obstacles")
+@Tag(name = "Obstacle Catalog", description = "Spherical obstacles checked along every warp path")
+public class ObstacleController {
+
+    private final ObstacleCatalogService obstacleCatalogService;
+
+    public ObstacleController(ObstacleCatalogService obstacleCatalogService) {
+        this.obstacleCatalogService = obstacleCatalogService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get Catalog Status", description = "Obstacle file and number of obstacles in the catalog")
+    public ResponseEntity<ObstacleCatalogStatus> getStatus() {
+        return ResponseEntity.ok(status());
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Put Obstacle", description = "Adds an obstacle or moves and resizes an existing one")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Obstacle stored"),
+            @ApiResponse(responseCode = "400", description = "Invalid position or radius")
+    })
+    public ResponseEntity<Obstacle> putObstacle(@PathVariable long id, @Valid @RequestBody ObstacleRequest request) {
+        Obstacle obstacle = new Obstacle(id, request.x(), request.y(), request.z(), request.radius());
+        obstacleCatalogService.put(obstacle);
+        return ResponseEntity.ok(obstacle);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Remove Obstacle", description = "Removes an obstacle from the catalog")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Obstacle removed"),
+            @ApiResponse(responseCode = "404", description = "Obstacle not found")
+    })
+    public ResponseEntity<Void> removeObstacle(@PathVariable long id) {
+        if (!obstacleCatalogService.remove(id)) {
+            throw new ResourceNotFoundException("Obstacle not found with id " + id);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/reload")
+    @Operation(summary = "Reload Obstacles", description = "Bulk-loads the obstacle file again, replacing the whole catalog")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Catalog reloaded"),
+            @ApiResponse(responseCode = "400", description = "Invalid obstacle file, previous catalog kept")
+    })
+    public ResponseEntity<ObstacleCatalogStatus> reload() {
+        obstacleCatalogService.reload();
+        return ResponseEntity.ok(status());
+    }
+
+    private ObstacleCatalogStatus status() {
+        return new ObstacleCatalogStatus(obstacleCatalogService.location(), obstacleCatalogService.loadedAt(),
+                obstacleCatalogService.size());
+    }
+}
@@ -0,0 +1,50 @@
+package com.txt.backend.controller;
+
+import com.txt.backend.dto.RuleSetStatus;
+import com.txt.backend.service.RuleEngineService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Inspection and hot reload of the telemetry threshold rules.
+ */
+@RestController
+@RequestMapping("/api/rules")
+@Tag(name = "Threshold Rules", description = "Alert thresholds applied to ship checks and streamed telemetry")
+public class RuleEngineController {
+
+    private final RuleEngineService ruleEngineService;
+
+    public RuleEngineController(RuleEngineService ruleEngineService) {
+        this.ruleEngineService = ruleEngineService;
+    }
+
+    @GetMapping
+    @Operation(summary = "List Active Rules", description = "Rules currently compiled into the decision table")
+    public ResponseEntity<RuleSetStatus> getRules() {
+        return ResponseEntity.ok(status());
+    }
+
+    @PostMapping("/reload")
+    @Operation(summary = "Reload Rules", description = "Reads the rules file again and swaps the new rules in without a restart")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rules reloaded"),
+            @ApiResponse(responseCode = "400", description = "Invalid rules file, previous rules kept")
+    })
+    public ResponseEntity<RuleSetStatus> reload() {
+        ruleEngineService.reload();
+        return ResponseEntity.ok(status());
+    }
+
+    private RuleSetStatus status() {
+        return new RuleSetStatus(ruleEngineService.location(), ruleEngineService.loadedAt(),
+                ruleEngineService.typeCount(), ruleEngineService.rules());
+    }
+}
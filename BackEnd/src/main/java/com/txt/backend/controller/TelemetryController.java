@@ -1,14 +1,28 @@
 package com.txt.backend.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.dto.TelemetryBatchResponse;
 import com.txt.backend.dto.TelemetryData;
+import com.txt.backend.ingest.IngestQueue.Admission;
 import com.txt.backend.service.AtmosphereService;
 import com.txt.backend.service.KafkaProducerService;
+import com.txt.backend.service.TelemetryIngestService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/telemetry")
@@ -17,25 +31,71 @@ public class TelemetryController {
 
     private final AtmosphereService atmosphereService;
     private final KafkaProducerService kafkaProducerService;
+    private final TelemetryIngestService ingestService;
+    private final ObjectMapper objectMapper;
+    private final int maxBatchRecords;
 
-    public TelemetryController(AtmosphereService atmosphereService, KafkaProducerService kafkaProducerService) {
+    public TelemetryController(AtmosphereService atmosphereService,
+                               KafkaProducerService kafkaProducerService,
+                               TelemetryIngestService ingestService,
+                               ObjectMapper objectMapper,
+                               @Value("${telemetry.kafka.batch.max-records:10000}") int maxBatchRecords) {
         this.atmosphereService = atmosphereService;
         this.kafkaProducerService = kafkaProducerService;
+        this.ingestService = ingestService;
+        this.objectMapper = objectMapper;
+        this.maxBatchRecords = maxBatchRecords;
     }
 
     /**
         * Sends raw telemetry data to the Kafka topic.
         * Useful for testing whether the message flow is working.
+        * The reading is queued and published in the background; a full queue answers 503.
      */
     @PostMapping("/kafka/send")
-        @Operation(summary = "Send Telemetry (Kafka)", description = "Sends a data packet to the Kafka topic 'spaceship.telemetry.v1'")
+        @Operation(summary = "Send Telemetry (Kafka)", description = "Queues a data packet for the Kafka topic 'spaceship.telemetry.v1'")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Reading queued (or skipped by sampling under load)"),
+            @ApiResponse(responseCode = "503", description = "Ingest queue full, retry later")
+    })
     public ResponseEntity<String> sendTelemetryToKafka(@RequestBody TelemetryData data) {
         if (data.getTimestamp() == null) {
             data.setTimestamp(LocalDateTime.now().toString());
         }
 
-        kafkaProducerService.sendTelemetry(data);
-        return ResponseEntity.ok("Telemetry sent to Kafka!");
+        Admission admission = ingestService.submit(data);
+        return ResponseEntity.accepted().body(admission == Admission.SAMPLED_OUT
+                ? "Telemetry skipped by load sampling."
+                : "Telemetry queued for Kafka!");
+    }
+
+    /**
+     * Sends many readings in one call (JSON array).
+     * Responds once Kafka has acknowledged or rejected every record.
+     */
+    @PostMapping(value = "/kafka/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Send Telemetry Batch (Kafka)", description = "Publishes a JSON array of readings through the batching producer and reports per-record failures")
+    public CompletableFuture<ResponseEntity<TelemetryBatchResponse>> sendTelemetryBatchToKafka(@RequestBody List<TelemetryData> batch) {
+        return publishBatch(batch);
+    }
+
+    /**
+     * Same as the JSON array variant, but reads newline-delimited JSON (one reading per line)
+     * so gateways can stream large batches without building an array.
+     */
+    @PostMapping(value = "/kafka/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Send Telemetry Batch (NDJSON)", description = "Publishes newline-delimited readings through the batching producer and reports per-record failures")
+    public CompletableFuture<ResponseEntity<TelemetryBatchResponse>> sendTelemetryNdjsonToKafka(InputStream body) throws IOException {
+        List<TelemetryData> batch = new ArrayList<>();
+        try (MappingIterator<TelemetryData> lines = objectMapper.readerFor(TelemetryData.class).readValues(body)) {
+            while (lines.hasNextValue()) {
+                batch.add(lines.nextValue());
+                if (batch.size() > maxBatchRecords) {
+                    break;
+                }
+            }
+        }
+        return publishBatch(batch);
     }
 
     /**
@@ -44,12 +104,34 @@ public class TelemetryController {
      */
     @PostMapping("/simulate/oxygen")
     @Operation(summary = "Inject Oxygen Reading", description = "Simulates a sensor reading. If the level is < 19.5%, triggers an alert in RabbitMQ.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reading processed"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent checks, retry later")
+    })
     public ResponseEntity<String> simulateOxygenLevel(@RequestParam double oxygenPercentage) {
         
         // Call the service logic.
         // If oxygen < 19.5, it will publish to RabbitMQ.
-        String status = atmosphereService.monitorOxygenLevel(oxygenPercentage, 0.04);
+        String status = ingestService.runCheck(() -> atmosphereService.monitorOxygenLevel(oxygenPercentage, 0.04));
         
         return ResponseEntity.ok("Sensor reading processed. System status: " + status);
     }
+
+    private CompletableFuture<ResponseEntity<TelemetryBatchResponse>> publishBatch(List<TelemetryData> batch) {
+        if (batch.isEmpty()) {
+            throw new IllegalArgumentException("Telemetry batch must contain at least one reading");
+        }
+        if (batch.size() > maxBatchRecords) {
+            throw new IllegalArgumentException("Telemetry batch exceeds the limit of " + maxBatchRecords + " readings");
+        }
+
+        String now = LocalDateTime.now().toString();
+        for (TelemetryData data : batch) {
+            if (data.getTimestamp() == null) {
+                data.setTimestamp(now);
+            }
+        }
+
+        return kafkaProducerService.sendTelemetryBatch(batch).thenApply(ResponseEntity::ok);
+    }
 }
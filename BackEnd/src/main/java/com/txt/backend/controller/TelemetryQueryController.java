@@ -0,0 +1,151 @@
+package com.txt.backend.controller;
+
+import com.txt.backend.aggregation.AggregateScope;
+import com.txt.backend.aggregation.WindowAggregate;
+import com.txt.backend.aggregation.WindowMode;
+import com.txt.backend.aggregation.WindowStatistics;
+import com.txt.backend.dto.TelemetryAggregate;
+import com.txt.backend.dto.TelemetryAggregatesResponse;
+import com.txt.backend.dto.TelemetrySample;
+import com.txt.backend.dto.TelemetrySeriesResponse;
+import com.txt.backend.exception.ResourceNotFoundException;
+import com.txt.backend.serialization.TelemetryTimestamps;
+import com.txt.backend.service.TelemetryAggregationService;
+import com.txt.backend.service.TelemetryStoreService;
+import com.txt.backend.timeseries.SensorRingBuffer;
+import com.txt.backend.timeseries.SeriesSnapshot;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Read side of the telemetry stream: recent history kept in memory per sensor and windowed aggregates.
+ */
+@RestController
+@RequestMapping("/api/telemetry")
+@Tag(name = "Telemetry History", description = "Query recent sensor readings consumed from Kafka")
+public class TelemetryQueryController {
+
+    private static final int DEFAULT_LIMIT = 1000;
+
+    private final TelemetryStoreService telemetryStoreService;
+    private final TelemetryAggregationService telemetryAggregationService;
+
+    public TelemetryQueryController(TelemetryStoreService telemetryStoreService,
+                                    TelemetryAggregationService telemetryAggregationService) {
+        this.telemetryStoreService = telemetryStoreService;
+        this.telemetryAggregationService = telemetryAggregationService;
+    }
+
+    /**
+     * Returns the newest samples of a sensor, or those inside a time window.
+     * Use either {@code last}, {@code windowSeconds} (e.g. 600 for the last 10 minutes) or {@code from}/{@code to}.
+     */
+    @GetMapping("/sensors/{sensorId}/samples")
+    @Operation(summary = "Get sensor samples", description = "Returns the last N samples or the samples in a time window for one sensor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Samples retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid query parameters"),
+            @ApiResponse(responseCode = "404", description = "No readings recorded for the sensor")
+    })
+    public ResponseEntity<TelemetrySeriesResponse> getSamples(
+            @PathVariable String sensorId,
+            @RequestParam(required = false) Integer last,
+            @RequestParam(required = false) Long windowSeconds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+
+        if (last != null && last <= 0) {
+            throw new IllegalArgumentException("Parameter 'last' must be positive");
+        }
+        SensorRingBuffer buffer = telemetryStoreService.series(sensorId)
+                .orElseThrow(() -> new ResourceNotFoundException("No telemetry recorded for sensor " + sensorId));
+
+        int limit = last != null ? last : DEFAULT_LIMIT;
+        SeriesSnapshot snapshot;
+        if (windowSeconds != null || from != null || to != null) {
+            Instant end = to != null ? to : Instant.now();
+            Instant start = from != null ? from : end.minusSeconds(windowSeconds != null ? windowSeconds : 600);
+            if (!start.isBefore(end)) {
+                throw new IllegalArgumentException("Time window start must be before its end");
+            }
+            snapshot = telemetryStoreService.samplesBetween(sensorId, start, end, limit).orElse(SeriesSnapshot.EMPTY);
+        } else {
+            snapshot = telemetryStoreService.lastSamples(sensorId, limit).orElse(SeriesSnapshot.EMPTY);
+        }
+
+        List<TelemetrySample> samples = new ArrayList<>(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            samples.add(new TelemetrySample(
+                    TelemetryTimestamps.toInstant(snapshot.timestampsMicros()[i]), snapshot.values()[i]));
+        }
+        return ResponseEntity.ok(new TelemetrySeriesResponse(sensorId, buffer.type(), buffer.unit(), samples.size(), samples));
+    }
+
+    /**
+     * Returns windowed statistics (count, min, max, mean, stddev, p50/p95/p99) per sensor or per type.
+     * Without {@code key}, every tracked key of the group is returned.
+     */
+    @GetMapping("/aggregates")
+    @Operation(summary = "Get windowed aggregates", description = "Returns tumbling or sliding window statistics per sensor or per telemetry type")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Aggregates retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid query parameters"),
+            @ApiResponse(responseCode = "404", description = "No readings aggregated for the key")
+    })
+    public ResponseEntity<List<TelemetryAggregatesResponse>> getAggregates(
+            @RequestParam(defaultValue = "sensor") String groupBy,
+            @RequestParam(required = false) String key,
+            @RequestParam(defaultValue = "sliding") String mode,
+            @RequestParam(defaultValue = "60") long windowSeconds,
+            @RequestParam(defaultValue = "1") int windows) {
+
+        AggregateScope scope = parse(AggregateScope.class, groupBy, "groupBy");
+        WindowMode windowMode = parse(WindowMode.class, mode, "mode");
+
+        List<String> keys = key != null ? List.of(key) : List.copyOf(telemetryAggregationService.keys(scope));
+        List<TelemetryAggregatesResponse> responses = new ArrayList<>(keys.size());
+        for (String k : keys) {
+            List<WindowAggregate> aggregates = telemetryAggregationService
+                    .aggregates(scope, k, windowMode, windowSeconds, windows)
+                    .orElseThrow(() -> new ResourceNotFoundException("No telemetry aggregated for " + groupBy + " " + k));
+            responses.add(new TelemetryAggregatesResponse(scope.name().toLowerCase(Locale.ROOT), k,
+                    windowMode.name().toLowerCase(Locale.ROOT), windowSeconds,
+                    aggregates.stream().map(TelemetryQueryController::toAggregate).toList()));
+        }
+        return ResponseEntity.ok(responses);
+    }
+
+    private static TelemetryAggregate toAggregate(WindowAggregate aggregate) {
+        WindowStatistics stats = aggregate.statistics();
+        boolean empty = stats.count() == 0;
+        return new TelemetryAggregate(
+                TelemetryTimestamps.toInstant(aggregate.startMicros()),
+                TelemetryTimestamps.toInstant(aggregate.endMicros()),
+                stats.count(),
+                empty ? null : stats.min(),
+                empty ? null : stats.max(),
+                empty ? null : stats.mean(),
+                empty ? null : stats.stddev(),
+                empty ? null : stats.quantile(0.50),
+                empty ? null : stats.quantile(0.95),
+                empty ? null : stats.quantile(0.99));
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String parameter) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for '" + parameter + "': " + value);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.txt.backend.controller;
+
+import com.txt.backend.dto.TelemetryReplayRequest;
+import com.txt.backend.dto.TelemetryReplayStatus;
+import com.txt.backend.exception.ResourceNotFoundException;
+import com.txt.backend.service.TelemetryReplayService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/telemetry/replay")
+@Tag(name = "Telemetry Replay", description = "Re-feed recorded telemetry through the processing pipeline")
+public class TelemetryReplayController {
+
+    private final TelemetryReplayService telemetryReplayService;
+
+    public TelemetryReplayController(TelemetryReplayService telemetryReplayService) {
+        this.telemetryReplayService = telemetryReplayService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Start Replay", description = "Replays the flight log, a frame file or a Kafka offset range at real time, Nx or max speed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Replay started"),
+            @ApiResponse(responseCode = "400", description = "Invalid replay parameters"),
+            @ApiResponse(responseCode = "404", description = "Replay file not found"),
+            @ApiResponse(responseCode = "409", description = "Another replay is running or the flight log is disabled")
+    })
+    public ResponseEntity<TelemetryReplayStatus> startReplay(@RequestBody TelemetryReplayRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(telemetryReplayService.start(request));
+    }
+
+    @GetMapping
+    @Operation(summary = "List Replays", description = "Latest replays with throughput and latency, newest first")
+    public ResponseEntity<List<TelemetryReplayStatus>> listReplays() {
+        return ResponseEntity.ok(telemetryReplayService.statuses());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get Replay Status", description = "Progress, throughput and batch latency of one replay")
+    public ResponseEntity<TelemetryReplayStatus> getReplay(@PathVariable String id) {
+        return ResponseEntity.ok(telemetryReplayService.status(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Replay not found: " + id)));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Cancel Replay", description = "Stops a running replay after the current batch")
+    public ResponseEntity<TelemetryReplayStatus> cancelReplay(@PathVariable String id) {
+        return ResponseEntity.ok(telemetryReplayService.cancel(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Replay not found: " + id)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.txt.backend.controller;
+
+import com.txt.backend.service.TelemetryStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/telemetry")
+@Tag(name = "Telemetry Live Stream", description = "Server-sent events with readings as they are consumed")
+public class TelemetryStreamController {
+
+    private final TelemetryStreamService telemetryStreamService;
+
+    public TelemetryStreamController(TelemetryStreamService telemetryStreamService) {
+        this.telemetryStreamService = telemetryStreamService;
+    }
+
+    /**
+     * Streams {@code telemetry} events whose data is a {@code TelemetryData} JSON object.
+     * A slow client receives the latest value of each sensor rather than every intermediate reading.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream Live Telemetry", description = "Pushes consumed readings, optionally filtered by sensor ids and types (comma separated)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "409", description = "Subscriber limit reached")
+    })
+    public SseEmitter stream(@RequestParam(required = false) List<String> sensorId,
+                             @RequestParam(required = false) List<String> type) {
+        return telemetryStreamService.subscribe(
+                sensorId != null ? Set.copyOf(sensorId) : Set.of(),
+                type != null ? Set.copyOf(type) : Set.of());
+    }
+}
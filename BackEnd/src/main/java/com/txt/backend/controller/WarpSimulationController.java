@@ -1,37 +1,141 @@
 package com.txt.backend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.cache.WarpCacheMode;
+import com.txt.backend.dto.WarpSimulationBatchRequest;
 import com.txt.backend.dto.WarpSimulationRequest;
+import com.txt.backend.dto.WarpTrajectoryRequest;
+import com.txt.backend.dto.WarpTrajectorySample;
 import com.txt.backend.dto.warpSimulationResponse;
 import com.txt.backend.mapper.WarpSimulationMapper;
 import com.txt.backend.model.WarpSimulation;
+import com.txt.backend.service.WarpBatchService;
 import com.txt.backend.service.WarpSimulationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/warp")
 public class WarpSimulationController {
 
+    static final String SIMULATION_ID_HEADER = "X-Simulation-Id";
+
     private final WarpSimulationService warpSimulationService;
+    private final WarpBatchService warpBatchService;
+    private final ObjectMapper objectMapper;
 
-    public WarpSimulationController(WarpSimulationService warpSimulationService) {
+    public WarpSimulationController(WarpSimulationService warpSimulationService, WarpBatchService warpBatchService,
+                                    ObjectMapper objectMapper) {
         this.warpSimulationService = warpSimulationService;
+        this.warpBatchService = warpBatchService;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * Simulates one jump, answering repeated requests for the same (quantized) jump from the cache. With
+     * {@code mode=COMPUTE_ONLY} nothing is stored; the default stores each distinct jump once.
+     */
     @PostMapping("/simulate")
-    public ResponseEntity<warpSimulationResponse> simulateWarp(@Valid @RequestBody WarpSimulationRequest request) {
-        WarpSimulation simulation = warpSimulationService.simulateWarp(
-                request.initialX(),
-                request.initialY(),
-                request.initialZ(),
-                request.finalX(),
-                request.finalY(),
-                request.finalZ(),
-                request.bubbleVelocity()
-        );
-        return ResponseEntity.ok(WarpSimulationMapper.toResponse(simulation));
+    public ResponseEntity<warpSimulationResponse> simulateWarp(@Valid @RequestBody WarpSimulationRequest request,
+                                                               @RequestParam(required = false) WarpCacheMode mode) {
+        return ResponseEntity.ok(warpSimulationService.simulate(request, mode));
+    }
+
+    /**
+     * Simulates many jumps in parallel and streams one result per jump as newline-delimited JSON, in the order
+     * they finish; {@code index} ties each result to its position in the request.
+     */
+    @PostMapping(value = "/simulate/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Simulate Warp Batch", description = "Computes many warp jumps in parallel, stores them with batched inserts and streams the results as they finish")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Results streamed; failed jumps carry an error"),
+            @ApiResponse(responseCode = "400", description = "Invalid jump or batch too large")
+    })
+    public ResponseEntity<StreamingResponseBody> simulateBatch(@Valid @RequestBody WarpSimulationBatchRequest request) {
+        warpBatchService.checkSize(request.simulations().size());
+        StreamingResponseBody body = out -> {
+            BufferedOutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+            warpBatchService.simulate(request.simulations(), result -> {
+                try {
+                    buffered.write(objectMapper.writeValueAsBytes(result));
+                    buffered.write('\n');
+                    buffered.flush(); // each committed result goes out without waiting for the rest
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Simulates the jump step by step and streams the sampled steps as newline-delimited JSON. The summary row
+     * is stored before streaming starts; its id is in the {@value #SIMULATION_ID_HEADER} header.
+     */
+    @PostMapping(value = "/simulate/trajectory", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream Warp Trajectory", description = "Simulates START, CRUISE and END step by step and streams position, velocity and energy draw per sample")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Samples streamed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request or too many steps")
+    })
+    public ResponseEntity<StreamingResponseBody> streamTrajectory(@Valid @RequestBody WarpTrajectoryRequest request) {
+        WarpSimulationService.Trajectory trajectory = warpSimulationService.simulateTrajectory(request);
+        StreamingResponseBody body = out -> {
+            BufferedOutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+            trajectory.simulator().run((time, x, y, z, velocity, phase, energyDraw) -> {
+                buffered.write(objectMapper.writeValueAsBytes(
+                        new WarpTrajectorySample(time, x, y, z, velocity, phase, energyDraw)));
+                buffered.write('\n');
+            });
+            buffered.flush();
+        };
+        return ResponseEntity.ok()
+                .header(SIMULATION_ID_HEADER, String.valueOf(trajectory.simulation().getId()))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Same samples as {@link #streamTrajectory} in fixed 49-byte big-endian frames:
+     * {@code [double time][double x][double y][double z][double velocity][double energyDraw][byte phase]},
+     * where phase is the {@link com.txt.backend.warp.WarpPhase} ordinal.
+     */
+    @PostMapping(value = "/simulate/trajectory", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Download Binary Warp Trajectory", description = "Same samples as the NDJSON stream, as fixed-size binary frames")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Frames streamed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request or too many steps")
+    })
+    public ResponseEntity<StreamingResponseBody> streamTrajectoryBinary(@Valid @RequestBody WarpTrajectoryRequest request) {
+        WarpSimulationService.Trajectory trajectory = warpSimulationService.simulateTrajectory(request);
+        StreamingResponseBody body = out -> {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+            trajectory.simulator().run((time, x, y, z, velocity, phase, energyDraw) -> {
+                data.writeDouble(time);
+                data.writeDouble(x);
+                data.writeDouble(y);
+                data.writeDouble(z);
+                data.writeDouble(velocity);
+                data.writeDouble(energyDraw);
+                data.writeByte(phase.ordinal());
+            });
+            data.flush();
+        };
+        return ResponseEntity.ok()
+                .header(SIMULATION_ID_HEADER, String.valueOf(trajectory.simulation().getId()))
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(body);
     }
 
     @GetMapping("/{id}")
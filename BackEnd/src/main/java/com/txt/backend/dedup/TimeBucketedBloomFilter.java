@@ -0,0 +1,107 @@
+package com.txt.backend.dedup;
+
+import java.util.Arrays;
+
+/**
+ * Remembers which (sensorId, timestamp) keys were seen during a sliding window of reading time,
+ * with a bounded false-positive rate and fixed memory.
+ *
+ * The window is split into {@code buckets} Bloom filters of {@code bucketMicros} each. A key only ever goes
+ * to the filter of the bucket its timestamp falls in, so a lookup probes a single filter; when newer
+ * readings move the window forward, the slot of the oldest bucket is cleared and reused.
+ * False negatives are impossible inside the window; keys older than the window cannot be checked.
+ */
+public final class TimeBucketedBloomFilter {
+
+    public enum Outcome {
+        /** First time the key was seen (or a false negative of the caller's own window). */
+        NEW,
+        /** The key was probably seen before; wrong with probability close to the configured rate. */
+        DUPLICATE,
+        /** The timestamp is older than the window; the key was neither checked nor recorded. */
+        OUT_OF_WINDOW
+    }
+
+    private final long bucketMicros;
+    private final long[][] bits;
+    private final long[] slotBucket;
+    private final long bitCount;
+    private final int hashCount;
+    private long newestBucket = Long.MIN_VALUE;
+
+    /**
+     * @param expectedPerBucket keys one bucket is sized for; beyond it the false-positive rate degrades gradually.
+     * @param falsePositiveRate target probability that a new key is reported as a duplicate.
+     */
+    public TimeBucketedBloomFilter(long bucketMicros, int buckets, long expectedPerBucket, double falsePositiveRate) {
+        if (bucketMicros <= 0 || buckets <= 0 || expectedPerBucket <= 0) {
+            throw new IllegalArgumentException("Bucket length, bucket count and expected keys must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1");
+        }
+        // Optimal Bloom filter size and hash count: m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long optimalBits = (long) Math.ceil(-expectedPerBucket * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE / 64, (optimalBits + 63) / 64);
+        this.bitCount = words * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedPerBucket * Math.log(2)));
+        this.bucketMicros = bucketMicros;
+        this.bits = new long[buckets][words];
+        this.slotBucket = new long[buckets];
+        Arrays.fill(slotBucket, Long.MIN_VALUE);
+    }
+
+    /** Records the key and reports whether it had been seen before. Allocation-free. */
+    public synchronized Outcome checkAndPut(String sensorId, long timestampMicros) {
+        long bucket = Math.floorDiv(timestampMicros, bucketMicros);
+        int buckets = slotBucket.length;
+        if (bucket > newestBucket) {
+            newestBucket = bucket;
+        } else if (bucket <= newestBucket - buckets) {
+            return Outcome.OUT_OF_WINDOW;
+        }
+        int slot = (int) Math.floorMod(bucket, (long) buckets);
+        long[] filter = bits[slot];
+        if (slotBucket[slot] != bucket) {
+            // Whatever the slot held is at least one window older than this key
+            Arrays.fill(filter, 0L);
+            slotBucket[slot] = bucket;
+        }
+
+        // Kirsch-Mitzenmacher: k probes derived from two 64-bit hashes
+        long h1 = mix(sensorId.hashCode() * 0x9E3779B97F4A7C15L ^ timestampMicros);
+        long h2 = mix(h1 ^ 0xC2B2AE3D27D4EB4FL) | 1;
+        boolean seen = true;
+        long h = h1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((h >>> 32) * bitCount) >>> 32; // maps the top 32 bits onto [0, bitCount)
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            if ((filter[word] & mask) == 0) {
+                seen = false;
+                filter[word] |= mask;
+            }
+            h += h2;
+        }
+        return seen ? Outcome.DUPLICATE : Outcome.NEW;
+    }
+
+    public long memoryBytes() {
+        return (long) bits.length * bits[0].length * Long.BYTES;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public long windowMicros() {
+        return bucketMicros * slotBucket.length;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,14 @@
+package com.txt.backend.dto;
+
+import com.txt.backend.model.AlertHistory;
+
+import java.util.List;
+
+/**
+ * One page of alerts, newest first. {@code nextCursor} is null on the last page.
+ */
+public record AlertHistoryPage(
+        List<AlertHistory> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,14 @@
+package com.txt.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters for the alert history; null fields do not filter. {@code from} is inclusive, {@code to} exclusive.
+ */
+public record AlertHistoryQuery(
+        String severity,
+        String systemSource,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+}
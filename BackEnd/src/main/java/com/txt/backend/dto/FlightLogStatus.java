@@ -0,0 +1,8 @@
+package com.txt.backend.dto;
+
+public record FlightLogStatus(
+        int segments,
+        long sizeBytes,
+        long recordedTotal
+) {
+}
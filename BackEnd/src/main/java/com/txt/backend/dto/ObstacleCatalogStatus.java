@@ -0,0 +1,10 @@
+package com.txt.backend.dto;
+
+import java.time.Instant;
+
+public record ObstacleCatalogStatus(
+        String location,
+        Instant loadedAt,
+        int obstacles
+) {
+}
@@ -0,0 +1,20 @@
+package com.txt.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record ObstacleRequest(
+        @NotNull(message = "X coordinate is required")
+        Double x,
+
+        @NotNull(message = "Y coordinate is required")
+        Double y,
+
+        @NotNull(message = "Z coordinate is required")
+        Double z,
+
+        @NotNull(message = "Radius is required")
+        @PositiveOrZero(message = "Radius must not be negative")
+        Double radius
+) {
+}
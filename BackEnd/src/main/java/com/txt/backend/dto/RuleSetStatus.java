@@ -0,0 +1,14 @@
+package com.txt.backend.dto;
+
+import com.txt.backend.rules.ThresholdRule;
+
+import java.time.Instant;
+import java.util.List;
+
+public record RuleSetStatus(
+        String location,
+        Instant loadedAt,
+        int types,
+        List<ThresholdRule> rules
+) {
+}
@@ -15,4 +15,7 @@ public class SystemAlert {
     private String severity;
     private String message;
     private LocalDateTime timestamp;
+    private Double value;        // reading that raised the alert, when there is one
+    private Double threshold;    // threshold the reading crossed
+    private Integer occurrences; // readings coalesced into this alert; null means 1
 }
@@ -0,0 +1,20 @@
+package com.txt.backend.dto;
+
+import java.time.Instant;
+
+/**
+ * Statistics of one window; the numeric fields are null when the window had no readings.
+ */
+public record TelemetryAggregate(
+        Instant windowStart,
+        Instant windowEnd,
+        long count,
+        Double min,
+        Double max,
+        Double mean,
+        Double stddev,
+        Double p50,
+        Double p95,
+        Double p99
+) {
+}
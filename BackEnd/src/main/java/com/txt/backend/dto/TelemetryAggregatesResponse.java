@@ -0,0 +1,12 @@
+package com.txt.backend.dto;
+
+import java.util.List;
+
+public record TelemetryAggregatesResponse(
+        String groupBy,
+        String key,
+        String mode,
+        long windowSeconds,
+        List<TelemetryAggregate> windows
+) {
+}
@@ -0,0 +1,11 @@
+package com.txt.backend.dto;
+
+import java.util.List;
+
+public record TelemetryBatchResponse(
+        int received,
+        int published,
+        int failed,
+        List<TelemetryRecordFailure> failures
+) {
+}
@@ -0,0 +1,8 @@
+package com.txt.backend.dto;
+
+public record TelemetryRecordFailure(
+        int index,
+        String sensorId,
+        String error
+) {
+}
@@ -0,0 +1,25 @@
+package com.txt.backend.dto;
+
+import java.time.Instant;
+
+/**
+ * Replay parameters. {@code source} selects which fields apply:
+ * <ul>
+ *   <li>{@code flight-log}: {@code from} / {@code to} (recording time, {@code to} defaults to now)</li>
+ *   <li>{@code file}: {@code file}, a frame dump inside the replay directory</li>
+ *   <li>{@code kafka}: {@code partition}, {@code fromOffset} and {@code toOffset} (exclusive, defaults to the end)</li>
+ * </ul>
+ * {@code speed} is {@code realtime}, a multiplier such as {@code 10x}, or {@code max} (default).
+ */
+public record TelemetryReplayRequest(
+        String source,
+        Instant from,
+        Instant to,
+        String file,
+        Integer partition,
+        Long fromOffset,
+        Long toOffset,
+        String speed,
+        Integer batchSize
+) {
+}
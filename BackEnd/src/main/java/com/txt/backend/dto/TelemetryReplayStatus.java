@@ -0,0 +1,20 @@
+package com.txt.backend.dto;
+
+import java.time.Instant;
+
+public record TelemetryReplayStatus(
+        String id,
+        String source,
+        String speed,
+        String state,
+        Instant startedAt,
+        long records,
+        long batches,
+        double elapsedSeconds,
+        double recordsPerSecond,
+        Double latencyP50Ms,
+        Double latencyP99Ms,
+        Double latencyMaxMs,
+        String error
+) {
+}
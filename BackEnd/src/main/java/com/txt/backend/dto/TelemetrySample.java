@@ -0,0 +1,9 @@
+package com.txt.backend.dto;
+
+import java.time.Instant;
+
+public record TelemetrySample(
+        Instant timestamp,
+        double value
+) {
+}
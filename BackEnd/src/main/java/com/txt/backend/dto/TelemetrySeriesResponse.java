@@ -0,0 +1,12 @@
+package com.txt.backend.dto;
+
+import java.util.List;
+
+public record TelemetrySeriesResponse(
+        String sensorId,
+        String type,
+        String unit,
+        int count,
+        List<TelemetrySample> samples
+) {
+}
@@ -0,0 +1,13 @@
+package com.txt.backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record WarpSimulationBatchRequest(
+        @NotEmpty(message = "At least one simulation is required")
+        List<@Valid @NotNull WarpSimulationRequest> simulations
+) {
+}
@@ -0,0 +1,12 @@
+package com.txt.backend.dto;
+
+/**
+ * Outcome of one simulation of a batch: {@code index} is its position in the request, and exactly one of
+ * {@code simulation} and {@code error} is set.
+ */
+public record WarpSimulationBatchResult(
+        int index,
+        warpSimulationResponse simulation,
+        String error
+) {
+}
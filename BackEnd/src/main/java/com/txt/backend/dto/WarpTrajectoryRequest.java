@@ -0,0 +1,46 @@
+package com.txt.backend.dto;
+
+import com.txt.backend.warp.AccelerationProfile;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * A warp jump to simulate step by step. Acceleration, profile and time step default to the
+ * {@code warp.trajectory.*} settings; {@code sampleEvery} keeps only every n-th step.
+ */
+public record WarpTrajectoryRequest(
+        @NotNull(message = "Initial X coordinate is required")
+        Double initialX,
+
+        @NotNull(message = "Initial Y coordinate is required")
+        Double initialY,
+
+        @NotNull(message = "Initial Z coordinate is required")
+        Double initialZ,
+
+        @NotNull(message = "Final X coordinate is required")
+        Double finalX,
+
+        @NotNull(message = "Final Y coordinate is required")
+        Double finalY,
+
+        @NotNull(message = "Final Z coordinate is required")
+        Double finalZ,
+
+        @NotNull(message = "Bubble velocity is required")
+        @Min(value = 1, message = "Bubble velocity must be positive")
+        Double bubbleVelocity,
+
+        @Positive(message = "Acceleration must be positive")
+        Double acceleration,
+
+        AccelerationProfile profile,
+
+        @Positive(message = "Time step must be positive")
+        Double timeStep,
+
+        @Min(value = 1, message = "Sample interval must be at least 1")
+        Integer sampleEvery
+) {
+}
@@ -0,0 +1,15 @@
+package com.txt.backend.dto;
+
+import com.txt.backend.warp.WarpPhase;
+
+/** One sampled step of a warp trajectory; {@code energyDraw} is joules drawn since the previous sample. */
+public record WarpTrajectorySample(
+        double time,
+        double x,
+        double y,
+        double z,
+        double velocity,
+        WarpPhase phase,
+        double energyDraw
+) {
+}
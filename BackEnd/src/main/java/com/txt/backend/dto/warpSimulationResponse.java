@@ -13,6 +13,10 @@ public record warpSimulationResponse(
         double energyRequired,
         String warpPhase,
         boolean obstaclesDetected,
-        double travelTime
+        double travelTime,
+        Long obstacleId,
+        Double contactX,
+        Double contactY,
+        Double contactZ
 ) {
 }
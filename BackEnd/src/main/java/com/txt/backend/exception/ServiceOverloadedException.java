@@ -0,0 +1,18 @@
+package com.txt.backend.exception;
+
+/**
+ * Thrown when work is shed under load; mapped to 503 with a Retry-After hint.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
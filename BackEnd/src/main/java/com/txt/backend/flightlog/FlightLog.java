@@ -0,0 +1,250 @@
+package com.txt.backend.flightlog;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of opaque records on memory-mapped segment files, indexed by append time.
+ *
+ * Appends are serialized by the log; reads run concurrently against the committed prefix of each segment.
+ * The active segment rolls when full, and sealed segments are deleted oldest first once the log is
+ * over {@code retentionBytes} or their newest record is older than {@code retentionMicros}.
+ * The active segment is never deleted.
+ */
+public final class FlightLog implements Closeable {
+
+    static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int indexIntervalBytes;
+    private final long retentionBytes;
+    private final long retentionMicros;
+
+    // Oldest first; the last element is the active segment
+    private final List<LogSegment> segments = new CopyOnWriteArrayList<>();
+    private long nextOffset;
+    private long lastAppendMicros = Long.MIN_VALUE;
+
+    public FlightLog(Path directory, int segmentBytes, int indexIntervalBytes,
+                     long retentionBytes, long retentionMicros) throws IOException {
+        if (segmentBytes <= LogSegment.HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size must be larger than a record header");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.indexIntervalBytes = indexIntervalBytes;
+        this.retentionBytes = retentionBytes;
+        this.retentionMicros = retentionMicros;
+        Files.createDirectories(directory);
+        load();
+    }
+
+    /**
+     * Appends records that share one append time. Timestamps are clamped to be non-decreasing,
+     * so a clock step backwards cannot break the time index.
+     *
+     * @return the append time actually written.
+     */
+    public synchronized long append(long appendMicros, List<byte[]> payloads) throws IOException {
+        long micros = Math.max(appendMicros, lastAppendMicros);
+        for (byte[] payload : payloads) {
+            if (LogSegment.HEADER_BYTES + payload.length > segmentBytes) {
+                throw new IllegalArgumentException("Record of " + payload.length + " bytes does not fit in a segment");
+            }
+            if (!active().append(micros, payload)) {
+                roll();
+                active().append(micros, payload);
+            }
+            nextOffset++;
+        }
+        lastAppendMicros = micros;
+        return micros;
+    }
+
+    /** Flushes the active segment to disk (sealed segments are flushed when they roll). */
+    public synchronized void force() {
+        active().force();
+    }
+
+    /** Deletes sealed segments beyond the size or age limit; returns how many were removed. */
+    public synchronized int enforceRetention(long nowMicros) throws IOException {
+        int removed = 0;
+        while (segments.size() > 1) {
+            LogSegment oldest = segments.get(0);
+            boolean tooBig = sizeBytes() > retentionBytes;
+            boolean tooOld = oldest.lastMicros() < nowMicros - retentionMicros;
+            if (!tooBig && !tooOld) {
+                break;
+            }
+            segments.remove(0);
+            oldest.delete();
+            removed++;
+        }
+        return removed;
+    }
+
+    /**
+     * Streams the raw frames appended in {@code [fromMicros, toMicros)} to {@code target} with
+     * {@code FileChannel.transferTo}, one contiguous byte range per segment, without copying through the heap.
+     *
+     * @return bytes transferred.
+     */
+    public long transferTo(long fromMicros, long toMicros, WritableByteChannel target) throws IOException {
+        long transferred = 0;
+        for (LogSegment segment : segments) {
+            if (!overlaps(segment, fromMicros, toMicros)) {
+                continue;
+            }
+            LogSegment.View view = segment.view();
+            if (view == null) {
+                continue;
+            }
+            try (view) {
+                long start = segment.positionOf(view.data(), fromMicros);
+                long end = segment.positionOf(view.data(), toMicros);
+                while (start < end) {
+                    long sent = view.channel().transferTo(start, end - start, target);
+                    start += sent;
+                    transferred += sent;
+                }
+            }
+        }
+        return transferred;
+    }
+
+    /** Visits the records appended in {@code [fromMicros, toMicros)}, oldest first, until the visitor returns false. */
+    public void read(long fromMicros, long toMicros, RecordVisitor visitor) throws IOException {
+        for (LogSegment segment : segments) {
+            if (!overlaps(segment, fromMicros, toMicros)) {
+                continue;
+            }
+            LogSegment.View view = segment.view();
+            if (view == null) {
+                continue;
+            }
+            try (view) {
+                ByteBuffer data = view.data();
+                int position = segment.positionOf(data, fromMicros);
+                while (position < data.limit()) {
+                    long micros = data.getLong(position + 8);
+                    if (micros >= toMicros) {
+                        return;
+                    }
+                    byte[] payload = new byte[data.getInt(position)];
+                    data.get(position + LogSegment.HEADER_BYTES, payload);
+                    if (!visitor.visit(micros, payload)) {
+                        return;
+                    }
+                    position += LogSegment.HEADER_BYTES + payload.length;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads frames in the on-disk format from a stream, e.g. a range exported with {@link #transferTo}.
+     *
+     * @throws IOException if a frame is truncated or fails its checksum.
+     */
+    public static void readFrames(InputStream in, RecordVisitor visitor) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        CRC32C crc = new CRC32C();
+        while (true) {
+            int length;
+            try {
+                length = data.readInt();
+            } catch (EOFException e) {
+                return;
+            }
+            int checksum = data.readInt();
+            long micros = data.readLong();
+            if (length <= 0) {
+                throw new IOException("Invalid flight log frame length " + length);
+            }
+            byte[] payload = new byte[length];
+            data.readFully(payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Flight log frame recorded at " + micros + " failed its checksum");
+            }
+            if (!visitor.visit(micros, payload)) {
+                return;
+            }
+        }
+    }
+
+    public long sizeBytes() {
+        long total = 0;
+        for (LogSegment segment : segments) {
+            total += segment.size();
+        }
+        return total;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /** Total records appended since the log was created (including deleted segments). */
+    public synchronized long nextOffset() {
+        return nextOffset;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (LogSegment segment : segments) {
+            segment.seal();
+        }
+    }
+
+    private LogSegment active() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private void roll() throws IOException {
+        active().seal();
+        segments.add(LogSegment.create(directory, nextOffset, segmentBytes, indexIntervalBytes));
+    }
+
+    private static boolean overlaps(LogSegment segment, long fromMicros, long toMicros) {
+        return !segment.isEmpty() && segment.firstMicros() < toMicros && segment.lastMicros() >= fromMicros;
+    }
+
+    private void load() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            boolean last = i == files.size() - 1;
+            LogSegment segment = LogSegment.open(files.get(i), last ? segmentBytes : 0, indexIntervalBytes);
+            segments.add(segment);
+            nextOffset = segment.baseOffset() + segment.records();
+            if (!segment.isEmpty()) {
+                lastAppendMicros = Math.max(lastAppendMicros, segment.lastMicros());
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.add(LogSegment.create(directory, 0, segmentBytes, indexIntervalBytes));
+        }
+    }
+
+    @FunctionalInterface
+    public interface RecordVisitor {
+        /** @return false to stop reading. */
+        boolean visit(long appendMicros, byte[] payload);
+    }
+}
@@ -0,0 +1,268 @@
+package com.txt.backend.flightlog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * One file of the flight log: a sequence of frames {@code [int length][int crc32c][long appendMicros][payload]}.
+ *
+ * The active segment is written through a {@link MappedByteBuffer} covering the whole preallocated file;
+ * sealing it drops the mapping and truncates the file to the bytes actually written. A sparse index keeps
+ * one (timestamp, position) entry every {@code indexIntervalBytes}, so a time lookup scans at most one
+ * interval. The index is rebuilt by scanning the file when the log is reopened.
+ */
+final class LogSegment {
+
+    static final int HEADER_BYTES = 16;
+
+    private final Path file;
+    private final long baseOffset;
+    private final int indexIntervalBytes;
+
+    private FileChannel channel;         // write side, null once sealed
+    private MappedByteBuffer buffer;     // write side, null once sealed
+    private volatile int size;           // committed bytes; readers never look past it
+    private volatile long firstMicros = Long.MIN_VALUE;
+    private volatile long lastMicros = Long.MIN_VALUE;
+    private long records;
+
+    private long[] indexMicros = new long[64];
+    private int[] indexPositions = new int[64];
+    private int indexEntries;
+    private int lastIndexedPosition = -1;
+
+    private LogSegment(Path file, long baseOffset, int indexIntervalBytes) {
+        this.file = file;
+        this.baseOffset = baseOffset;
+        this.indexIntervalBytes = indexIntervalBytes;
+    }
+
+    /** Creates and maps a new active segment of {@code capacity} bytes. */
+    static LogSegment create(Path directory, long baseOffset, int capacity, int indexIntervalBytes) throws IOException {
+        LogSegment segment = new LogSegment(directory.resolve(fileName(baseOffset)), baseOffset, indexIntervalBytes);
+        segment.map(capacity);
+        return segment;
+    }
+
+    /**
+     * Reopens an existing segment, keeping the valid prefix of frames (a torn or corrupt tail is cut off).
+     * The segment is mapped for writing when {@code activeCapacity > 0}, otherwise it is sealed.
+     */
+    static LogSegment open(Path file, int activeCapacity, int indexIntervalBytes) throws IOException {
+        String name = file.getFileName().toString();
+        long baseOffset = Long.parseLong(name.substring(0, name.length() - FlightLog.SEGMENT_SUFFIX.length()));
+        LogSegment segment = new LogSegment(file, baseOffset, indexIntervalBytes);
+        segment.recover();
+        if (activeCapacity > 0) {
+            segment.map(Math.max(activeCapacity, segment.size));
+        } else {
+            try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                if (ch.size() > segment.size) {
+                    ch.truncate(segment.size);
+                }
+            }
+        }
+        return segment;
+    }
+
+    static String fileName(long baseOffset) {
+        return String.format("%020d%s", baseOffset, FlightLog.SEGMENT_SUFFIX);
+    }
+
+    /** Writes one frame; returns false (writing nothing) if the segment has no room left for it. */
+    boolean append(long appendMicros, byte[] payload) {
+        int position = size;
+        int frameBytes = HEADER_BYTES + payload.length;
+        if (position + frameBytes > buffer.capacity()) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        buffer.putInt(position, payload.length);
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.putLong(position + 8, appendMicros);
+        buffer.put(position + HEADER_BYTES, payload);
+        index(appendMicros, position);
+        records++;
+        if (firstMicros == Long.MIN_VALUE) {
+            firstMicros = appendMicros;
+        }
+        lastMicros = appendMicros;
+        size = position + frameBytes;
+        return true;
+    }
+
+    /** Flushes dirty pages of the mapping to disk. */
+    void force() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Stops writing: flushes the mapping, drops every reference to it and closes the write channel, then
+     * truncates the file to its committed size through a fresh channel. Java 17 cannot unmap a buffer on demand;
+     * its pages are released once the dropped buffer is garbage collected. Nothing touches the write mapping
+     * after this, and read views only map committed bytes, so no mapping ever reaches past the new end of file.
+     */
+    void seal() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        buffer.force();
+        buffer = null;
+        channel.close();
+        channel = null;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ch.truncate(size);
+        }
+    }
+
+    void delete() throws IOException {
+        seal();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Opens a read-only view of the committed bytes, or returns null if the segment was deleted meanwhile.
+     * Reads use their own channel, so a concurrent roll or retention never closes it under them.
+     */
+    View view() throws IOException {
+        int committed = size;
+        try {
+            FileChannel readChannel = FileChannel.open(file, StandardOpenOption.READ);
+            return new View(readChannel, readChannel.map(FileChannel.MapMode.READ_ONLY, 0, committed));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /** Position of the first frame with {@code appendMicros >= micros}, or the committed size if none. */
+    int positionOf(ByteBuffer data, long micros) {
+        int position = indexFloor(micros);
+        while (position < data.limit()) {
+            if (data.getLong(position + 8) >= micros) {
+                return position;
+            }
+            position += HEADER_BYTES + data.getInt(position);
+        }
+        return data.limit();
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    long records() {
+        return records;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long firstMicros() {
+        return firstMicros;
+    }
+
+    long lastMicros() {
+        return lastMicros;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    private void map(int capacity) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    private void recover() throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = ch.size();
+            if (fileSize == 0) {
+                return;
+            }
+            ByteBuffer data = ch.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            int position = 0;
+            CRC32C crc = new CRC32C();
+            byte[] payload = new byte[256];
+            while (position + HEADER_BYTES <= fileSize) {
+                int length = data.getInt(position);
+                if (length <= 0 || position + HEADER_BYTES + (long) length > fileSize) {
+                    break;
+                }
+                if (payload.length < length) {
+                    payload = new byte[length];
+                }
+                data.get(position + HEADER_BYTES, payload, 0, length);
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != data.getInt(position + 4)) {
+                    break;
+                }
+                long micros = data.getLong(position + 8);
+                index(micros, position);
+                records++;
+                if (firstMicros == Long.MIN_VALUE) {
+                    firstMicros = micros;
+                }
+                lastMicros = micros;
+                position += HEADER_BYTES + length;
+            }
+            size = position;
+        }
+    }
+
+    private synchronized void index(long micros, int position) {
+        if (lastIndexedPosition >= 0 && position - lastIndexedPosition < indexIntervalBytes) {
+            return;
+        }
+        if (indexEntries == indexMicros.length) {
+            indexMicros = Arrays.copyOf(indexMicros, indexEntries * 2);
+            indexPositions = Arrays.copyOf(indexPositions, indexEntries * 2);
+        }
+        indexMicros[indexEntries] = micros;
+        indexPositions[indexEntries] = position;
+        indexEntries++;
+        lastIndexedPosition = position;
+    }
+
+    // Position of the last indexed frame strictly before micros (frames with equal timestamps may precede it)
+    private synchronized int indexFloor(long micros) {
+        int low = 0;
+        int high = indexEntries - 1;
+        int found = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (indexMicros[mid] < micros) {
+                found = indexPositions[mid];
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    /** Read-only mapping of a segment's committed bytes plus the channel used for zero-copy transfers. */
+    record View(FileChannel channel, ByteBuffer data) implements AutoCloseable {
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
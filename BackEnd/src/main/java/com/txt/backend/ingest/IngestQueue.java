@@ -0,0 +1,159 @@
+package com.txt.backend.ingest;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded two-lane queue between request threads and the thread that publishes to Kafka.
+ *
+ * Both lanes share one capacity. Offers never block: when the queue is full a priority item displaces
+ * the oldest normal item, so priority items are only shed once no normal item is left; normal items
+ * are shed according to the {@link OverflowPolicy}. Consumers always drain the priority lane first.
+ */
+public final class IngestQueue<T> {
+
+    public enum Lane { PRIORITY, NORMAL }
+
+    public enum ShedReason {
+        /** Refused at the door. */
+        REJECTED,
+        /** Accepted earlier and displaced by a newer or higher-priority item. */
+        DROPPED,
+        /** Skipped by sampling. */
+        SAMPLED
+    }
+
+    public enum Admission { ACCEPTED, SAMPLED_OUT, REJECTED }
+
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final int sampleEvery;
+    private final ArrayDeque<T> priority = new ArrayDeque<>();
+    private final ArrayDeque<T> normal = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final LongAdder[] shed = new LongAdder[Lane.values().length * ShedReason.values().length];
+    private long sampleCounter;
+
+    /**
+     * @param sampleEvery with {@link OverflowPolicy#SAMPLE}, one in this many normal items is kept past half capacity.
+     */
+    public IngestQueue(int capacity, OverflowPolicy policy, int sampleEvery) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ingest queue capacity must be positive");
+        }
+        if (sampleEvery <= 0) {
+            throw new IllegalArgumentException("Sample interval must be positive");
+        }
+        this.capacity = capacity;
+        this.policy = policy;
+        this.sampleEvery = sampleEvery;
+        for (int i = 0; i < shed.length; i++) {
+            shed[i] = new LongAdder();
+        }
+    }
+
+    public Admission offer(T item, boolean isPriority) {
+        lock.lock();
+        try {
+            int depth = priority.size() + normal.size();
+            if (isPriority) {
+                if (depth >= capacity) {
+                    if (!normal.isEmpty()) {
+                        normal.pollFirst();
+                        count(Lane.NORMAL, ShedReason.DROPPED);
+                    } else if (policy == OverflowPolicy.DROP_OLDEST) {
+                        priority.pollFirst();
+                        count(Lane.PRIORITY, ShedReason.DROPPED);
+                    } else {
+                        count(Lane.PRIORITY, ShedReason.REJECTED);
+                        return Admission.REJECTED;
+                    }
+                }
+                priority.addLast(item);
+            } else {
+                if (policy == OverflowPolicy.SAMPLE && depth >= capacity / 2 && sampleCounter++ % sampleEvery != 0) {
+                    count(Lane.NORMAL, ShedReason.SAMPLED);
+                    return Admission.SAMPLED_OUT;
+                }
+                if (depth >= capacity) {
+                    if (policy != OverflowPolicy.DROP_OLDEST || normal.isEmpty()) {
+                        count(Lane.NORMAL, ShedReason.REJECTED);
+                        return Admission.REJECTED;
+                    }
+                    normal.pollFirst();
+                    count(Lane.NORMAL, ShedReason.DROPPED);
+                }
+                normal.addLast(item);
+            }
+            notEmpty.signal();
+            return Admission.ACCEPTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to {@code max} items into {@code out}, priority lane first, waiting up to
+     * {@code timeout} for the first one.
+     *
+     * @return number of items moved; 0 if the wait timed out.
+     */
+    public int drainTo(List<? super T> out, int max, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (priority.isEmpty() && normal.isEmpty()) {
+                if (nanos <= 0) {
+                    return 0;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            int moved = 0;
+            while (moved < max && !priority.isEmpty()) {
+                out.add(priority.pollFirst());
+                moved++;
+            }
+            while (moved < max && !normal.isEmpty()) {
+                out.add(normal.pollFirst());
+                moved++;
+            }
+            return moved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int depth(Lane lane) {
+        lock.lock();
+        try {
+            return lane == Lane.PRIORITY ? priority.size() : normal.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long shedCount(Lane lane, ShedReason reason) {
+        return shed[index(lane, reason)].sum();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public OverflowPolicy policy() {
+        return policy;
+    }
+
+    private void count(Lane lane, ShedReason reason) {
+        shed[index(lane, reason)].increment();
+    }
+
+    private static int index(Lane lane, ShedReason reason) {
+        return lane.ordinal() * ShedReason.values().length + reason.ordinal();
+    }
+}
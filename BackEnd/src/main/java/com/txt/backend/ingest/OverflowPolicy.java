@@ -0,0 +1,11 @@
+package com.txt.backend.ingest;
+
+/** What the ingest queue does with a normal-priority reading once it is under pressure. */
+public enum OverflowPolicy {
+    /** Refuse new readings while the queue is full; callers get 503 and retry. */
+    REJECT,
+    /** Accept the new reading and discard the oldest queued normal-priority one. */
+    DROP_OLDEST,
+    /** Past half capacity, keep only one in {@code sample-every} readings; refuse when full. */
+    SAMPLE
+}
@@ -22,7 +22,11 @@ public final class WarpSimulationMapper {
                 simulation.getEnergyRequired(),
                 simulation.getWarpPhase(),
                 simulation.isObstaclesDetected(),
-                simulation.getTravelTime()
+                simulation.getTravelTime(),
+                simulation.getObstacleId(),
+                simulation.getContactX(),
+                simulation.getContactY(),
+                simulation.getContactZ()
         );
     }
 }
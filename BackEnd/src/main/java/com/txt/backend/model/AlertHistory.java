@@ -5,7 +5,12 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "alert_history")
+// Keyset pagination walks (timestamp, id) newest first, optionally within one severity or source
+@Table(name = "alert_history", indexes = {
+        @Index(name = "idx_alert_history_time", columnList = "timestamp, id"),
+        @Index(name = "idx_alert_history_severity_time", columnList = "severity, timestamp, id"),
+        @Index(name = "idx_alert_history_source_time", columnList = "systemSource, timestamp, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -13,8 +18,10 @@ import java.time.LocalDateTime;
 @Builder
 public class AlertHistory {
 
+    // Pooled sequence ids (allocated 50 at a time) let Hibernate batch inserts; IDENTITY forces one INSERT per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alert_history_seq")
+    @SequenceGenerator(name = "alert_history_seq", sequenceName = "alert_history_seq", allocationSize = 50)
     private Long id;
 
     private String systemSource; // e.g., LIFE_SUPPORT
@@ -22,4 +29,5 @@ public class AlertHistory {
     private String message;      // e.g., Oxygen level hypoxic
     private LocalDateTime timestamp;
     private String automatedActionTaken; // e.g., Droid dispatched
+    private Integer occurrences; // e.g., 300 readings coalesced into this alert
 }
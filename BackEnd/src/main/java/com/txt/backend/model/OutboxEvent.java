@@ -0,0 +1,49 @@
+package com.txt.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * An event waiting to be published, written in the same transaction as the change it describes and
+ * deleted by the outbox relay once the broker confirmed it.
+ */
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    // Not pooled: every id comes from the database when the row is written, so an event written after another
+    // committed gets a larger id on any instance and the relay, publishing by id, keeps them in that order.
+    // Events of transactions that overlap get ids in write order, not commit order, and have no defined order.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String aggregateType; // e.g., QUARANTINE
+
+    @Column(nullable = false, length = 100)
+    private String aggregateId;   // e.g., the quarantine code
+
+    @Column(nullable = false, length = 50)
+    private String eventType;     // e.g., QuarantineStarted
+
+    @Column(nullable = false, length = 150)
+    private String routingKey;    // e.g., quarantine.started.q-001
+
+    @Column(nullable = false, length = 200)
+    private String payloadType;   // class the payload deserializes to, sent as the __TypeId__ header
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;       // JSON
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
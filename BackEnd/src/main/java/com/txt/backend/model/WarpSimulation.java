@@ -16,8 +16,11 @@ import jakarta.persistence.*;
 @Table(name = "warp_simulations")
 public class WarpSimulation {
 
+    // A pooled sequence lets Hibernate batch inserts, which IDENTITY rules out. Existing databases need
+    // warp_simulation_seq started past max(id) of rows inserted with IDENTITY.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "warp_simulation_seq")
+    @SequenceGenerator(name = "warp_simulation_seq", sequenceName = "warp_simulation_seq", allocationSize = 50)
     private Long id;
 
     private double initialX;
@@ -36,4 +39,10 @@ public class WarpSimulation {
     private boolean obstaclesDetected;
     private double travelTime;
 
+    // First obstacle the bubble touches on its path and the point touched; null when the path is clear
+    private Long obstacleId;
+    private Double contactX;
+    private Double contactY;
+    private Double contactZ;
+
 }
\ No newline at end of file
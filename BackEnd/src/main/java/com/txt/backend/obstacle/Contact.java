@@ -0,0 +1,8 @@
+package com.txt.backend.obstacle;
+
+/**
+ * First contact of a swept sphere with an obstacle: {@code fraction} of the way along the path (0 = the sphere
+ * already overlaps it at the start) and the point on the obstacle's surface that is touched.
+ */
+public record Contact(long obstacleId, double fraction, double x, double y, double z) {
+}
@@ -0,0 +1,18 @@
+package com.txt.backend.obstacle;
+
+/** A spherical obstacle: centre in metres and radius in metres. */
+public record Obstacle(long id, double x, double y, double z, double radius) {
+
+    public Obstacle {
+        check(id, x, y, z, radius);
+    }
+
+    static void check(long id, double x, double y, double z, double radius) {
+        if (!Double.isFinite(x) || !Double.isFinite(y) || !Double.isFinite(z)) {
+            throw new IllegalArgumentException("Obstacle " + id + " has a non-finite position");
+        }
+        if (!(radius >= 0) || Double.isInfinite(radius)) {
+            throw new IllegalArgumentException("Obstacle " + id + " radius must be finite and non-negative");
+        }
+    }
+}
@@ -0,0 +1,574 @@
+package com.txt.backend.obstacle;
+
+import java.util.Arrays;
+
+/**
+ * Octree over spherical obstacles, answering "where does a sphere moving along this segment first touch an
+ * obstacle?" without looking at obstacles far from the path.
+ *
+ * Obstacles live in parallel primitive arrays (a slot per obstacle) and are indexed by centre: each leaf holds
+ * up to {@link #LEAF_CAPACITY} slots and splits into eight octants when it overflows. Every node records the
+ * largest radius beneath it, so a query tests a node's cube grown by that radius plus the moving sphere's and
+ * skips the whole subtree on a miss. Children are visited nearest-first and the search stops at the first
+ * node that starts beyond the best contact so far, so a query costs about one root-to-leaf walk per cell the
+ * path crosses, logarithmic in the number of obstacles.
+ *
+ * {@link Loader} bulk-builds a tree by partitioning all obstacles at once. {@link #insert} and {@link #remove}
+ * update it in place; removals leave empty cells and radius bounds behind, which keeps queries correct but
+ * slightly looser until the next bulk load. Not thread-safe: callers synchronise updates against queries.
+ */
+public final class ObstacleOctree {
+
+    static final int LEAF_CAPACITY = 16;
+    static final int MAX_DEPTH = 24;
+
+    private static final class Node {
+        final double minX;
+        final double minY;
+        final double minZ;
+        final double size;
+        Node[] children; // null for a leaf
+        int[] items;     // slots held by a leaf
+        int count;
+        double maxRadius;
+
+        Node(double minX, double minY, double minZ, double size) {
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.size = size;
+        }
+
+        boolean contains(double x, double y, double z) {
+            return x >= minX && x < minX + size && y >= minY && y < minY + size && z >= minZ && z < minZ + size;
+        }
+
+        int octant(double x, double y, double z) {
+            double half = size / 2;
+            return (x >= minX + half ? 1 : 0) | (y >= minY + half ? 2 : 0) | (z >= minZ + half ? 4 : 0);
+        }
+
+        Node child(int octant) {
+            if (children[octant] == null) {
+                double half = size / 2;
+                children[octant] = new Node(minX + ((octant & 1) != 0 ? half : 0),
+                        minY + ((octant & 2) != 0 ? half : 0), minZ + ((octant & 4) != 0 ? half : 0), half);
+            }
+            return children[octant];
+        }
+
+        void add(int slot) {
+            if (items == null) {
+                items = new int[LEAF_CAPACITY + 1];
+            } else if (count == items.length) {
+                items = Arrays.copyOf(items, count * 2);
+            }
+            items[count++] = slot;
+        }
+    }
+
+    /** Collects obstacles for a bulk build; cheaper than inserting them one by one. */
+    public static final class Loader {
+
+        private long[] ids = new long[1024];
+        private double[] xs = new double[1024];
+        private double[] ys = new double[1024];
+        private double[] zs = new double[1024];
+        private double[] radii = new double[1024];
+        private int count;
+
+        public Loader add(long id, double x, double y, double z, double radius) {
+            Obstacle.check(id, x, y, z, radius);
+            if (count == ids.length) {
+                int capacity = count * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                zs = Arrays.copyOf(zs, capacity);
+                radii = Arrays.copyOf(radii, capacity);
+            }
+            ids[count] = id;
+            xs[count] = x;
+            ys[count] = y;
+            zs[count] = z;
+            radii[count] = radius;
+            count++;
+            return this;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /** @throws IllegalArgumentException if two obstacles share an id. */
+        public ObstacleOctree build() {
+            ObstacleOctree tree = new ObstacleOctree(ids, xs, ys, zs, radii, count);
+            ids = null; // the arrays now belong to the tree
+            xs = ys = zs = radii = null;
+            return tree;
+        }
+    }
+
+    private long[] ids;
+    private double[] xs;
+    private double[] ys;
+    private double[] zs;
+    private double[] radii;
+    private int highWater;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private final SlotIndex slotById;
+    private Node root;
+    private long fingerprint;
+
+    public ObstacleOctree() {
+        this(new long[16], new double[16], new double[16], new double[16], new double[16], 0);
+    }
+
+    private ObstacleOctree(long[] ids, double[] xs, double[] ys, double[] zs, double[] radii, int count) {
+        this.ids = ids;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.radii = radii;
+        this.highWater = count;
+        this.slotById = new SlotIndex(count);
+        for (int slot = 0; slot < count; slot++) {
+            if (slotById.put(ids[slot], slot) >= 0) {
+                throw new IllegalArgumentException("Duplicate obstacle id " + ids[slot]);
+            }
+            fingerprint ^= hash(slot);
+        }
+        if (count > 0) {
+            double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+            double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+            for (int slot = 0; slot < count; slot++) {
+                minX = Math.min(minX, xs[slot]);
+                minY = Math.min(minY, ys[slot]);
+                minZ = Math.min(minZ, zs[slot]);
+                maxX = Math.max(maxX, xs[slot]);
+                maxY = Math.max(maxY, ys[slot]);
+                maxZ = Math.max(maxZ, zs[slot]);
+            }
+            // Half-open cells: pad so the largest coordinates fall inside the root
+            double size = Math.max(1, Math.max(maxX - minX, Math.max(maxY - minY, maxZ - minZ))) * (1 + 1e-9) + 1e-9;
+            root = new Node(minX, minY, minZ, size);
+            int[] slots = new int[count];
+            for (int slot = 0; slot < count; slot++) {
+                slots[slot] = slot;
+            }
+            build(root, slots, new int[count], 0, count, 0);
+        }
+    }
+
+    public int size() {
+        return slotById.size();
+    }
+
+    /**
+     * Order-independent hash of every obstacle: trees holding the same obstacles have the same fingerprint,
+     * however they were built. Lets results computed against one catalog be told apart from another's.
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /** Adds the obstacle, replacing any obstacle with the same id. */
+    public void insert(Obstacle obstacle) {
+        remove(obstacle.id());
+        int slot = allocate();
+        ids[slot] = obstacle.id();
+        xs[slot] = obstacle.x();
+        ys[slot] = obstacle.y();
+        zs[slot] = obstacle.z();
+        radii[slot] = obstacle.radius();
+        slotById.put(obstacle.id(), slot);
+        fingerprint ^= hash(slot);
+        if (root == null) {
+            double size = Math.max(1, 4 * obstacle.radius());
+            root = new Node(obstacle.x() - size / 2, obstacle.y() - size / 2, obstacle.z() - size / 2, size);
+        }
+        while (!root.contains(obstacle.x(), obstacle.y(), obstacle.z())) {
+            grow(obstacle.x(), obstacle.y(), obstacle.z());
+        }
+        insert(root, slot, 0);
+    }
+
+    /** @return false if no obstacle has that id. */
+    public boolean remove(long id) {
+        int slot = slotById.remove(id);
+        if (slot < 0) {
+            return false;
+        }
+        Node node = root;
+        while (node.children != null) {
+            node = node.children[node.octant(xs[slot], ys[slot], zs[slot])];
+        }
+        for (int i = 0; i < node.count; i++) {
+            if (node.items[i] == slot) {
+                node.items[i] = node.items[--node.count];
+                break;
+            }
+        }
+        fingerprint ^= hash(slot);
+        radii[slot] = -1; // marks the slot free for scans
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    /**
+     * First obstacle touched by a sphere of {@code radius} whose centre moves in a straight line from
+     * {@code (ax, ay, az)} to {@code (bx, by, bz)}; ties go to the lowest id.
+     *
+     * @return the contact, or null if the path is clear.
+     */
+    public Contact firstContact(double ax, double ay, double az, double bx, double by, double bz, double radius) {
+        if (root == null) {
+            return null;
+        }
+        Query query = new Query(ax, ay, az, bx, by, bz, radius);
+        if (query.enter(root) <= 1) {
+            visit(root, query, 0);
+        }
+        return contact(query);
+    }
+
+    /** {@link #firstContact} by testing every obstacle; the reference the octree is checked against. */
+    Contact scanFirstContact(double ax, double ay, double az, double bx, double by, double bz, double radius) {
+        Query query = new Query(ax, ay, az, bx, by, bz, radius);
+        for (int slot = 0; slot < highWater; slot++) {
+            if (radii[slot] >= 0) {
+                query.test(slot);
+            }
+        }
+        return contact(query);
+    }
+
+    private Contact contact(Query query) {
+        if (query.bestSlot < 0) {
+            return null;
+        }
+        int slot = query.bestSlot;
+        double t = query.bestT;
+        double px = query.ax + query.dx * t - xs[slot];
+        double py = query.ay + query.dy * t - ys[slot];
+        double pz = query.az + query.dz * t - zs[slot];
+        double length = Math.sqrt(px * px + py * py + pz * pz);
+        double scale = length > 0 ? radii[slot] / length : 0;
+        return new Contact(ids[slot], t, xs[slot] + px * scale, ys[slot] + py * scale, zs[slot] + pz * scale);
+    }
+
+    private void visit(Node node, Query query, int depth) {
+        if (node.children == null) {
+            for (int i = 0; i < node.count; i++) {
+                query.test(node.items[i]);
+            }
+            return;
+        }
+        double[] entries = query.entries(depth);
+        Node[] order = query.order(depth);
+        int n = 0;
+        for (Node child : node.children) {
+            if (child == null) {
+                continue;
+            }
+            double entry = query.enter(child);
+            if (entry > 1 || entry > query.bestT) {
+                continue; // path misses the child, or reaches it after the best contact
+            }
+            int at = n++;
+            while (at > 0 && entries[at - 1] > entry) {
+                entries[at] = entries[at - 1];
+                order[at] = order[at - 1];
+                at--;
+            }
+            entries[at] = entry;
+            order[at] = child;
+        }
+        for (int k = 0; k < n && entries[k] <= query.bestT; k++) {
+            visit(order[k], query, depth + 1);
+        }
+    }
+
+    private void build(Node node, int[] slots, int[] scratch, int from, int to, int depth) {
+        for (int i = from; i < to; i++) {
+            node.maxRadius = Math.max(node.maxRadius, radii[slots[i]]);
+        }
+        if (to - from <= LEAF_CAPACITY || depth == MAX_DEPTH) {
+            node.items = Arrays.copyOfRange(slots, from, Math.max(to, from + LEAF_CAPACITY + 1));
+            node.count = to - from;
+            return;
+        }
+        int[] starts = new int[9];
+        for (int i = from; i < to; i++) {
+            int slot = slots[i];
+            starts[node.octant(xs[slot], ys[slot], zs[slot]) + 1]++;
+        }
+        starts[0] = from;
+        for (int octant = 1; octant <= 8; octant++) {
+            starts[octant] += starts[octant - 1];
+        }
+        int[] next = Arrays.copyOf(starts, 8);
+        for (int i = from; i < to; i++) {
+            int slot = slots[i];
+            scratch[next[node.octant(xs[slot], ys[slot], zs[slot])]++] = slot;
+        }
+        System.arraycopy(scratch, from, slots, from, to - from);
+        node.children = new Node[8];
+        for (int octant = 0; octant < 8; octant++) {
+            if (starts[octant + 1] > starts[octant]) {
+                build(node.child(octant), slots, scratch, starts[octant], starts[octant + 1], depth + 1);
+            }
+        }
+    }
+
+    private void insert(Node node, int slot, int depth) {
+        while (true) {
+            node.maxRadius = Math.max(node.maxRadius, radii[slot]);
+            if (node.children == null) {
+                node.add(slot);
+                if (node.count > LEAF_CAPACITY && depth < MAX_DEPTH) {
+                    split(node, depth);
+                }
+                return;
+            }
+            node = node.child(node.octant(xs[slot], ys[slot], zs[slot]));
+            depth++;
+        }
+    }
+
+    private void split(Node node, int depth) {
+        int[] items = node.items;
+        int count = node.count;
+        node.children = new Node[8];
+        node.items = null;
+        node.count = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = items[i];
+            insert(node.child(node.octant(xs[slot], ys[slot], zs[slot])), slot, depth + 1);
+        }
+    }
+
+    /** Doubles the root towards the point, the old root becoming one of the new root's octants. */
+    private void grow(double x, double y, double z) {
+        double size = root.size;
+        double minX = x < root.minX ? root.minX - size : root.minX;
+        double minY = y < root.minY ? root.minY - size : root.minY;
+        double minZ = z < root.minZ ? root.minZ - size : root.minZ;
+        Node parent = new Node(minX, minY, minZ, size * 2);
+        parent.children = new Node[8];
+        parent.children[(minX < root.minX ? 1 : 0) | (minY < root.minY ? 2 : 0) | (minZ < root.minZ ? 4 : 0)] = root;
+        parent.maxRadius = root.maxRadius;
+        root = parent;
+    }
+
+    private long hash(int slot) {
+        long h = ids[slot];
+        h = h * 0x9E3779B97F4A7C15L + Double.doubleToLongBits(xs[slot]);
+        h = h * 0x9E3779B97F4A7C15L + Double.doubleToLongBits(ys[slot]);
+        h = h * 0x9E3779B97F4A7C15L + Double.doubleToLongBits(zs[slot]);
+        h = h * 0x9E3779B97F4A7C15L + Double.doubleToLongBits(radii[slot]);
+        h ^= h >>> 33; // murmur3 finalizer, so XOR-ing many hashes stays well mixed
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == ids.length) {
+            int capacity = Math.max(16, highWater * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            zs = Arrays.copyOf(zs, capacity);
+            radii = Arrays.copyOf(radii, capacity);
+        }
+        return highWater++;
+    }
+
+    /** One segment query: the path, the best contact so far and per-depth scratch for ordering children. */
+    private final class Query {
+        final double ax, ay, az, dx, dy, dz, radius;
+        final double lengthSquared;
+        double bestT = Double.POSITIVE_INFINITY;
+        int bestSlot = -1;
+        private double tMin;
+        private double tMax;
+        private double[][] entries = new double[MAX_DEPTH + 1][];
+        private Node[][] order = new Node[MAX_DEPTH + 1][];
+
+        Query(double ax, double ay, double az, double bx, double by, double bz, double radius) {
+            if (!(radius >= 0)) {
+                throw new IllegalArgumentException("Sphere radius must be non-negative");
+            }
+            this.ax = ax;
+            this.ay = ay;
+            this.az = az;
+            this.dx = bx - ax;
+            this.dy = by - ay;
+            this.dz = bz - az;
+            this.radius = radius;
+            this.lengthSquared = dx * dx + dy * dy + dz * dz;
+        }
+
+        double[] entries(int depth) {
+            ensure(depth);
+            return entries[depth] != null ? entries[depth] : (entries[depth] = new double[8]);
+        }
+
+        Node[] order(int depth) {
+            ensure(depth);
+            return order[depth] != null ? order[depth] : (order[depth] = new Node[8]);
+        }
+
+        private void ensure(int depth) {
+            if (depth >= entries.length) {
+                entries = Arrays.copyOf(entries, depth * 2);
+                order = Arrays.copyOf(order, depth * 2);
+            }
+        }
+
+        /** Where the path enters the node's cube grown by both radii, or +∞ if it misses. */
+        double enter(Node node) {
+            double grow = node.maxRadius + radius;
+            double span = node.size + 2 * grow;
+            tMin = 0;
+            tMax = 1;
+            return slab(ax, dx, node.minX - grow, span) && slab(ay, dy, node.minY - grow, span)
+                    && slab(az, dz, node.minZ - grow, span) ? tMin : Double.POSITIVE_INFINITY;
+        }
+
+        /** Clips [tMin, tMax] to the times the path is within [low, low + span] on one axis. */
+        private boolean slab(double start, double delta, double low, double span) {
+            if (delta == 0) {
+                return start >= low && start <= low + span;
+            }
+            double t1 = (low - start) / delta;
+            double t2 = (low + span - start) / delta;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            return tMin <= tMax;
+        }
+
+        /** Earliest time the moving sphere touches the obstacle in the slot; keeps it if it beats the best. */
+        void test(int slot) {
+            double reach = radii[slot] + radius;
+            double fx = ax - xs[slot];
+            double fy = ay - ys[slot];
+            double fz = az - zs[slot];
+            double c = fx * fx + fy * fy + fz * fz - reach * reach;
+            double t;
+            if (c <= 0) {
+                t = 0;
+            } else {
+                if (lengthSquared == 0) {
+                    return;
+                }
+                double b = fx * dx + fy * dy + fz * dz;
+                double discriminant = b * b - lengthSquared * c;
+                if (b >= 0 || discriminant < 0) {
+                    return; // moving away, or passing by
+                }
+                t = (-b - Math.sqrt(discriminant)) / lengthSquared;
+                if (t > 1) {
+                    return;
+                }
+            }
+            if (t < bestT || t == bestT && ids[slot] < ids[bestSlot]) {
+                bestT = t;
+                bestSlot = slot;
+            }
+        }
+    }
+
+    /** Open-addressing map from obstacle id to slot; a boxed HashMap would cost several times the tree. */
+    private static final class SlotIndex {
+
+        private long[] keys;
+        private int[] values; // -1 = empty
+        private int size;
+
+        SlotIndex(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(values, -1);
+        }
+
+        int size() {
+            return size;
+        }
+
+        /** @return the previous slot, or -1. */
+        int put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            for (; values[i] >= 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    int previous = values[i];
+                    values[i] = value;
+                    return previous;
+                }
+            }
+            keys[i] = key;
+            values[i] = value;
+            size++;
+            return -1;
+        }
+
+        /** @return the removed slot, or -1. */
+        int remove(long key) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (values[i] >= 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (values[i] < 0) {
+                return -1;
+            }
+            int removed = values[i];
+            // Backward-shift the rest of the probe run so lookups never stop early at the hole
+            int hole = i;
+            for (int j = (i + 1) & mask; values[j] >= 0; j = (j + 1) & mask) {
+                int home = hash(keys[j]) & mask;
+                if (((j - home) & mask) >= ((j - hole) & mask)) {
+                    keys[hole] = keys[j];
+                    values[hole] = values[j];
+                    hole = j;
+                }
+            }
+            values[hole] = -1;
+            size--;
+            return removed;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            Arrays.fill(values, -1);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] >= 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
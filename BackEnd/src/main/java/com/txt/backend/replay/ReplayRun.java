@@ -0,0 +1,193 @@
+package com.txt.backend.replay;
+
+import com.txt.backend.aggregation.WindowStatistics;
+import com.txt.backend.dto.TelemetryData;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * One replay: paces readings from a {@link ReplaySource} by their recorded time, groups them into batches
+ * and hands each batch to the pipeline on the replay thread.
+ *
+ * Latency is measured per batch from the moment its oldest reading was due (recorded time scaled by the
+ * speed, or the moment it was read in {@code max} mode) to the end of processing, so it includes any time
+ * spent waiting behind a saturated pipeline.
+ */
+public final class ReplayRun implements ReplaySink {
+
+    public enum State { RUNNING, COMPLETED, CANCELLED, FAILED }
+
+    // A paced batch is never held back longer than this waiting to fill up
+    private static final long MAX_BATCH_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final String id;
+    private final String source;
+    private final ReplaySpeed speed;
+    private final int batchSize;
+    private final Consumer<List<TelemetryData>> pipeline;
+    private final LongConsumer latencyListener;
+    private final Instant startedAt = Instant.now();
+
+    private List<TelemetryData> batch;
+    private long batchDueNanos;
+    private long firstRecordedMicros = Long.MIN_VALUE;
+    private long startNanos;
+
+    private volatile boolean cancelled;
+    private volatile State state = State.RUNNING;
+    private volatile String error;
+    private volatile long endNanos;
+
+    // Guarded by this: read by status requests while the replay thread updates them
+    private final WindowStatistics latencyMillis = new WindowStatistics();
+    private long records;
+    private long batches;
+
+    public ReplayRun(String id, String source, ReplaySpeed speed, int batchSize,
+                     Consumer<List<TelemetryData>> pipeline, LongConsumer latencyListener) {
+        this.id = id;
+        this.source = source;
+        this.speed = speed;
+        this.batchSize = batchSize;
+        this.pipeline = pipeline;
+        this.latencyListener = latencyListener;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    /** Runs the replay to completion on the calling thread. */
+    public void run(ReplaySource replaySource) {
+        startNanos = System.nanoTime();
+        try {
+            replaySource.emit(this);
+            flush();
+            state = cancelled ? State.CANCELLED : State.COMPLETED;
+        } catch (Exception e) {
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            state = State.FAILED;
+        } finally {
+            endNanos = System.nanoTime();
+        }
+    }
+
+    @Override
+    public boolean accept(long recordedMicros, TelemetryData data) {
+        if (cancelled) {
+            return false;
+        }
+        long due = due(recordedMicros);
+        if (speed.isPaced()) {
+            long now = System.nanoTime();
+            if (due > now) {
+                // Nothing else is due before this reading: process what is pending, then wait for it
+                flush();
+                if (!parkUntil(due)) {
+                    return false;
+                }
+            } else if (!batch.isEmpty() && now - batchDueNanos > MAX_BATCH_DELAY_NANOS) {
+                flush();
+            }
+        }
+        if (batch.isEmpty()) {
+            batchDueNanos = due;
+        }
+        batch.add(data);
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+        return !cancelled;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public ReplaySpeed speed() {
+        return speed;
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public String error() {
+        return error;
+    }
+
+    public Instant startedAt() {
+        return startedAt;
+    }
+
+    public long elapsedNanos() {
+        if (startNanos == 0) {
+            return 0;
+        }
+        return (state == State.RUNNING ? System.nanoTime() : endNanos) - startNanos;
+    }
+
+    public synchronized long records() {
+        return records;
+    }
+
+    public synchronized long batches() {
+        return batches;
+    }
+
+    /** Batch latency quantile in milliseconds, NaN before the first batch. */
+    public synchronized double latencyMillis(double quantile) {
+        return latencyMillis.quantile(quantile);
+    }
+
+    public synchronized double maxLatencyMillis() {
+        return latencyMillis.max();
+    }
+
+    private long due(long recordedMicros) {
+        if (!speed.isPaced()) {
+            return System.nanoTime();
+        }
+        if (firstRecordedMicros == Long.MIN_VALUE) {
+            firstRecordedMicros = recordedMicros;
+        }
+        long offsetNanos = (long) ((recordedMicros - firstRecordedMicros) * 1_000 / speed.factor());
+        return startNanos + Math.max(0, offsetNanos);
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<TelemetryData> ready = batch;
+        batch = new ArrayList<>(batchSize);
+        pipeline.accept(ready);
+        long latency = System.nanoTime() - batchDueNanos;
+        latencyListener.accept(latency);
+        synchronized (this) {
+            latencyMillis.add(latency / 1e6);
+            records += ready.size();
+            batches++;
+        }
+    }
+
+    private boolean parkUntil(long deadline) {
+        long remaining;
+        while (!cancelled && (remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(Math.min(remaining, MAX_PARK_NANOS));
+        }
+        return !cancelled;
+    }
+}
@@ -0,0 +1,15 @@
+package com.txt.backend.replay;
+
+import com.txt.backend.dto.TelemetryData;
+
+/**
+ * Receives recorded readings from a {@link ReplaySource}, oldest first.
+ */
+@FunctionalInterface
+public interface ReplaySink {
+    /**
+     * @param recordedMicros when the reading was originally recorded, used to pace the replay.
+     * @return false when the replay was cancelled and the source should stop.
+     */
+    boolean accept(long recordedMicros, TelemetryData data);
+}
@@ -0,0 +1,12 @@
+package com.txt.backend.replay;
+
+import java.io.IOException;
+
+/**
+ * Recorded telemetry to replay: the flight log, an exported frame file or a Kafka offset range.
+ */
+@FunctionalInterface
+public interface ReplaySource {
+    /** Pushes every reading to the sink in recorded order, stopping early if the sink returns false. */
+    void emit(ReplaySink sink) throws IOException;
+}
@@ -0,0 +1,50 @@
+package com.txt.backend.replay;
+
+import java.util.Locale;
+
+/**
+ * How fast recorded time is replayed: 1 is real time, 10 is ten times faster,
+ * {@link #MAX} ignores the recorded timing and feeds readings as fast as the pipeline accepts them.
+ */
+public record ReplaySpeed(double factor) {
+
+    public static final ReplaySpeed REAL_TIME = new ReplaySpeed(1);
+    public static final ReplaySpeed MAX = new ReplaySpeed(Double.POSITIVE_INFINITY);
+
+    public ReplaySpeed {
+        if (!(factor > 0)) {
+            throw new IllegalArgumentException("Replay speed must be positive");
+        }
+    }
+
+    /** Parses {@code "max"}, {@code "realtime"}, {@code "10x"} or {@code "2.5"}. */
+    public static ReplaySpeed parse(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        switch (normalized) {
+            case "max":
+                return MAX;
+            case "realtime":
+            case "real-time":
+                return REAL_TIME;
+            default:
+                String number = normalized.endsWith("x") ? normalized.substring(0, normalized.length() - 1) : normalized;
+                try {
+                    return new ReplaySpeed(Double.parseDouble(number));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid replay speed: " + value);
+                }
+        }
+    }
+
+    public boolean isPaced() {
+        return factor != Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public String toString() {
+        if (!isPaced()) {
+            return "max";
+        }
+        return (factor == Math.rint(factor) ? String.valueOf((long) factor) : String.valueOf(factor)) + "x";
+    }
+}
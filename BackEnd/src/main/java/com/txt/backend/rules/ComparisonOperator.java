@@ -0,0 +1,44 @@
+package com.txt.backend.rules;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * How a reading is compared to a rule threshold; written as its symbol in rule files.
+ */
+public enum ComparisonOperator {
+    LESS_THAN("<"),
+    LESS_OR_EQUAL("<="),
+    GREATER_THAN(">"),
+    GREATER_OR_EQUAL(">=");
+
+    private final String symbol;
+
+    ComparisonOperator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public boolean matches(double value, double threshold) {
+        return switch (this) {
+            case LESS_THAN -> value < threshold;
+            case LESS_OR_EQUAL -> value <= threshold;
+            case GREATER_THAN -> value > threshold;
+            case GREATER_OR_EQUAL -> value >= threshold;
+        };
+    }
+
+    @JsonValue
+    public String symbol() {
+        return symbol;
+    }
+
+    @JsonCreator
+    public static ComparisonOperator fromSymbol(String symbol) {
+        for (ComparisonOperator operator : values()) {
+            if (operator.symbol.equals(symbol) || operator.name().equalsIgnoreCase(symbol)) {
+                return operator;
+            }
+        }
+        throw new IllegalArgumentException("Unknown comparison operator: " + symbol);
+    }
+}
@@ -0,0 +1,142 @@
+package com.txt.backend.rules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Threshold rules compiled into one lookup table per telemetry type.
+ *
+ * The distinct thresholds of a type split the number line into points and open intervals; every region
+ * is resolved at compile time to the most severe matching rule. Evaluating a reading is then a hash lookup
+ * of its type plus a binary search over a {@code double[]}, with no allocation.
+ * Tables are immutable: a reload compiles a new one and swaps it in.
+ */
+public final class DecisionTable {
+
+    public static final DecisionTable EMPTY = compile(List.of());
+
+    private final Map<String, TypeTable> tables;
+    private final List<ThresholdRule> rules;
+
+    private DecisionTable(Map<String, TypeTable> tables, List<ThresholdRule> rules) {
+        this.tables = tables;
+        this.rules = rules;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a rule is incomplete, has a non-finite threshold or a duplicate id.
+     */
+    public static DecisionTable compile(List<ThresholdRule> definitions) {
+        Map<String, List<ThresholdRule>> byType = new LinkedHashMap<>();
+        List<String> ids = new ArrayList<>();
+        for (ThresholdRule rule : definitions) {
+            validate(rule);
+            if (ids.contains(rule.id())) {
+                throw new IllegalArgumentException("Duplicate rule id: " + rule.id());
+            }
+            ids.add(rule.id());
+            byType.computeIfAbsent(normalize(rule.type()), type -> new ArrayList<>()).add(rule);
+        }
+        Map<String, TypeTable> tables = new HashMap<>();
+        byType.forEach((type, rules) -> tables.put(type, TypeTable.compile(rules)));
+        return new DecisionTable(tables, List.copyOf(definitions));
+    }
+
+    /** The winning rule for the reading, or null when no rule of its type matches (or the value is NaN). */
+    public ThresholdRule evaluate(String type, double value) {
+        if (type == null) {
+            return null;
+        }
+        TypeTable table = tables.get(type);
+        if (table == null) {
+            // Types are stored lower-case; only unusual spellings pay for the conversion
+            table = tables.get(type.toLowerCase(Locale.ROOT));
+            if (table == null) {
+                return null;
+            }
+        }
+        return table.evaluate(value);
+    }
+
+    public List<ThresholdRule> rules() {
+        return rules;
+    }
+
+    public int typeCount() {
+        return tables.size();
+    }
+
+    private static void validate(ThresholdRule rule) {
+        if (rule.id() == null || rule.id().isBlank()) {
+            throw new IllegalArgumentException("Every rule needs an id");
+        }
+        if (rule.type() == null || rule.type().isBlank() || rule.operator() == null || rule.severity() == null) {
+            throw new IllegalArgumentException("Rule " + rule.id() + " needs a type, an operator and a severity");
+        }
+        if (!Double.isFinite(rule.threshold())) {
+            throw new IllegalArgumentException("Rule " + rule.id() + " has a non-finite threshold");
+        }
+        if (rule.alert() && (rule.system() == null || rule.message() == null)) {
+            throw new IllegalArgumentException("Alerting rule " + rule.id() + " needs a system and a message");
+        }
+    }
+
+    private static String normalize(String type) {
+        return type.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Regions of one type: region 2i is the open interval below boundaries[i], region 2i+1 is boundaries[i] itself. */
+    private static final class TypeTable {
+
+        private final double[] boundaries;
+        private final ThresholdRule[] regions;
+
+        private TypeTable(double[] boundaries, ThresholdRule[] regions) {
+            this.boundaries = boundaries;
+            this.regions = regions;
+        }
+
+        static TypeTable compile(List<ThresholdRule> rules) {
+            TreeSet<Double> distinct = new TreeSet<>();
+            rules.forEach(rule -> distinct.add(rule.threshold() == 0 ? 0.0 : rule.threshold())); // -0.0 == 0.0
+            double[] boundaries = distinct.stream().mapToDouble(Double::doubleValue).toArray();
+            int k = boundaries.length;
+            ThresholdRule[] regions = new ThresholdRule[2 * k + 1];
+            for (int i = 0; i < k; i++) {
+                double below = i == 0 ? Math.nextDown(boundaries[0]) : Math.nextUp(boundaries[i - 1]);
+                regions[2 * i] = below < boundaries[i] ? winner(rules, below) : null;
+                regions[2 * i + 1] = winner(rules, boundaries[i]);
+            }
+            regions[2 * k] = winner(rules, k == 0 ? 0 : Math.nextUp(boundaries[k - 1]));
+            return new TypeTable(boundaries, regions);
+        }
+
+        ThresholdRule evaluate(double value) {
+            if (value != value) { // NaN
+                return null;
+            }
+            int index = Arrays.binarySearch(boundaries, value == 0 ? 0.0 : value); // binarySearch orders -0.0 before 0.0
+            if (index >= 0) {
+                return regions[2 * index + 1];
+            }
+            return regions[2 * (-index - 1)];
+        }
+
+        // Most severe matching rule; the first declared one on ties
+        private static ThresholdRule winner(List<ThresholdRule> rules, double value) {
+            ThresholdRule best = null;
+            for (ThresholdRule rule : rules) {
+                if (rule.matches(value) && (best == null || rule.severity().compareTo(best.severity()) > 0)) {
+                    best = rule;
+                }
+            }
+            return best;
+        }
+    }
+}
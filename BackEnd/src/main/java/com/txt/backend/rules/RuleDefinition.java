@@ -0,0 +1,23 @@
+package com.txt.backend.rules;
+
+/**
+ * A rule as written in the rules file; optional fields are boxed so missing ones can be reported.
+ */
+public record RuleDefinition(
+        String id,
+        String type,
+        ComparisonOperator operator,
+        Double threshold,
+        RuleSeverity severity,
+        String system,
+        String message,
+        Boolean alert
+) {
+
+    public ThresholdRule toRule() {
+        if (threshold == null) {
+            throw new IllegalArgumentException("Rule " + id + " needs a threshold");
+        }
+        return new ThresholdRule(id, type, operator, threshold, severity, system, message, Boolean.TRUE.equals(alert));
+    }
+}
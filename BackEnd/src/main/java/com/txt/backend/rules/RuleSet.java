@@ -0,0 +1,7 @@
+package com.txt.backend.rules;
+
+import java.util.List;
+
+/** Root of the rules file: {@code {"rules": [...]}}. */
+public record RuleSet(List<RuleDefinition> rules) {
+}
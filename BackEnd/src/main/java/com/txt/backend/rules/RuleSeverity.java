@@ -0,0 +1,12 @@
+package com.txt.backend.rules;
+
+/**
+ * Severity of a threshold rule, least to most severe. When several rules of a type match,
+ * the most severe one wins.
+ */
+public enum RuleSeverity {
+    INFO,
+    CAUTION,
+    WARNING,
+    CRITICAL
+}
@@ -0,0 +1,42 @@
+package com.txt.backend.rules;
+
+import com.txt.backend.dto.SystemAlert;
+
+import java.time.LocalDateTime;
+
+/**
+ * One rule of {@code telemetry-rules.json}: readings of {@code type} for which {@code value operator threshold}
+ * holds are classified with {@code severity}; when {@code alert} is set they also raise a {@link SystemAlert}.
+ *
+ * {@code message} may contain {@code {value}}, {@code {threshold}} and {@code {sensorId}} placeholders.
+ */
+public record ThresholdRule(
+        String id,
+        String type,
+        ComparisonOperator operator,
+        double threshold,
+        RuleSeverity severity,
+        String system,
+        String message,
+        boolean alert
+) {
+
+    public boolean matches(double value) {
+        return operator.matches(value, threshold);
+    }
+
+    public SystemAlert toAlert(String sensorId, double value) {
+        return SystemAlert.builder()
+                .systemSource(system)
+                .severity(severity.name())
+                .message(message
+                        .replace("{value}", String.valueOf(value))
+                        .replace("{threshold}", String.valueOf(threshold))
+                        .replace("{sensorId}", sensorId != null ? sensorId : "-"))
+                .timestamp(LocalDateTime.now())
+                .value(value)
+                .threshold(threshold)
+                .occurrences(1)
+                .build();
+    }
+}
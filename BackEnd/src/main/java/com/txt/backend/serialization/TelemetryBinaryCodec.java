@@ -0,0 +1,233 @@
+package com.txt.backend.serialization;
+
+import com.txt.backend.dto.TelemetryData;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact binary encoding of {@link TelemetryData}.
+ *
+ * <pre>
+ * magic(1) version(1) flags(1) sensorId type unit value(8) [timestamp]
+ *
+ * string    : varint 0 = null, 1 = inline (varint length + UTF-8), n &gt;= 2 = dictionary code n - 2
+ * timestamp : epoch micros (8, big endian) when FLAG_MICROS, inline string when FLAG_LITERAL
+ * </pre>
+ *
+ * A timestamp that cannot be parsed, or that has nanoseconds epoch micros would truncate, is kept as text.
+ *
+ * A typical reading is ~22 bytes against ~100 bytes of JSON.
+ */
+public final class TelemetryBinaryCodec {
+
+    public static final byte MAGIC = (byte) 0xB7;
+    public static final byte VERSION = 1;
+
+    private static final int FLAG_MICROS = 1;       // timestamp stored as epoch micros
+    private static final int FLAG_OFFSET = 1 << 1;  // original timestamp carried a zone offset
+    private static final int FLAG_LITERAL = 1 << 2; // timestamp unparseable or finer than micros, stored as text
+
+    private static final int NULL_STRING = 0;
+    private static final int INLINE_STRING = 1;
+    private static final int FIRST_CODE = 2;
+
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[256]);
+
+    private final TelemetryDictionary dictionary;
+
+    public TelemetryBinaryCodec() {
+        this(TelemetryDictionary.getDefault());
+    }
+
+    public TelemetryBinaryCodec(TelemetryDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    public static boolean isBinary(byte[] payload) {
+        return payload != null && payload.length > 0 && payload[0] == MAGIC;
+    }
+
+    public byte[] encode(TelemetryData data) {
+        Writer out = new Writer(SCRATCH.get());
+        out.put(MAGIC);
+        out.put(VERSION);
+
+        int flags = 0;
+        long micros = TelemetryTimestamps.UNPARSEABLE;
+        String timestamp = data.getTimestamp();
+        if (timestamp != null) {
+            micros = TelemetryTimestamps.toEpochMicros(timestamp);
+            if (micros != TelemetryTimestamps.UNPARSEABLE && !TelemetryTimestamps.hasSubMicros(timestamp)) {
+                flags |= FLAG_MICROS;
+                if (TelemetryTimestamps.hasOffset(timestamp)) {
+                    flags |= FLAG_OFFSET;
+                }
+            } else {
+                flags |= FLAG_LITERAL;
+            }
+        }
+        out.put((byte) flags);
+
+        writeString(out, data.getSensorId());
+        writeString(out, data.getType());
+        writeString(out, data.getUnit());
+        out.putLong(Double.doubleToRawLongBits(data.getValue()));
+
+        if ((flags & FLAG_MICROS) != 0) {
+            out.putLong(micros);
+        } else if ((flags & FLAG_LITERAL) != 0) {
+            writeInline(out, timestamp);
+        }
+
+        SCRATCH.set(out.buffer); // keep the grown buffer for the next record on this thread
+        return out.toByteArray();
+    }
+
+    public TelemetryData decode(byte[] payload) {
+        Reader in = new Reader(payload);
+        if (in.get() != MAGIC) {
+            throw new IllegalArgumentException("Not a binary telemetry payload");
+        }
+        int version = in.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported telemetry schema version " + version);
+        }
+        int flags = in.get();
+
+        TelemetryData data = new TelemetryData();
+        data.setSensorId(readString(in));
+        data.setType(readString(in));
+        data.setUnit(readString(in));
+        data.setValue(Double.longBitsToDouble(in.getLong()));
+
+        if ((flags & FLAG_MICROS) != 0) {
+            data.setTimestamp(TelemetryTimestamps.format(in.getLong(), (flags & FLAG_OFFSET) != 0));
+        } else if ((flags & FLAG_LITERAL) != 0) {
+            data.setTimestamp(readInline(in));
+        }
+        return data;
+    }
+
+    private void writeString(Writer out, String value) {
+        if (value == null) {
+            out.putVarint(NULL_STRING);
+            return;
+        }
+        int code = dictionary.codeOf(value);
+        if (code >= 0) {
+            out.putVarint(FIRST_CODE + code);
+        } else {
+            out.putVarint(INLINE_STRING);
+            writeInline(out, value);
+        }
+    }
+
+    private static void writeInline(Writer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putVarint(bytes.length);
+        out.put(bytes);
+    }
+
+    private String readString(Reader in) {
+        int tag = in.getVarint();
+        if (tag == NULL_STRING) {
+            return null;
+        }
+        if (tag == INLINE_STRING) {
+            return readInline(in);
+        }
+        return dictionary.valueOf(tag - FIRST_CODE);
+    }
+
+    private static String readInline(Reader in) {
+        int length = in.getVarint();
+        String value = new String(in.buffer, in.position, length, StandardCharsets.UTF_8);
+        in.position += length;
+        return value;
+    }
+
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        Writer(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        void put(byte b) {
+            ensure(1);
+            buffer[position++] = b;
+        }
+
+        void put(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void putVarint(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void putLong(long value) {
+            ensure(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensure(int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this(buffer, 0);
+        }
+
+        Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int get() {
+            return buffer[position++];
+        }
+
+        int getVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = buffer[position++];
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in telemetry payload");
+        }
+
+        long getLong() {
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+    }
+}
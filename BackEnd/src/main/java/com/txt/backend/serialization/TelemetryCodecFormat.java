@@ -0,0 +1,6 @@
+package com.txt.backend.serialization;
+
+public enum TelemetryCodecFormat {
+    BINARY, // Compact, dictionary-encoded format (default)
+    JSON // Human-readable, for debugging
+}
@@ -0,0 +1,32 @@
+package com.txt.backend.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.txt.backend.dto.TelemetryData;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+
+/**
+ * Kafka value deserializer for telemetry.
+ * Detects the format from the first byte, so binary and JSON records can share the topic.
+ */
+public class TelemetryDeserializer implements Deserializer<TelemetryData> {
+
+    private static final ObjectReader JSON = new ObjectMapper().readerFor(TelemetryData.class);
+
+    private final TelemetryBinaryCodec codec = new TelemetryBinaryCodec();
+
+    @Override
+    public TelemetryData deserialize(String topic, byte[] payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return TelemetryBinaryCodec.isBinary(payload) ? codec.decode(payload) : JSON.readValue(payload);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not deserialize telemetry record from " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.txt.backend.serialization;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared string dictionary for the binary telemetry format.
+ *
+ * Entries come from {@code telemetry-dictionary.txt} on the classpath. The file is append-only:
+ * codes are line positions, so a consumer can decode anything written with the same or an older file.
+ */
+public final class TelemetryDictionary {
+
+    public static final String RESOURCE = "telemetry-dictionary.txt";
+
+    private static final TelemetryDictionary DEFAULT = load();
+
+    private final String[] entries;
+    private final Map<String, Integer> codes;
+
+    TelemetryDictionary(List<String> entries) {
+        this.entries = entries.toArray(String[]::new);
+        this.codes = new HashMap<>(entries.size() * 2);
+        for (int i = 0; i < this.entries.length; i++) {
+            codes.putIfAbsent(this.entries[i], i);
+        }
+    }
+
+    public static TelemetryDictionary getDefault() {
+        return DEFAULT;
+    }
+
+    /** Dictionary code of the value, or -1 when it has to be written inline. */
+    public int codeOf(String value) {
+        Integer code = codes.get(value);
+        return code == null ? -1 : code;
+    }
+
+    public String valueOf(int code) {
+        if (code < 0 || code >= entries.length) {
+            throw new IllegalArgumentException("Unknown telemetry dictionary code " + code
+                    + " (dictionary has " + entries.length + " entries; producer dictionary is newer)");
+        }
+        return entries[code];
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    private static TelemetryDictionary load() {
+        InputStream in = TelemetryDictionary.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (in == null) {
+            return new TelemetryDictionary(List.of());
+        }
+        List<String> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String entry = line.strip();
+                if (!entry.isEmpty() && !entry.startsWith("#")) {
+                    entries.add(entry);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + RESOURCE, e);
+        }
+        return new TelemetryDictionary(entries);
+    }
+}
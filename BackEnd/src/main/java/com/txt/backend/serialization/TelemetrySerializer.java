@@ -0,0 +1,54 @@
+package com.txt.backend.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.dto.TelemetryData;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.Map;
+
+/**
+ * Kafka value serializer for telemetry.
+ * Writes the compact binary format by default; set {@code telemetry.codec.format=json}
+ * in the producer properties to publish readable JSON while debugging.
+ */
+public class TelemetrySerializer implements Serializer<TelemetryData> {
+
+    public static final String FORMAT_CONFIG = "telemetry.codec.format";
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final TelemetryBinaryCodec codec = new TelemetryBinaryCodec();
+    private TelemetryCodecFormat format = TelemetryCodecFormat.BINARY;
+
+    public TelemetrySerializer() {
+    }
+
+    public TelemetrySerializer(TelemetryCodecFormat format) {
+        this.format = format;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object configured = configs.get(FORMAT_CONFIG);
+        if (configured != null) {
+            format = TelemetryCodecFormat.valueOf(configured.toString().trim().toUpperCase());
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, TelemetryData data) {
+        if (data == null) {
+            return null;
+        }
+        if (format == TelemetryCodecFormat.BINARY) {
+            return codec.encode(data);
+        }
+        try {
+            return JSON.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Could not serialize telemetry from sensor " + data.getSensorId(), e);
+        }
+    }
+}
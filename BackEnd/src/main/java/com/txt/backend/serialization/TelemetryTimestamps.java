@@ -0,0 +1,209 @@
+package com.txt.backend.serialization;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneRules;
+
+/**
+ * Conversions between the free-form {@code TelemetryData.timestamp} string and epoch microseconds.
+ * Timestamps without an offset (e.g. {@code LocalDateTime.now().toString()}) are read in the JVM zone.
+ * Fractions finer than a microsecond are truncated; {@link #hasSubMicros} tells when that loses digits.
+ *
+ * The common {@code LocalDateTime} shape is parsed and formatted by hand when the JVM zone has a fixed
+ * offset (UTC on servers): java.time parsing costs microseconds, which dominated the codec.
+ */
+public final class TelemetryTimestamps {
+
+    /** Returned by {@link #toEpochMicros(String)} when the string is not an ISO-8601 date-time. */
+    public static final long UNPARSEABLE = Long.MIN_VALUE;
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final ZoneOffset FIXED_OFFSET = fixedOffset(ZONE);
+
+    private TelemetryTimestamps() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static long toEpochMicros(String timestamp) {
+        if (timestamp == null || timestamp.isEmpty()) {
+            return UNPARSEABLE;
+        }
+        if (FIXED_OFFSET != null && !hasOffset(timestamp)) {
+            long micros = parseLocalFast(timestamp);
+            if (micros != UNPARSEABLE) {
+                return micros;
+            }
+        }
+        try {
+            return toEpochMicros(hasOffset(timestamp)
+                    ? OffsetDateTime.parse(timestamp).toInstant()
+                    : LocalDateTime.parse(timestamp).atZone(ZONE).toInstant());
+        } catch (DateTimeParseException e) {
+            return UNPARSEABLE;
+        }
+    }
+
+    public static long toEpochMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    public static Instant toInstant(long epochMicros) {
+        return Instant.EPOCH.plus(epochMicros, ChronoUnit.MICROS);
+    }
+
+    /**
+     * Formats micros back to the shape they were parsed from: an offset timestamp becomes a UTC instant,
+     * a local one becomes a {@code LocalDateTime} in the JVM zone.
+     */
+    public static String format(long epochMicros, boolean withOffset) {
+        if (withOffset) {
+            return toInstant(epochMicros).toString();
+        }
+        if (FIXED_OFFSET != null) {
+            return formatLocalFast(epochMicros + FIXED_OFFSET.getTotalSeconds() * MICROS_PER_SECOND);
+        }
+        return LocalDateTime.ofInstant(toInstant(epochMicros), ZONE).toString();
+    }
+
+    static boolean hasOffset(String timestamp) {
+        // An offset is "Z" or a +hh:mm / -hh:mm suffix after the time part
+        int timeStart = timestamp.indexOf('T');
+        if (timeStart < 0) {
+            return false;
+        }
+        char last = timestamp.charAt(timestamp.length() - 1);
+        return last == 'Z' || last == 'z'
+                || timestamp.indexOf('+', timeStart) > 0 || timestamp.indexOf('-', timeStart) > 0;
+    }
+
+    /** True if the fraction of a second has non-zero digits past the microsecond, which epoch micros drop. */
+    static boolean hasSubMicros(String timestamp) {
+        int dot = timestamp.indexOf('.', Math.max(0, timestamp.indexOf('T')));
+        if (dot < 0) {
+            return false;
+        }
+        int end = dot + 1;
+        while (end < timestamp.length() && Character.isDigit(timestamp.charAt(end))) {
+            end++;
+        }
+        for (int i = dot + 7; i < end; i++) {
+            if (timestamp.charAt(i) != '0') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // yyyy-MM-ddTHH:mm[:ss[.f{1,9}]] -> epoch micros, or UNPARSEABLE to fall back to java.time
+    private static long parseLocalFast(String s) {
+        int length = s.length();
+        if (length < 16 || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T' || s.charAt(13) != ':') {
+            return UNPARSEABLE;
+        }
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 7);
+        int day = digits(s, 8, 10);
+        int hour = digits(s, 11, 13);
+        int minute = digits(s, 14, 16);
+        int second = 0;
+        long micros = 0;
+        if (length > 16) {
+            if (length < 19 || s.charAt(16) != ':') {
+                return UNPARSEABLE;
+            }
+            second = digits(s, 17, 19);
+            if (length > 19) {
+                if (s.charAt(19) != '.' || length == 20 || length > 29) {
+                    return UNPARSEABLE;
+                }
+                int fractionDigits = Math.min(length - 20, 6);
+                int fraction = digits(s, 20, 20 + fractionDigits);
+                if (fraction < 0 || (length > 26 && digits(s, 26, length) < 0)) {
+                    return UNPARSEABLE;
+                }
+                micros = fraction;
+                for (int i = fractionDigits; i < 6; i++) {
+                    micros *= 10;
+                }
+            }
+        }
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return UNPARSEABLE;
+        }
+        if (day > 28 && day > LocalDate.of(year, month, 1).lengthOfMonth()) {
+            return UNPARSEABLE;
+        }
+        long epochDay = LocalDate.of(year, month, day).toEpochDay();
+        long epochSecond = epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second
+                - FIXED_OFFSET.getTotalSeconds();
+        return epochSecond * MICROS_PER_SECOND + micros;
+    }
+
+    // Same output as LocalDateTime.toString() for a microsecond-precision value
+    private static String formatLocalFast(long localMicros) {
+        long epochSecond = Math.floorDiv(localMicros, MICROS_PER_SECOND);
+        int micros = (int) Math.floorMod(localMicros, MICROS_PER_SECOND);
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            return LocalDateTime.of(date, LocalTime.ofSecondOfDay(secondOfDay)).withNano(micros * 1000).toString();
+        }
+
+        StringBuilder out = new StringBuilder(26);
+        pad(out, date.getYear(), 4).append('-');
+        pad(out, date.getMonthValue(), 2).append('-');
+        pad(out, date.getDayOfMonth(), 2).append('T');
+        pad(out, secondOfDay / 3600, 2).append(':');
+        pad(out, (secondOfDay / 60) % 60, 2);
+        int second = secondOfDay % 60;
+        if (second > 0 || micros > 0) {
+            out.append(':');
+            pad(out, second, 2);
+            if (micros > 0) {
+                out.append('.');
+                if (micros % 1000 == 0) {
+                    pad(out, micros / 1000, 3);
+                } else {
+                    pad(out, micros, 6);
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private static int digits(String s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static StringBuilder pad(StringBuilder out, int value, int width) {
+        for (int limit = (int) Math.pow(10, width - 1); limit > 1 && value < limit; limit /= 10) {
+            out.append('0');
+        }
+        return out.append(value);
+    }
+
+    private static ZoneOffset fixedOffset(ZoneId zone) {
+        ZoneRules rules = zone.getRules();
+        return rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null;
+    }
+}
@@ -5,14 +5,20 @@ import org.springframework.stereotype.Service;
 @Service
 public class AIService {
 
-    // Method to detect system failures
+    private final RuleEngineService ruleEngineService;
+
+    public AIService(RuleEngineService ruleEngineService) {
+        this.ruleEngineService = ruleEngineService;
+    }
+
+    // Method to detect system failures (a CRITICAL threshold rule counts as a failure)
     public String detectFailures(double oxygenLevel, double energyLevel, boolean hullIntegrity) {
         StringBuilder report = new StringBuilder();
 
-        if (oxygenLevel < 19.5) {
+        if (ruleEngineService.isCritical("oxygen", oxygenLevel)) {
             report.append("FAILURE: Oxygen level critical. ");
         }
-        if (energyLevel < 10) {
+        if (ruleEngineService.isCritical("energy", energyLevel)) {
             report.append("FAILURE: Energy level critical. ");
         }
         if (!hullIntegrity) {
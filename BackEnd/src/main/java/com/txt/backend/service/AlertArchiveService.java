@@ -0,0 +1,237 @@
+package com.txt.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.archive.AlertArchive;
+import com.txt.backend.dto.AlertHistoryQuery;
+import com.txt.backend.model.AlertHistory;
+import com.txt.backend.repository.AlertRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Keeps alert_history to the last {@code retention-days} days: older rows are moved, one day at a time,
+ * into compressed {@link AlertArchive} files and deleted from the table, so the indexes behind the history
+ * API only cover recent alerts. {@link AlertHistoryService} reads the archive once a query runs past the
+ * rows still in the table.
+ *
+ * A day is moved in chunks, oldest first: each chunk is written to its own file before exactly those rows are
+ * deleted, so a crash at any point loses nothing and at worst leaves rows to archive on the next run. Every
+ * row left in the table is newer than every archived one, which keeps the keyset cursor continuous from the
+ * table into the archive, and the files of a day cover consecutive key ranges.
+ */
+@Service
+public class AlertArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertArchiveService.class);
+
+    private static final int DELETE_BATCH = 1_000;
+
+    static final Comparator<AlertHistory> NEWEST_FIRST = Comparator
+            .comparing(AlertHistory::getTimestamp)
+            .thenComparing(AlertHistory::getId)
+            .reversed();
+
+    private final EntityManager entityManager;
+    private final AlertRepository alertRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AlertArchive archive;
+    private final int retentionDays;
+    private final int maxDaysPerRun;
+    private final int chunkRows;
+    private final Counter archivedRows;
+
+    public AlertArchiveService(EntityManager entityManager,
+                               AlertRepository alertRepository,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${alerts.archive.enabled:true}") boolean enabled,
+                               @Value("${alerts.archive.directory:data/alert-archive}") String directory,
+                               @Value("${alerts.archive.retention-days:30}") int retentionDays,
+                               @Value("${alerts.archive.max-days-per-run:7}") int maxDaysPerRun,
+                               @Value("${alerts.archive.chunk-rows:10000}") int chunkRows,
+                               MeterRegistry meterRegistry) {
+        if (retentionDays <= 0) {
+            throw new IllegalArgumentException("Alert retention must be at least one day");
+        }
+        if (chunkRows <= 0) {
+            throw new IllegalArgumentException("Alert archive chunk size must be positive");
+        }
+        this.entityManager = entityManager;
+        this.alertRepository = alertRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archive = enabled ? new AlertArchive(Path.of(directory), objectMapper) : null;
+        this.retentionDays = retentionDays;
+        this.maxDaysPerRun = maxDaysPerRun;
+        this.chunkRows = chunkRows;
+        this.archivedRows = Counter.builder("alerts.archive.rows")
+                .description("Alert history rows moved from the database to archive files")
+                .register(meterRegistry);
+        if (archive != null) {
+            Gauge.builder("alerts.archive.files", archive, AlertArchive::fileCount)
+                    .description("Alert archive files")
+                    .register(meterRegistry);
+            Gauge.builder("alerts.archive.size", archive, AlertArchive::sizeBytes)
+                    .description("Bytes kept in alert archive files")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+
+    public boolean isEnabled() {
+        return archive != null;
+    }
+
+    @Scheduled(initialDelayString = "${alerts.archive.initial-delay-ms:60000}",
+            fixedDelayString = "${alerts.archive.interval-ms:3600000}")
+    public void archiveExpired() {
+        if (archive == null) {
+            return;
+        }
+        try {
+            archiveBefore(LocalDate.now().minusDays(retentionDays));
+        } catch (RuntimeException e) {
+            logger.error("Alert archiving failed, will retry on the next run", e);
+        }
+    }
+
+    /**
+     * Archives the oldest days before {@code cutoff}, at most {@code max-days-per-run} of them.
+     *
+     * @return rows moved to the archive.
+     */
+    public int archiveBefore(LocalDate cutoff) {
+        if (archive == null) {
+            throw new IllegalStateException("Alert archiving is disabled");
+        }
+        int total = 0;
+        for (int days = 0; days < maxDaysPerRun; days++) {
+            LocalDateTime oldest = entityManager
+                    .createQuery("select min(a.timestamp) from AlertHistory a", LocalDateTime.class)
+                    .getSingleResult();
+            if (oldest == null || !oldest.toLocalDate().isBefore(cutoff)) {
+                break;
+            }
+            total += archiveDay(oldest.toLocalDate());
+        }
+        return total;
+    }
+
+    /**
+     * Archived alerts matching the query that sort after ({@code beforeTimestamp}, {@code beforeId}) newest
+     * first, at most {@code max} of them. Files are streamed a row at a time into a heap of the newest
+     * {@code max} matches, and files whose keys all lie at or after the cursor or before that heap are not
+     * opened, so memory is bounded by {@code max} and a page reads about one chunk file however large a day is.
+     */
+    public List<AlertHistory> find(AlertHistoryQuery query, LocalDateTime beforeTimestamp, Long beforeId, int max) {
+        if (archive == null || max <= 0) {
+            return new ArrayList<>();
+        }
+        LocalDateTime before = beforeTimestamp;
+        if (query.to() != null && (before == null || !query.to().isAfter(before))) {
+            before = query.to();
+            beforeId = null; // an exclusive bound on time alone
+        }
+        Predicate<AlertHistory> filter = matches(query, before, beforeId);
+        long beforeKey = beforeId != null ? beforeId : Long.MIN_VALUE;
+        Map<LocalDate, List<Path>> days = before != null
+                ? archive.days().headMap(before.toLocalDate(), true).descendingMap()
+                : archive.days().descendingMap();
+        PriorityQueue<AlertHistory> newest = new PriorityQueue<>(max + 1, NEWEST_FIRST.reversed()); // oldest on top
+        for (Map.Entry<LocalDate, List<Path>> day : days.entrySet()) {
+            if (newest.size() == max
+                    || query.from() != null && day.getKey().isBefore(query.from().toLocalDate())) {
+                break; // earlier days only hold older rows
+            }
+            for (Path file : newestFirst(day.getValue())) {
+                AlertArchive.Range range = archive.range(file);
+                if (range != null && (before != null && !range.startsBefore(before, beforeKey)
+                        || newest.size() == max && !range.endsAfter(newest.peek().getTimestamp(), newest.peek().getId()))) {
+                    continue;
+                }
+                archive.scan(file, filter, row -> {
+                    newest.add(row);
+                    if (newest.size() > max) {
+                        newest.poll();
+                    }
+                });
+            }
+        }
+        List<AlertHistory> found = new ArrayList<>(newest);
+        found.sort(NEWEST_FIRST);
+        return found;
+    }
+
+    // Files of a day with the newest keys first, the ones never read yet before all others
+    private List<Path> newestFirst(List<Path> files) {
+        List<Path> sorted = new ArrayList<>(files);
+        sorted.sort(Comparator.comparing(archive::range,
+                Comparator.nullsFirst(AlertArchive.Range.BY_NEWEST.reversed())));
+        return sorted;
+    }
+
+    private int archiveDay(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+        int moved = 0;
+        List<AlertHistory> chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> entityManager.createQuery(
+                            "select a from AlertHistory a where a.timestamp >= :start and a.timestamp < :end"
+                                    + " order by a.timestamp, a.id", AlertHistory.class)
+                    .setParameter("start", start)
+                    .setParameter("end", end)
+                    .setMaxResults(chunkRows)
+                    .getResultList());
+            if (chunk.isEmpty()) {
+                break;
+            }
+            Path file;
+            try {
+                file = archive.write(day, chunk);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot archive alerts of " + day, e);
+            }
+            List<Long> ids = chunk.stream().map(AlertHistory::getId).toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < ids.size(); from += DELETE_BATCH) {
+                    alertRepository.deleteAllByIdInBatch(ids.subList(from, Math.min(from + DELETE_BATCH, ids.size())));
+                }
+            });
+            entityManager.clear();
+            moved += chunk.size();
+            archivedRows.increment(chunk.size());
+            logger.info("Archived {} alerts of {} to {}", chunk.size(), day, file.getFileName());
+        } while (chunk.size() == chunkRows);
+        return moved;
+    }
+
+    private static Predicate<AlertHistory> matches(AlertHistoryQuery query, LocalDateTime before, Long beforeId) {
+        return alert -> alert.getTimestamp() != null
+                && (query.severity() == null || query.severity().equals(alert.getSeverity()))
+                && (query.systemSource() == null || query.systemSource().equals(alert.getSystemSource()))
+                && (query.from() == null || !alert.getTimestamp().isBefore(query.from()))
+                && (before == null || alert.getTimestamp().isBefore(before)
+                    || beforeId != null && alert.getTimestamp().equals(before) && alert.getId() < beforeId);
+    }
+}
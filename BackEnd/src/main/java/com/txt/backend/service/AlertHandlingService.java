@@ -0,0 +1,125 @@
+package com.txt.backend.service;
+
+import com.txt.backend.alerting.AlertLane;
+import com.txt.backend.dto.SystemAlert;
+import com.txt.backend.model.AlertHistory;
+import com.txt.backend.repository.AlertRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What the bridge does with an alert, whichever way it arrived: the AI response and the flight log entry.
+ * Fed by {@link CentralCommandListener} from RabbitMQ and by {@link InProcessAlertSender}
+ * in 'dev', so both run the same pipeline.
+ */
+@Service
+public class AlertHandlingService {
+
+    private final AIService aiService;
+    private final AlertRepository alertRepository;
+    private final Map<AlertLane, Timer> laneLatency = new EnumMap<>(AlertLane.class);
+
+    public AlertHandlingService(AIService aiService, AlertRepository alertRepository,
+                                MeterRegistry meterRegistry) {
+        this.aiService = aiService;
+        this.alertRepository = alertRepository;
+        for (AlertLane lane : AlertLane.values()) {
+            laneLatency.put(lane, Timer.builder("alerts.consumer.latency")
+                    .description("Time from an alert being raised to it being stored in the flight log;"
+                            + " single alerts only, as a coalesced summary carries its first alert's timestamp")
+                    .tag("lane", lane.key())
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Transactional
+    public void handle(SystemAlert alert) {
+        // This simulates the Main Bridge Console receiving the data
+        System.out.println("==========================================");
+        System.out.println(" [!] ALERT RECEIVED AT BRIDGE [!]");
+        System.out.println(" SOURCE: " + alert.getSystemSource());
+        System.out.println(" SEVERITY: " + alert.getSeverity());
+        System.out.println(" MESSAGE: " + alert.getMessage());
+        System.out.println(" OCCURRENCES: " + occurrences(alert));
+        System.out.println("==========================================");
+
+        String actionTaken = respond(alert);
+        if (!"PENDING_MANUAL_REVIEW".equals(actionTaken)) {
+            System.out.println(" AI AUTO-RESPONSE: " + actionTaken);
+        }
+
+        // Persist the event to the MySQL Black Box (Database)
+        alertRepository.save(toHistory(alert, actionTaken));
+        recordLatency(AlertLane.of(alert.getSeverity()), List.of(alert));
+        System.out.println(" [✓] Alert verified and saved to flight log (MySQL).");
+    }
+
+    /**
+     * The AI response runs for every alert, then the whole batch is stored in one transaction with JDBC
+     * batch inserts.
+     */
+    @Transactional
+    public void handleBatch(AlertLane lane, List<SystemAlert> alerts) {
+        List<AlertHistory> history = new ArrayList<>(alerts.size());
+        StringBuilder report = new StringBuilder()
+                .append("==========================================\n")
+                .append(" [!] ").append(alerts.size()).append(" ALERTS RECEIVED AT BRIDGE [!]\n");
+        for (SystemAlert alert : alerts) {
+            String actionTaken = respond(alert);
+            history.add(toHistory(alert, actionTaken));
+            report.append(' ').append(alert.getSeverity()).append(' ').append(alert.getSystemSource())
+                    .append(" x").append(occurrences(alert)).append(": ").append(alert.getMessage())
+                    .append(" -> ").append(actionTaken).append('\n');
+        }
+
+        alertRepository.saveAll(history);
+        recordLatency(lane, alerts);
+        report.append(" [✓] Alerts verified and saved to flight log (MySQL).\n")
+                .append("==========================================");
+        System.out.println(report);
+    }
+
+    private void recordLatency(AlertLane lane, List<SystemAlert> alerts) {
+        Timer timer = laneLatency.get(lane);
+        LocalDateTime now = LocalDateTime.now();
+        for (SystemAlert alert : alerts) {
+            // A summary was held back for its suppression window on purpose; that is not transport latency
+            if (alert.getTimestamp() != null && occurrences(alert) == 1) {
+                timer.record(Duration.between(alert.getTimestamp(), now));
+            }
+        }
+    }
+
+    // Automated Response Integration: AI takes over to coordinate repair automatically
+    private String respond(SystemAlert alert) {
+        if ("CRITICAL".equals(alert.getSeverity())) {
+            return aiService.coordinateDroidRepair("oxygen", 2);
+        }
+        return "PENDING_MANUAL_REVIEW";
+    }
+
+    private static AlertHistory toHistory(SystemAlert alert, String actionTaken) {
+        return AlertHistory.builder()
+                .systemSource(alert.getSystemSource())
+                .severity(alert.getSeverity())
+                .message(alert.getMessage())
+                .timestamp(alert.getTimestamp())
+                .automatedActionTaken(actionTaken)
+                .occurrences(occurrences(alert))
+                .build();
+    }
+
+    private static int occurrences(SystemAlert alert) {
+        return alert.getOccurrences() != null ? alert.getOccurrences() : 1;
+    }
+}
@@ -0,0 +1,142 @@
+package com.txt.backend.service;
+
+import com.txt.backend.dto.AlertHistoryPage;
+import com.txt.backend.dto.AlertHistoryQuery;
+import com.txt.backend.model.AlertHistory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads the alert history with keyset pagination on (timestamp, id), newest first.
+ *
+ * A page continues strictly after the last row of the previous one, so each query is an index range scan
+ * of at most {@code limit + 1} rows however deep the client pages, and rows inserted meanwhile never shift
+ * the pages. The cursor is that last row's (timestamp, id), encoded as an opaque token.
+ *
+ * Alerts older than the retention period live in {@link AlertArchiveService} files; a page that runs past the
+ * rows still in the table continues into the archive with the same ordering and cursor.
+ */
+@Service
+public class AlertHistoryService {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final AlertArchiveService alertArchiveService;
+
+    public AlertHistoryService(EntityManager entityManager, AlertArchiveService alertArchiveService) {
+        this.entityManager = entityManager;
+        this.alertArchiveService = alertArchiveService;
+    }
+
+    /**
+     * @param cursor {@code nextCursor} of the previous page, or null for the newest alerts.
+     * @throws IllegalArgumentException if the cursor is malformed or the limit is out of range.
+     */
+    public AlertHistoryPage findPage(AlertHistoryQuery query, String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Parameter 'limit' must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (query.from() != null && query.to() != null && !query.from().isBefore(query.to())) {
+            throw new IllegalArgumentException("Time range start must be before its end");
+        }
+        return fetch(query, cursor != null ? Cursor.decode(cursor) : null, limit);
+    }
+
+    /**
+     * Visits every matching alert, newest first, one page at a time; memory use does not depend on the
+     * number of rows. Each page is read by its own short query, so no connection is held between pages.
+     */
+    public void export(AlertHistoryQuery query, Consumer<AlertHistory> visitor) {
+        Cursor after = null;
+        do {
+            AlertHistoryPage page = fetch(query, after, EXPORT_PAGE_SIZE);
+            page.items().forEach(visitor);
+            after = page.nextCursor() != null ? Cursor.of(page.items().get(page.items().size() - 1)) : null;
+            entityManager.clear();
+        } while (after != null);
+    }
+
+    private AlertHistoryPage fetch(AlertHistoryQuery query, Cursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AlertHistory> criteria = cb.createQuery(AlertHistory.class);
+        Root<AlertHistory> alert = criteria.from(AlertHistory.class);
+        Path<LocalDateTime> timestamp = alert.get("timestamp");
+        Path<Long> id = alert.get("id");
+
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.isNotNull(timestamp));
+        if (query.severity() != null) {
+            where.add(cb.equal(alert.get("severity"), query.severity()));
+        }
+        if (query.systemSource() != null) {
+            where.add(cb.equal(alert.get("systemSource"), query.systemSource()));
+        }
+        if (query.from() != null) {
+            where.add(cb.greaterThanOrEqualTo(timestamp, query.from()));
+        }
+        if (query.to() != null) {
+            where.add(cb.lessThan(timestamp, query.to()));
+        }
+        if (after != null) {
+            where.add(cb.or(
+                    cb.lessThan(timestamp, after.timestamp()),
+                    cb.and(cb.equal(timestamp, after.timestamp()), cb.lessThan(id, after.id()))));
+        }
+        criteria.select(alert)
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.desc(timestamp), cb.desc(id));
+
+        // One extra row tells whether another page exists
+        List<AlertHistory> rows = entityManager.createQuery(criteria).setMaxResults(limit + 1).getResultList();
+        if (rows.size() <= limit && alertArchiveService.isEnabled()) {
+            // The table ran out before the page filled up: continue after its last row in the archive
+            Cursor last = rows.isEmpty() ? after : Cursor.of(rows.get(rows.size() - 1));
+            rows = new ArrayList<>(rows);
+            rows.addAll(alertArchiveService.find(query, last != null ? last.timestamp() : null,
+                    last != null ? last.id() : null, limit + 1 - rows.size()));
+        }
+        if (rows.size() <= limit) {
+            return new AlertHistoryPage(rows, null);
+        }
+        List<AlertHistory> items = rows.subList(0, limit);
+        return new AlertHistoryPage(items, Cursor.of(items.get(limit - 1)).encode());
+    }
+
+    private record Cursor(LocalDateTime timestamp, long id) {
+
+        static Cursor of(AlertHistory last) {
+            return new Cursor(last.getTimestamp(), last.getId());
+        }
+
+        String encode() {
+            String raw = timestamp + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
+    }
+}
@@ -3,5 +3,9 @@ package com.txt.backend.service;
 import com.txt.backend.dto.SystemAlert;
 
 public interface AlertSender {
+
+    /** Qualifies the sender that actually delivers alerts; the primary sender coalesces in front of it. */
+    String TRANSPORT = "alertTransport";
+
     void sendCriticalAlert(SystemAlert alert);
 }
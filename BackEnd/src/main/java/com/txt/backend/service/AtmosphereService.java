@@ -1,36 +1,33 @@
 package com.txt.backend.service;
 
-import com.txt.backend.dto.SystemAlert;
+import com.txt.backend.config.Constants;
+import com.txt.backend.rules.RuleSeverity;
+import com.txt.backend.rules.ThresholdRule;
 import org.springframework.stereotype.Service;
-import java.time.LocalDateTime;
 
 @Service
 public class AtmosphereService {
 
-    private static final double IDEAL_OXYGEN_LEVEL = 20.5; // Ideal Oxygen %
-    private static final double CRITICAL_OXYGEN_LEVEL = 19.5; // Critical Oxygen %
+    private static final String OXYGEN = "oxygen";
 
     private final AlertSender alertSender;
+    private final RuleEngineService ruleEngineService;
 
-    public AtmosphereService(AlertSender alertSender) {
+    public AtmosphereService(AlertSender alertSender, RuleEngineService ruleEngineService) {
         this.alertSender = alertSender;
+        this.ruleEngineService = ruleEngineService;
     }
 
-    // Method to monitor oxygen levels
+    // Method to monitor oxygen levels (thresholds come from the "oxygen" rules)
     public String monitorOxygenLevel(double currentOxygenLevel, double co2Level) {
-        if (currentOxygenLevel < CRITICAL_OXYGEN_LEVEL) {
-            // FIRE AND FORGET: Async notification
-            SystemAlert alert = SystemAlert.builder()
-                    .systemSource("LIFE_SUPPORT")
-                    .severity("CRITICAL")
-                    .message("Oxygen level hypoxic: " + currentOxygenLevel + "%")
-                    .timestamp(LocalDateTime.now())
-                    .build();
-            
-            alertSender.sendCriticalAlert(alert);
-
+        ThresholdRule rule = ruleEngineService.evaluate(OXYGEN, currentOxygenLevel);
+        if (rule != null && rule.severity() == RuleSeverity.CRITICAL) {
+            if (rule.alert()) {
+                // FIRE AND FORGET: Async notification
+                alertSender.sendCriticalAlert(rule.toAlert(null, currentOxygenLevel));
+            }
             return "CRITICAL: Oxygen level too low! Activating emergency protocols.";
-        } else if (currentOxygenLevel < IDEAL_OXYGEN_LEVEL) {
+        } else if (rule != null && rule.severity() != RuleSeverity.INFO) {
             return "WARNING: Oxygen level below ideal. Adjusting atmosphere generator.";
         } else {
             return "NORMAL: Oxygen level stable.";
@@ -41,7 +38,7 @@ public class AtmosphereService {
     public double calculateOxygenProduction(int crewSize, double currentOxygenLevel) {
         // Approximate consumption: 0.5 L/min per person
         double consumptionRate = crewSize * 0.5;
-        double deficit = IDEAL_OXYGEN_LEVEL - currentOxygenLevel;
+        double deficit = Constants.IDEAL_OXYGEN_LEVEL - currentOxygenLevel;
         return consumptionRate + (deficit > 0 ? deficit * 10 : 0); // Simplified adjustment
     }
 
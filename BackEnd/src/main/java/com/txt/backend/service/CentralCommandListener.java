@@ -1,54 +1,52 @@
 package com.txt.backend.service;
 
+import com.txt.backend.alerting.AlertLane;
 import com.txt.backend.config.RabbitMQConfig;
 import com.txt.backend.dto.SystemAlert;
-import com.txt.backend.model.AlertHistory;
-import com.txt.backend.repository.AlertRepository;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @Profile("!dev") // Desabilita o listener RabbitMQ no perfil 'dev'
 public class CentralCommandListener {
 
-    private final AIService aiService;
-    private final AlertRepository alertRepository;
+    private final AlertHandlingService alertHandlingService;
 
-    public CentralCommandListener(AIService aiService, AlertRepository alertRepository) {
-        this.aiService = aiService;
-        this.alertRepository = alertRepository;
+    public CentralCommandListener(AlertHandlingService alertHandlingService) {
+        this.alertHandlingService = alertHandlingService;
     }
 
-    @RabbitListener(queues = RabbitMQConfig.CRITICAL_ALERTS_QUEUE)
+    // One message at a time; only runs when alerts.consumer.batch.enabled=false
+    @RabbitListener(queues = {RabbitMQConfig.CRITICAL_ALERTS_QUEUE, RabbitMQConfig.WARNING_ALERTS_QUEUE,
+            RabbitMQConfig.INFO_ALERTS_QUEUE},
+            autoStartup = "#{!${alerts.consumer.batch.enabled:true}}")
     public void handleCriticalAlert(SystemAlert alert) {
-        // This simulates the Main Bridge Console receiving the data
-        System.out.println("==========================================");
-        System.out.println(" [!] ALERT RECEIVED AT BRIDGE [!]");
-        System.out.println(" SOURCE: " + alert.getSystemSource());
-        System.out.println(" SEVERITY: " + alert.getSeverity());
-        System.out.println(" MESSAGE: " + alert.getMessage());
-        System.out.println("==========================================");
-
-        String actionTaken = "PENDING_MANUAL_REVIEW";
-
-        // Automated Response Integration
-        if ("CRITICAL".equals(alert.getSeverity())) {
-            // AI takes over to coordinate repair automatically
-            actionTaken = aiService.coordinateDroidRepair("oxygen", 2); 
-            System.out.println(" AI AUTO-RESPONSE: " + actionTaken);
-        }
-
-        // Persist the event to the MySQL Black Box (Database)
-        AlertHistory history = AlertHistory.builder()
-                .systemSource(alert.getSystemSource())
-                .severity(alert.getSeverity())
-                .message(alert.getMessage())
-                .timestamp(alert.getTimestamp())
-                .automatedActionTaken(actionTaken)
-                .build();
-        
-        alertRepository.save(history);
-        System.out.println(" [✓] Alert verified and saved to flight log (MySQL).");
+        alertHandlingService.handle(alert);
+    }
+
+    // Batch mode: each lane has its own container (see RabbitMQConfig), so a backlog in one never starves another.
+    // Messages are acked only after the batch commits, so a batch that fails is redelivered.
+    @RabbitListener(queues = RabbitMQConfig.CRITICAL_ALERTS_QUEUE,
+            containerFactory = RabbitMQConfig.CRITICAL_LANE_LISTENER_FACTORY,
+            autoStartup = "${alerts.consumer.batch.enabled:true}")
+    public void handleCriticalAlerts(List<SystemAlert> alerts) {
+        alertHandlingService.handleBatch(AlertLane.CRITICAL, alerts);
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.WARNING_ALERTS_QUEUE,
+            containerFactory = RabbitMQConfig.WARNING_LANE_LISTENER_FACTORY,
+            autoStartup = "${alerts.consumer.batch.enabled:true}")
+    public void handleWarningAlerts(List<SystemAlert> alerts) {
+        alertHandlingService.handleBatch(AlertLane.WARNING, alerts);
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.INFO_ALERTS_QUEUE,
+            containerFactory = RabbitMQConfig.INFO_LANE_LISTENER_FACTORY,
+            autoStartup = "${alerts.consumer.batch.enabled:true}")
+    public void handleInfoAlerts(List<SystemAlert> alerts) {
+        alertHandlingService.handleBatch(AlertLane.INFO, alerts);
     }
 }
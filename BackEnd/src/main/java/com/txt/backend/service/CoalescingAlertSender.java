@@ -0,0 +1,73 @@
+package com.txt.backend.service;
+
+import com.txt.backend.alerting.AlertCoalescer;
+import com.txt.backend.dto.SystemAlert;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * The {@link AlertSender} the application injects: debounces repeated alerts per source and severity
+ * before they reach the transport (RabbitMQ, or the console in 'dev').
+ *
+ * A hypoxic reading sampled at 10 Hz used to publish ten alerts a second, each stored in alert_history;
+ * now it publishes one alert, escalations when the value gets worse, and one summary with the
+ * occurrence count per suppression window.
+ */
+@Service
+@Primary
+public class CoalescingAlertSender implements AlertSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingAlertSender.class);
+
+    private final AlertSender transport;
+    private final AlertCoalescer coalescer;
+
+    private final Counter sent;
+    private final Counter suppressed;
+
+    public CoalescingAlertSender(@Qualifier(AlertSender.TRANSPORT) AlertSender transport,
+                                 @Value("${telemetry.alerts.coalesce.window-ms:30000}") long windowMillis,
+                                 @Value("${telemetry.alerts.coalesce.windows:}") String windows,
+                                 @Value("${telemetry.alerts.coalesce.escalation-ratio:0.25}") double escalationRatio,
+                                 MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.coalescer = new AlertCoalescer(windowMillis, AlertCoalescer.parseWindows(windows), escalationRatio);
+        this.sent = Counter.builder("alerts.sent")
+                .description("Alerts handed to the transport after coalescing")
+                .register(meterRegistry);
+        this.suppressed = Counter.builder("alerts.suppressed")
+                .description("Alerts folded into another alert's occurrence count")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void sendCriticalAlert(SystemAlert alert) {
+        SystemAlert send = coalescer.offer(alert, System.nanoTime());
+        if (send == null) {
+            suppressed.increment();
+            return;
+        }
+        transport.sendCriticalAlert(send);
+        sent.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${telemetry.alerts.coalesce.flush-interval-ms:1000}")
+    public void flush() {
+        for (SystemAlert summary : coalescer.flush(System.nanoTime())) {
+            try {
+                transport.sendCriticalAlert(summary);
+                sent.increment();
+            } catch (RuntimeException e) {
+                logger.error("Failed to send coalesced alert from {} ({} occurrences)",
+                        summary.getSystemSource(), summary.getOccurrences(), e);
+            }
+        }
+    }
+}
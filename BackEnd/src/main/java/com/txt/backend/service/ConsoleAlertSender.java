@@ -1,11 +1,15 @@
 package com.txt.backend.service;
 
 import com.txt.backend.dto.SystemAlert;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 @Service
+@Qualifier(AlertSender.TRANSPORT)
 @Profile("dev") // In 'dev', use Console sender (Mock)
+@ConditionalOnProperty(name = "alerts.bus.enabled", havingValue = "false") // otherwise InProcessAlertSender
 public class ConsoleAlertSender implements AlertSender {
 
     @Override
@@ -15,6 +19,9 @@ public class ConsoleAlertSender implements AlertSender {
         System.out.println(" SOURCE: " + alert.getSystemSource());
         System.out.println(" MESSAGE: " + alert.getMessage());
         System.out.println(" SEVERITY: " + alert.getSeverity());
+        if (alert.getOccurrences() != null && alert.getOccurrences() > 1) {
+            System.out.println(" OCCURRENCES: " + alert.getOccurrences());
+        }
         System.out.println("=============================================");
     }
 }
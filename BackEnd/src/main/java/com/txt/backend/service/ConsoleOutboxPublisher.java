@@ -0,0 +1,20 @@
+package com.txt.backend.service;
+
+import com.txt.backend.model.OutboxEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Profile("dev") // In 'dev', use Console publisher (Mock)
+public class ConsoleOutboxPublisher implements OutboxPublisher {
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            System.out.println(" [MOCK RABBITMQ] Outbox event " + event.getId() + " " + event.getEventType()
+                    + " (" + event.getRoutingKey() + "): " + event.getPayload());
+        }
+    }
+}
@@ -1,15 +1,25 @@
 package com.txt.backend.service;
 
+import com.txt.backend.rules.RuleSeverity;
 import org.springframework.stereotype.Service;
 
 @Service
 public class EnergyManagementService {
 
-    // Method to prioritize critical systems post-warp
+    private static final String ENERGY = "energy";
+
+    private final RuleEngineService ruleEngineService;
+
+    public EnergyManagementService(RuleEngineService ruleEngineService) {
+        this.ruleEngineService = ruleEngineService;
+    }
+
+    // Method to prioritize critical systems post-warp (thresholds come from the "energy" rules)
     public String prioritizeSystems(double currentEnergy) {
-        if (currentEnergy < 10) {
+        RuleSeverity severity = ruleEngineService.severityOf(ENERGY, currentEnergy);
+        if (severity == RuleSeverity.CRITICAL) {
             return "CRITICAL: Energy low. Prioritizing life support, navigation, and communication.";
-        } else if (currentEnergy < 30) {
+        } else if (severity != null && severity != RuleSeverity.INFO) {
             return "WARNING: Energy moderate. Maintaining essential systems, suspending non-critical.";
         } else {
             return "NORMAL: Energy sufficient. All systems operational.";
@@ -0,0 +1,180 @@
+package com.txt.backend.service;
+
+import com.txt.backend.dto.TelemetryData;
+import com.txt.backend.flightlog.FlightLog;
+import com.txt.backend.serialization.TelemetryBinaryCodec;
+import com.txt.backend.serialization.TelemetryTimestamps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Telemetry "black box": every consumed reading is appended to a local memory-mapped {@link FlightLog}
+ * in the binary wire format, instead of one database row per reading.
+ * Records are indexed by the time they were recorded, which is what range reads and replays use.
+ * A batch that cannot be appended is counted in {@code telemetry.flightlog.errors} and is absent from the
+ * log; it can still be re-read from the Kafka topic within the topic's retention.
+ */
+@Service
+@Order(40)
+public class FlightLogService implements TelemetryProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightLogService.class);
+
+    private static final long RETENTION_CHECK_INTERVAL_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final TelemetryBinaryCodec codec = new TelemetryBinaryCodec();
+    private final FlightLog flightLog;
+    private final boolean forceEachBatch;
+    private final Counter recordsWritten;
+    private final Counter bytesWritten;
+    private final Counter writeErrors;
+    private long lastRetentionCheck;
+
+    public FlightLogService(@Value("${telemetry.flight-log.enabled:true}") boolean enabled,
+                            @Value("${telemetry.flight-log.directory:data/flight-log}") String directory,
+                            @Value("${telemetry.flight-log.segment-bytes:67108864}") int segmentBytes,
+                            @Value("${telemetry.flight-log.index-interval-bytes:4096}") int indexIntervalBytes,
+                            @Value("${telemetry.flight-log.retention-bytes:1073741824}") long retentionBytes,
+                            @Value("${telemetry.flight-log.retention-hours:168}") long retentionHours,
+                            @Value("${telemetry.flight-log.force-each-batch:false}") boolean forceEachBatch,
+                            MeterRegistry meterRegistry) {
+        this.forceEachBatch = forceEachBatch;
+        this.flightLog = enabled
+                ? open(Path.of(directory), segmentBytes, indexIntervalBytes, retentionBytes, TimeUnit.HOURS.toMicros(retentionHours))
+                : null;
+        this.recordsWritten = Counter.builder("telemetry.flightlog.records")
+                .description("Telemetry records appended to the flight log")
+                .register(meterRegistry);
+        this.bytesWritten = Counter.builder("telemetry.flightlog.bytes")
+                .description("Payload bytes appended to the flight log")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.writeErrors = Counter.builder("telemetry.flightlog.errors")
+                .description("Batches that could not be appended to the flight log")
+                .register(meterRegistry);
+        if (flightLog != null) {
+            Gauge.builder("telemetry.flightlog.size", flightLog, FlightLog::sizeBytes)
+                    .description("Bytes kept in flight log segments")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            Gauge.builder("telemetry.flightlog.segments", flightLog, FlightLog::segmentCount)
+                    .description("Flight log segment files")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void process(List<TelemetryData> batch) {
+        if (flightLog == null) {
+            return;
+        }
+        List<byte[]> payloads = new ArrayList<>(batch.size());
+        long bytes = 0;
+        for (TelemetryData data : batch) {
+            byte[] payload = codec.encode(data);
+            payloads.add(payload);
+            bytes += payload.length;
+        }
+        try {
+            long now = TelemetryTimestamps.toEpochMicros(Instant.now());
+            flightLog.append(now, payloads);
+            if (forceEachBatch) {
+                flightLog.force();
+            }
+            recordsWritten.increment(payloads.size());
+            bytesWritten.increment(bytes);
+            enforceRetention(now);
+        } catch (IOException | RuntimeException e) {
+            writeErrors.increment();
+            logger.error("Failed to append {} readings to the flight log", payloads.size(), e);
+        }
+    }
+
+    @Override
+    public boolean supportsReplay() {
+        return false;
+    }
+
+    /** Streams the raw frames recorded in {@code [from, to)} to {@code target} (zero-copy). */
+    public long transferTo(Instant from, Instant to, WritableByteChannel target) throws IOException {
+        return requireLog().transferTo(TelemetryTimestamps.toEpochMicros(from), TelemetryTimestamps.toEpochMicros(to), target);
+    }
+
+    /** Visits the encoded readings recorded in {@code [from, to)}, oldest first. */
+    public void read(Instant from, Instant to, FlightLog.RecordVisitor visitor) throws IOException {
+        requireLog().read(TelemetryTimestamps.toEpochMicros(from), TelemetryTimestamps.toEpochMicros(to), visitor);
+    }
+
+    public TelemetryData decode(byte[] payload) {
+        return codec.decode(payload);
+    }
+
+    public boolean isEnabled() {
+        return flightLog != null;
+    }
+
+    public long sizeBytes() {
+        return requireLog().sizeBytes();
+    }
+
+    public int segmentCount() {
+        return requireLog().segmentCount();
+    }
+
+    public long recordedTotal() {
+        return requireLog().nextOffset();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (flightLog != null) {
+            flightLog.close();
+        }
+    }
+
+    private synchronized void enforceRetention(long nowMicros) throws IOException {
+        if (nowMicros - lastRetentionCheck < RETENTION_CHECK_INTERVAL_MICROS) {
+            return;
+        }
+        lastRetentionCheck = nowMicros;
+        int removed = flightLog.enforceRetention(nowMicros);
+        if (removed > 0) {
+            logger.info("Flight log retention removed {} segment(s)", removed);
+        }
+    }
+
+    private FlightLog requireLog() {
+        if (flightLog == null) {
+            throw new IllegalStateException("The telemetry flight log is disabled");
+        }
+        return flightLog;
+    }
+
+    private static FlightLog open(Path directory, int segmentBytes, int indexIntervalBytes,
+                                  long retentionBytes, long retentionMicros) {
+        try {
+            FlightLog log = new FlightLog(directory, segmentBytes, indexIntervalBytes, retentionBytes, retentionMicros);
+            logger.info("Flight log opened at {} ({} segment(s), {} bytes)",
+                    directory.toAbsolutePath(), log.segmentCount(), log.sizeBytes());
+            return log;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the telemetry flight log at " + directory, e);
+        }
+    }
+}
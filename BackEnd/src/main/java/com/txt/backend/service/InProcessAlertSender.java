@@ -0,0 +1,76 @@
+package com.txt.backend.service;
+
+import com.txt.backend.alerting.AlertLane;
+import com.txt.backend.alerting.AlertRingBus;
+import com.txt.backend.dto.SystemAlert;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The 'dev' transport: delivers alerts through an in-process {@link AlertRingBus} per severity lane to
+ * {@link AlertHandlingService}, the same handling CentralCommandListener runs in production, so the
+ * alert pipeline can be load tested locally without a broker.
+ */
+@Service
+@Qualifier(AlertSender.TRANSPORT)
+@Profile("dev")
+@ConditionalOnProperty(name = "alerts.bus.enabled", havingValue = "true", matchIfMissing = true)
+public class InProcessAlertSender implements AlertSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(InProcessAlertSender.class);
+
+    private final Map<AlertLane, AlertRingBus> buses = new EnumMap<>(AlertLane.class);
+
+    public InProcessAlertSender(AlertHandlingService alertHandlingService,
+                                @Value("${alerts.bus.capacity:65536}") int capacity,
+                                @Value("${alerts.bus.batch-size:100}") int batchSize,
+                                MeterRegistry meterRegistry) {
+        for (AlertLane lane : AlertLane.values()) {
+            AlertRingBus bus = new AlertRingBus("alert-bus-" + lane.key(), capacity, batchSize,
+                    batch -> alertHandlingService.handleBatch(lane, batch));
+            buses.put(lane, bus);
+            Gauge.builder("alerts.bus.depth", bus, AlertRingBus::depth)
+                    .description("Alerts published to the in-process bus and not yet handled")
+                    .tag("lane", lane.key())
+                    .register(meterRegistry);
+            FunctionCounter.builder("alerts.bus.delivered", bus, AlertRingBus::deliveredCount)
+                    .description("Alerts handled from the in-process bus")
+                    .tag("lane", lane.key())
+                    .register(meterRegistry);
+            FunctionCounter.builder("alerts.bus.failed", bus, AlertRingBus::failedCount)
+                    .description("Alerts lost because handling them failed")
+                    .tag("lane", lane.key())
+                    .register(meterRegistry);
+            FunctionCounter.builder("alerts.bus.dropped", bus, AlertRingBus::droppedCount)
+                    .description("Alerts dropped because the ring was full")
+                    .tag("lane", lane.key())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void sendCriticalAlert(SystemAlert alert) {
+        AlertLane lane = AlertLane.of(alert.getSeverity());
+        if (!buses.get(lane).tryPublish(alert)) {
+            logger.error("Alert bus full for lane {}, dropping alert from {}: {}",
+                    lane.key(), alert.getSystemSource(), alert.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        buses.values().forEach(AlertRingBus::close);
+    }
+}
@@ -1,10 +1,21 @@
 package com.txt.backend.service;
 
 import com.txt.backend.config.KafkaConfig;
+import com.txt.backend.dto.TelemetryData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
 @Service
 @Slf4j
 /**
@@ -13,19 +24,74 @@ import org.springframework.stereotype.Service;
  */
 public class KafkaConsumerService {
 
+    private final TelemetryPipeline pipeline;
+
+    private final Counter recordsConsumed;
+    private final Counter invalidRecords;
+    private final Timer batchLatency;
+
+    // records/sec, measured between two reads of the gauge (at least one second apart)
+    private final LongAdder consumed = new LongAdder();
+    private long rateWindowStart = System.nanoTime();
+    private long rateWindowCount;
+    private double recordsPerSecond;
+
+    public KafkaConsumerService(TelemetryPipeline pipeline, MeterRegistry meterRegistry) {
+        this.pipeline = pipeline;
+        this.recordsConsumed = Counter.builder("telemetry.consumer.records")
+                .description("Telemetry records consumed from Kafka")
+                .register(meterRegistry);
+        this.invalidRecords = Counter.builder("telemetry.consumer.invalid")
+                .description("Telemetry records skipped because they could not be deserialized")
+                .register(meterRegistry);
+        this.batchLatency = Timer.builder("telemetry.consumer.batch.latency")
+                .description("Time to deserialize and process one polled batch")
+                .register(meterRegistry);
+        Gauge.builder("telemetry.consumer.throughput", this, KafkaConsumerService::currentRecordsPerSecond)
+                .description("Telemetry records consumed per second")
+                .baseUnit("records/s")
+                .register(meterRegistry);
+    }
+
     // groupId identifies who is reading. Multiple services can read the same topic if they use different groupIds.
     // If another service uses the same groupId, Kafka splits the load (balancing).
-    @KafkaListener(topics = KafkaConfig.TELEMETRY_TOPIC, groupId = "mission-control-dashboard")
-    public void listen(String message) {
-        // Raw JSON string arrives here. In a real system, we would convert it back to an object (deserialization).
-        log.info("Kafka Recebeu: {}", message);
-        
-        // Processing simulation (e.g., save to DB, update dashboard via WebSocket)
-        processTelemetry(message);
+    // Each poll is delivered as one batch; the container commits its offsets once this method returns,
+    // also when a processor failed on it (see TelemetryProcessor).
+    @KafkaListener(topics = KafkaConfig.TELEMETRY_TOPIC, groupId = "mission-control-dashboard",
+            containerFactory = KafkaConfig.TELEMETRY_BATCH_LISTENER_FACTORY)
+    public void listen(List<ConsumerRecord<String, TelemetryData>> records) {
+        long start = System.nanoTime();
+
+        // Values were decoded once by TelemetryDeserializer; ErrorHandlingDeserializer turns
+        // undecodable records into null values instead of failing the whole poll.
+        List<TelemetryData> batch = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, TelemetryData> record : records) {
+            if (record.value() != null) {
+                batch.add(record.value());
+            } else {
+                invalidRecords.increment();
+                log.warn("Telemetria inválida ignorada [partição {} offset {}]", record.partition(), record.offset());
+            }
+        }
+
+        pipeline.process(batch);
+
+        long elapsed = System.nanoTime() - start;
+        batchLatency.record(elapsed, TimeUnit.NANOSECONDS);
+        recordsConsumed.increment(records.size());
+        consumed.add(records.size());
+        log.debug("Lote Kafka processado: {} registros em {} µs", records.size(), elapsed / 1_000);
     }
 
-    private void processTelemetry(String data) {
-        // Business logic here...
-        // log.debug("Processing telemetry in background...");
+    private synchronized double currentRecordsPerSecond() {
+        long now = System.nanoTime();
+        long elapsed = now - rateWindowStart;
+        if (elapsed >= TimeUnit.SECONDS.toNanos(1)) {
+            long total = consumed.sum();
+            recordsPerSecond = (total - rateWindowCount) * 1e9 / elapsed;
+            rateWindowStart = now;
+            rateWindowCount = total;
+        }
+        return recordsPerSecond;
     }
 }
@@ -1,16 +1,23 @@
 package com.txt.backend.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.txt.backend.config.KafkaConfig;
+import com.txt.backend.dto.TelemetryBatchResponse;
 import com.txt.backend.dto.TelemetryData;
-import lombok.RequiredArgsConstructor;
+import com.txt.backend.dto.TelemetryRecordFailure;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 @Service
-@RequiredArgsConstructor
 @Slf4j
 /**
  * Service responsible for producing messages to Kafka.
@@ -18,28 +25,90 @@ import org.springframework.stereotype.Service;
  */
 public class KafkaProducerService {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper; // Converts Java objects to JSON strings
+    // Values are serialized by TelemetrySerializer (binary by default, JSON when configured)
+    private final KafkaTemplate<String, TelemetryData> kafkaTemplate;
+    private final KafkaTemplate<String, TelemetryData> batchKafkaTemplate;
+
+    public KafkaProducerService(KafkaTemplate<String, TelemetryData> kafkaTemplate,
+                                @Value("${telemetry.kafka.batch.linger-ms:20}") int lingerMs,
+                                @Value("${telemetry.kafka.batch.batch-size:262144}") int batchSize,
+                                @Value("${telemetry.kafka.batch.compression-type:lz4}") String compressionType) {
+        this.kafkaTemplate = kafkaTemplate;
+        // Same producer settings as the default template, tuned for throughput: records wait up to
+        // linger.ms so the client can fill large compressed batches instead of one request per reading.
+        this.batchKafkaTemplate = new KafkaTemplate<>(kafkaTemplate.getProducerFactory(), Map.of(
+                ProducerConfig.LINGER_MS_CONFIG, lingerMs,
+                ProducerConfig.BATCH_SIZE_CONFIG, batchSize,
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType
+        ));
+    }
 
     /**
      * Sends telemetry data to the Kafka topic.
-     * 
+     *
      * @param data Object containing sensor data.
      */
     public void sendTelemetry(TelemetryData data) {
         try {
-            // Convert TelemetryData object to a JSON string
-            String jsonMessage = objectMapper.writeValueAsString(data);
-            
             // Send to the topic defined in KafkaConfig.
             // The second parameter (data.getSensorId()) is the message KEY.
             // Using the same key ensures all messages from that sensor go to the same partition,
             // preserving read order.
-            kafkaTemplate.send(KafkaConfig.TELEMETRY_TOPIC, data.getSensorId(), jsonMessage);
-            
-            log.info("Kafka Enviou [Sensor: {}]: {}", data.getSensorId(), jsonMessage);
-        } catch (JsonProcessingException e) {
-            log.error("Erro ao serializar dados de telemetria", e);
+            kafkaTemplate.send(KafkaConfig.TELEMETRY_TOPIC, data.getSensorId(), data)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.error("Falha ao enviar telemetria [Sensor: {}]", data.getSensorId(), ex);
+                        }
+                    });
+
+            log.debug("Kafka Enviou [Sensor: {}]: {}", data.getSensorId(), data);
+        } catch (RuntimeException e) {
+            log.error("Erro ao enviar dados de telemetria", e);
         }
     }
+
+    /**
+     * Sends a batch of telemetry readings through the batching producer (linger + compression).
+     * The returned future completes once every record has been acknowledged or has failed.
+     *
+     * @param batch readings in arrival order; records keep the sensor id as key.
+     * @return summary with one entry per record that could not be published.
+     */
+    public CompletableFuture<TelemetryBatchResponse> sendTelemetryBatch(List<TelemetryData> batch) {
+        ConcurrentLinkedQueue<TelemetryRecordFailure> failures = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<?>> pending = new ArrayList<>(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            TelemetryData data = batch.get(i);
+            int index = i;
+            try {
+                pending.add(batchKafkaTemplate.send(KafkaConfig.TELEMETRY_TOPIC, data.getSensorId(), data)
+                        .whenComplete((result, ex) -> {
+                            if (ex != null) {
+                                failures.add(failure(index, data, ex));
+                            }
+                        }));
+            } catch (RuntimeException e) {
+                // send() fails synchronously on serialization errors, missing metadata or a full buffer
+                failures.add(failure(index, data, e));
+            }
+        }
+
+        return CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .handle((ignored, ex) -> {
+                    List<TelemetryRecordFailure> failed = failures.stream()
+                            .sorted(Comparator.comparingInt(TelemetryRecordFailure::index))
+                            .toList();
+                    if (!failed.isEmpty()) {
+                        log.warn("Lote de telemetria: {} de {} registros falharam", failed.size(), batch.size());
+                    }
+                    log.debug("Kafka Enviou lote de {} registros", batch.size() - failed.size());
+                    return new TelemetryBatchResponse(batch.size(), batch.size() - failed.size(), failed.size(), failed);
+                });
+    }
+
+    private static TelemetryRecordFailure failure(int index, TelemetryData data, Throwable ex) {
+        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+        return new TelemetryRecordFailure(index, data.getSensorId(), cause.getMessage());
+    }
 }
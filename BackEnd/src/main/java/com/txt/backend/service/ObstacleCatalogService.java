@@ -0,0 +1,171 @@
+package com.txt.backend.service;
+
+import com.txt.backend.obstacle.Contact;
+import com.txt.backend.obstacle.Obstacle;
+import com.txt.backend.obstacle.ObstacleOctree;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Obstacles warp paths are checked against, held in an {@link ObstacleOctree}.
+ *
+ * The catalog is bulk-loaded from {@code warp.obstacles.location} (a classpath or file resource of
+ * {@code id,x,y,z,radius} lines; blank = start empty) at startup and on {@link #reload()}, which builds the new
+ * tree aside and swaps it in, discarding single-obstacle updates made since the previous load. Queries share a
+ * read lock; {@link #put} and {@link #remove} take the write lock.
+ */
+@Service
+public class ObstacleCatalogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ObstacleCatalogService.class);
+
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Timer queryLatency;
+
+    private ObstacleOctree octree;
+    private volatile Instant loadedAt;
+
+    public ObstacleCatalogService(ResourceLoader resourceLoader,
+                                  @Value("${warp.obstacles.location:}") String location,
+                                  MeterRegistry meterRegistry) {
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+        this.queryLatency = Timer.builder("warp.obstacles.query.latency")
+                .description("Time to find the first obstacle on a warp path")
+                .register(meterRegistry);
+        Gauge.builder("warp.obstacles.count", this, ObstacleCatalogService::size)
+                .description("Obstacles in the catalog")
+                .register(meterRegistry);
+        reload();
+    }
+
+    /**
+     * First obstacle touched by a bubble of {@code radius} metres moving in a straight line from {@code from}
+     * to {@code to}, or null if the path is clear.
+     */
+    public Contact firstContact(double[] from, double[] to, double radius) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return octree.firstContact(from[0], from[1], from[2], to[0], to[1], to[2], radius);
+        } finally {
+            lock.readLock().unlock();
+            queryLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** Adds an obstacle or moves and resizes the one with the same id. */
+    public void put(Obstacle obstacle) {
+        lock.writeLock().lock();
+        try {
+            octree.insert(obstacle);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** @return false if no obstacle has that id. */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            return octree.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the obstacle file again and replaces the whole catalog.
+     *
+     * @throws IllegalArgumentException if the file cannot be read or has an invalid line; the current catalog stays.
+     */
+    public int reload() {
+        ObstacleOctree loaded;
+        try {
+            loaded = location.isBlank() ? new ObstacleOctree() : read();
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Obstacles not loaded from " + location + ": " + e.getMessage(), e);
+        }
+        lock.writeLock().lock();
+        try {
+            octree = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        loadedAt = Instant.now();
+        logger.info("Loaded {} obstacles from {}", loaded.size(), location.isBlank() ? "(none)" : location);
+        return loaded.size();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return octree != null ? octree.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Changes whenever the set of obstacles does; see {@link ObstacleOctree#fingerprint()}. */
+    public long fingerprint() {
+        lock.readLock().lock();
+        try {
+            return octree.fingerprint();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public String location() {
+        return location;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    private ObstacleOctree read() throws IOException {
+        ObstacleOctree.Loader loader = new ObstacleOctree.Loader();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                resourceLoader.getResource(location).getInputStream(), StandardCharsets.UTF_8), 64 * 1024)) {
+            String line;
+            int number = 0;
+            while ((line = in.readLine()) != null) {
+                number++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                try {
+                    if (fields.length != 5) {
+                        throw new IllegalArgumentException("expected id,x,y,z,radius");
+                    }
+                    loader.add(Long.parseLong(fields[0].strip()), Double.parseDouble(fields[1].strip()),
+                            Double.parseDouble(fields[2].strip()), Double.parseDouble(fields[3].strip()),
+                            Double.parseDouble(fields[4].strip()));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("line " + number + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        return loader.build();
+    }
+}
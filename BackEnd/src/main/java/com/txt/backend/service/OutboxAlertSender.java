@@ -0,0 +1,40 @@
+package com.txt.backend.service;
+
+import com.txt.backend.alerting.AlertLane;
+import com.txt.backend.dto.SystemAlert;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stores alerts in the outbox instead of calling the broker, so an alert raised while RabbitMQ is down is
+ * published once it is back. The relay routes each alert to its severity lane, like {@link RabbitMQAlertSender}.
+ *
+ * Opt-in with {@code alerts.outbox.enabled=true}: each alert costs an insert on the caller's thread, and the
+ * relay drains every lane in one id order, so a backlog of INFO alerts delays the CRITICAL ones queued
+ * behind it. {@link RabbitMQAlertSender} keeps the lanes apart and is the default.
+ */
+@Service
+@Qualifier(AlertSender.TRANSPORT)
+@Profile("!dev")
+@ConditionalOnProperty(name = "alerts.outbox.enabled", havingValue = "true")
+public class OutboxAlertSender implements AlertSender {
+
+    static final String AGGREGATE_TYPE = "ALERT";
+
+    private final OutboxService outboxService;
+
+    public OutboxAlertSender(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    @Override
+    @Transactional
+    public void sendCriticalAlert(SystemAlert alert) {
+        AlertLane lane = AlertLane.of(alert.getSeverity());
+        outboxService.append(AGGREGATE_TYPE, String.valueOf(alert.getSystemSource()), "AlertRaised",
+                lane.routingKey(alert.getSystemSource()), alert);
+    }
+}
@@ -0,0 +1,11 @@
+package com.txt.backend.service;
+
+import com.txt.backend.model.OutboxEvent;
+
+import java.util.List;
+
+public interface OutboxPublisher {
+
+    /** Publishes the events in order and returns once all of them are confirmed; throws otherwise. */
+    void publish(List<OutboxEvent> events) throws Exception;
+}
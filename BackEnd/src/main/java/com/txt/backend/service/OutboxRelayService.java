@@ -0,0 +1,126 @@
+package com.txt.backend.service;
+
+import com.txt.backend.model.OutboxEvent;
+import com.txt.backend.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains the outbox in batches: locks the oldest events, publishes them in id order, waits for the
+ * confirms and deletes them in the same transaction.
+ *
+ * A failed batch rolls back and is published again on the next run, so delivery is at least once. An event
+ * written after an earlier one committed (a quarantine ended after it started) is published after it; events
+ * from transactions that overlap may be published in either order. The row lock makes relays on other
+ * instances wait their turn.
+ */
+@Service
+public class OutboxRelayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelayService.class);
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter published;
+    private final Counter failures;
+    private final Timer batchLatency;
+    private volatile long lagMillis;
+
+    public OutboxRelayService(OutboxRepository outboxRepository,
+                              OutboxPublisher publisher,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${outbox.relay.batch-size:200}") int batchSize,
+                              MeterRegistry meterRegistry) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Outbox relay batch size must be positive");
+        }
+        this.outboxRepository = outboxRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.published = Counter.builder("outbox.relay.published")
+                .description("Outbox events published and confirmed by the broker")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+                .description("Outbox batches that failed to publish and will be retried")
+                .register(meterRegistry);
+        this.batchLatency = Timer.builder("outbox.relay.batch.latency")
+                .description("Time to lock, publish and delete one outbox batch")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", this, relay -> relay.lagMillis / 1000.0)
+                .description("Age of the oldest event in the last batch the relay picked up; 0 once drained")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", outboxRepository, OutboxRepository::count)
+                .description("Outbox events waiting to be published")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        drain();
+    }
+
+    /**
+     * Publishes batches until the outbox is empty or a batch fails.
+     *
+     * @return events published.
+     */
+    public int drain() {
+        int total = 0;
+        int count;
+        do {
+            count = relayBatch();
+            total += count;
+        } while (count == batchSize);
+        return total;
+    }
+
+    private int relayBatch() {
+        Timer.Sample sample = Timer.start();
+        try {
+            Integer count = transactionTemplate.execute(status -> {
+                List<OutboxEvent> events = outboxRepository.lockOldest(PageRequest.of(0, batchSize));
+                if (events.isEmpty()) {
+                    lagMillis = 0;
+                    return 0;
+                }
+                lagMillis = Math.max(0, Duration.between(events.get(0).getCreatedAt(), LocalDateTime.now()).toMillis());
+                try {
+                    publisher.publish(events);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Outbox batch was not confirmed", e);
+                }
+                outboxRepository.deleteAllInBatch(events);
+                return events.size();
+            });
+            if (count != null && count > 0) {
+                published.increment(count);
+                sample.stop(batchLatency);
+                return count;
+            }
+            return 0;
+        } catch (RuntimeException e) {
+            failures.increment();
+            logger.warn("Outbox relay failed, the batch will be retried: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
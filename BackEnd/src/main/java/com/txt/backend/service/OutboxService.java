@@ -0,0 +1,51 @@
+package com.txt.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.model.OutboxEvent;
+import com.txt.backend.repository.OutboxRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Writes events to the outbox table. Called inside the transaction that makes the domain change, so the
+ * event is stored if and only if the change commits; {@link OutboxRelayService} publishes it afterwards.
+ */
+@Service
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxService(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Stores an event, joining the caller's transaction.
+     *
+     * @param routingKey routing key on the telemetry exchange the relay publishes to.
+     */
+    @Transactional
+    public OutboxEvent append(String aggregateType, String aggregateId, String eventType, String routingKey,
+                              Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + eventType + " payload", e);
+        }
+        return outboxRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .routingKey(routingKey)
+                .payloadType(payload.getClass().getName())
+                .payload(json)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
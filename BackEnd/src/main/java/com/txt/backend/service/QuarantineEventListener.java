@@ -0,0 +1,31 @@
+package com.txt.backend.service;
+
+import com.txt.backend.config.RabbitMQConfig;
+import com.txt.backend.dto.QuarantineResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.context.annotation.Profile;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+/**
+ * Central Command's view of quarantine lifecycle events ({@code quarantine.started}, {@code quarantine.ended})
+ * relayed from the outbox. Delivery is at least once; a redelivered event carries the same message id.
+ */
+@Component
+@Profile("!dev")
+public class QuarantineEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuarantineEventListener.class);
+
+    @RabbitListener(queues = RabbitMQConfig.QUARANTINE_EVENTS_QUEUE)
+    public void handleQuarantineEvent(QuarantineResponse quarantine,
+                                      @Header("eventType") String eventType,
+                                      @Header(AmqpHeaders.MESSAGE_ID) String messageId) {
+        logger.info("Central Command received {} for quarantine {} (protocol {}, {} users, event {})",
+                eventType, quarantine.codeNumber(), quarantine.protocol(),
+                quarantine.userIds() != null ? quarantine.userIds().size() : 0, messageId);
+    }
+}
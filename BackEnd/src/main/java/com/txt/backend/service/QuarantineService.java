@@ -2,6 +2,7 @@ package com.txt.backend.service;
 
 import com.txt.backend.exception.QuarantineException;
 import com.txt.backend.exception.ResourceNotFoundException;
+import com.txt.backend.mapper.QuarantineMapper;
 import com.txt.backend.model.Quarantine;
 import com.txt.backend.model.User;
 import com.txt.backend.repository.QuarantineRepository;
@@ -24,12 +25,17 @@ public class QuarantineService {
 
     private static final Logger logger = LoggerFactory.getLogger(QuarantineService.class);
 
+    static final String AGGREGATE_TYPE = "QUARANTINE";
+
     private final QuarantineRepository quarantineRepository;
     private final UserRepository userRepository;
+    private final OutboxService outboxService;
 
-    public QuarantineService(QuarantineRepository quarantineRepository, UserRepository userRepository) {
+    public QuarantineService(QuarantineRepository quarantineRepository, UserRepository userRepository,
+                             OutboxService outboxService) {
         this.quarantineRepository = quarantineRepository;
         this.userRepository = userRepository;
+        this.outboxService = outboxService;
     }
 
     /**
@@ -65,6 +71,9 @@ public class QuarantineService {
         }
         
         Quarantine saved = quarantineRepository.save(quarantine);
+        // Published by the outbox relay only if this transaction commits
+        outboxService.append(AGGREGATE_TYPE, saved.getCodeNumber(), "QuarantineStarted", "quarantine.started",
+                QuarantineMapper.toResponse(saved));
         logger.info("Quarantine {} started successfully", saved.getCodeNumber());
         return saved;
     }
@@ -130,6 +139,8 @@ public class QuarantineService {
 
         quarantine.setActive(false);
         quarantineRepository.save(quarantine);
+        outboxService.append(AGGREGATE_TYPE, codeNumber, "QuarantineEnded", "quarantine.ended",
+                QuarantineMapper.toResponse(quarantine));
         logger.info("Quarantine {} ended successfully", codeNumber);
     }
 }
\ No newline at end of file
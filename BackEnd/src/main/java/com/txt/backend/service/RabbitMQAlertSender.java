@@ -1,27 +1,117 @@
 package com.txt.backend.service;
 
+import com.txt.backend.alerting.AlertLane;
+import com.txt.backend.alerting.AsyncAlertPublisher;
 import com.txt.backend.config.RabbitMQConfig;
 import com.txt.backend.dto.SystemAlert;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes alerts to RabbitMQ without blocking the caller.
+ *
+ * Each severity lane ({@link AlertLane}) has its own bounded queue and publisher thread, so a flood of INFO
+ * alerts never sits in front of a CRITICAL one. A publisher sends its lane in batches over one channel; each
+ * batch waits for publisher confirms ({@code spring.rabbitmq.publisher-confirm-type=simple}) and is retried as
+ * a whole when the broker nacks it, times out or is unreachable.
+ */
 @Service
+@Qualifier(AlertSender.TRANSPORT)
 @Profile("!dev") // Real RabbitMQ only outside 'dev'
+@ConditionalOnProperty(name = "alerts.outbox.enabled", havingValue = "false", matchIfMissing = true) // otherwise OutboxAlertSender
 public class RabbitMQAlertSender implements AlertSender {
 
+    private static final Logger logger = LoggerFactory.getLogger(RabbitMQAlertSender.class);
+
     private final RabbitTemplate rabbitTemplate;
+    private final long confirmTimeoutMs;
+    private final Map<AlertLane, AsyncAlertPublisher> publishers = new EnumMap<>(AlertLane.class);
 
-    public RabbitMQAlertSender(RabbitTemplate rabbitTemplate) {
+    public RabbitMQAlertSender(RabbitTemplate rabbitTemplate,
+                               @Value("${alerts.publisher.queue-capacity:10000}") int queueCapacity,
+                               @Value("${alerts.publisher.batch-size:100}") int batchSize,
+                               @Value("${alerts.publisher.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                               @Value("${alerts.publisher.max-attempts:5}") int maxAttempts,
+                               @Value("${alerts.publisher.initial-backoff-ms:100}") long initialBackoffMs,
+                               MeterRegistry meterRegistry) {
         this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        for (AlertLane lane : AlertLane.values()) {
+            Timer confirmLatency = Timer.builder("alerts.publisher.confirm.latency")
+                    .description("Time from publishing an alert batch to the broker confirming it")
+                    .tag("lane", lane.key())
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            AsyncAlertPublisher publisher = new AsyncAlertPublisher("alert-publisher-" + lane.key(), queueCapacity,
+                    batchSize, maxAttempts, initialBackoffMs, batch -> publishConfirmed(lane, batch),
+                    nanos -> confirmLatency.record(nanos, TimeUnit.NANOSECONDS));
+            publishers.put(lane, publisher);
+            registerMetrics(meterRegistry, lane, publisher);
+        }
     }
 
     @Override
     public void sendCriticalAlert(SystemAlert alert) {
-        rabbitTemplate.convertAndSend(
-                RabbitMQConfig.TELEMETRY_EXCHANGE,
-                "alert.critical.oxygen",
-                alert
-        );
+        AlertLane lane = AlertLane.of(alert.getSeverity());
+        if (!publishers.get(lane).offer(alert)) {
+            logger.error("Alert queue full for lane {}, dropping alert from {}: {}",
+                    lane.key(), alert.getSystemSource(), alert.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        publishers.values().forEach(AsyncAlertPublisher::close);
+    }
+
+    private void publishConfirmed(AlertLane lane, List<SystemAlert> batch) {
+        rabbitTemplate.invoke(operations -> {
+            for (SystemAlert alert : batch) {
+                operations.convertAndSend(RabbitMQConfig.TELEMETRY_EXCHANGE,
+                        lane.routingKey(alert.getSystemSource()), alert);
+            }
+            // Throws on a nack or when the confirms do not arrive in time
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+    }
+
+    private static void registerMetrics(MeterRegistry meterRegistry, AlertLane lane, AsyncAlertPublisher publisher) {
+        Gauge.builder("alerts.publisher.queue.depth", publisher, AsyncAlertPublisher::depth)
+                .description("Alerts waiting to be published")
+                .tag("lane", lane.key())
+                .register(meterRegistry);
+        FunctionCounter.builder("alerts.publisher.sent", publisher, AsyncAlertPublisher::sentCount)
+                .description("Alerts confirmed by the broker")
+                .tag("lane", lane.key())
+                .register(meterRegistry);
+        FunctionCounter.builder("alerts.publisher.failed", publisher, AsyncAlertPublisher::failedCount)
+                .description("Alerts given up on after all publish attempts")
+                .tag("lane", lane.key())
+                .register(meterRegistry);
+        FunctionCounter.builder("alerts.publisher.retries", publisher, AsyncAlertPublisher::retryCount)
+                .description("Alert batches published again after a failure")
+                .tag("lane", lane.key())
+                .register(meterRegistry);
+        FunctionCounter.builder("alerts.publisher.dropped", publisher, AsyncAlertPublisher::droppedCount)
+                .description("Alerts dropped because the publish queue was full")
+                .tag("lane", lane.key())
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,56 @@
+package com.txt.backend.service;
+
+import com.txt.backend.config.RabbitMQConfig;
+import com.txt.backend.model.OutboxEvent;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Publishes outbox events to the telemetry exchange over one channel with publisher confirms. Messages
+ * look like the ones {@code Jackson2JsonMessageConverter} writes, so existing listeners read them unchanged.
+ */
+@Service
+@Profile("!dev") // Real RabbitMQ only outside 'dev'
+public class RabbitMQOutboxPublisher implements OutboxPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final long confirmTimeoutMs;
+
+    public RabbitMQOutboxPublisher(RabbitTemplate rabbitTemplate,
+                                   @Value("${outbox.relay.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        rabbitTemplate.invoke(operations -> {
+            for (OutboxEvent event : events) {
+                operations.send(RabbitMQConfig.TELEMETRY_EXCHANGE, event.getRoutingKey(), toMessage(event));
+            }
+            // Throws on a nack or when the confirms do not arrive in time
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+    }
+
+    private static Message toMessage(OutboxEvent event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(String.valueOf(event.getId())) // lets consumers drop redeliveries
+                .setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getPayloadType())
+                .setHeader("eventType", event.getEventType())
+                .setHeader("aggregateId", event.getAggregateId())
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.txt.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.rules.DecisionTable;
+import com.txt.backend.rules.RuleDefinition;
+import com.txt.backend.rules.RuleSet;
+import com.txt.backend.rules.RuleSeverity;
+import com.txt.backend.rules.ThresholdRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Threshold rules shared by the REST checks and the telemetry stream.
+ *
+ * Rules are read from {@code telemetry.rules.location} (a classpath or file resource) at startup and on
+ * {@link #reload()}, compiled into a {@link DecisionTable} and swapped in atomically: evaluations never
+ * see a half-loaded rule set, and a rule file that fails to load leaves the current rules in place.
+ */
+@Service
+public class RuleEngineService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RuleEngineService.class);
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String location;
+
+    private volatile DecisionTable table;
+    private volatile Instant loadedAt;
+
+    public RuleEngineService(ResourceLoader resourceLoader, ObjectMapper objectMapper,
+                             @Value("${telemetry.rules.location:classpath:telemetry-rules.json}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.location = location;
+        reload();
+    }
+
+    /** The winning rule for a reading, or null when none matches. Allocation-free. */
+    public ThresholdRule evaluate(String type, double value) {
+        return table.evaluate(type, value);
+    }
+
+    /** Severity of the winning rule, or null when none matches. */
+    public RuleSeverity severityOf(String type, double value) {
+        ThresholdRule rule = table.evaluate(type, value);
+        return rule != null ? rule.severity() : null;
+    }
+
+    public boolean isCritical(String type, double value) {
+        return severityOf(type, value) == RuleSeverity.CRITICAL;
+    }
+
+    /**
+     * Loads and compiles the rules file again.
+     *
+     * @throws IllegalArgumentException if the file cannot be read or contains an invalid rule; the previous rules stay active.
+     */
+    public synchronized DecisionTable reload() {
+        DecisionTable compiled;
+        try {
+            compiled = DecisionTable.compile(read());
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Rules not loaded from " + location + ": " + e.getMessage(), e);
+        }
+        table = compiled;
+        loadedAt = Instant.now();
+        logger.info("Loaded {} threshold rules for {} telemetry types from {}", compiled.rules().size(), compiled.typeCount(), location);
+        return compiled;
+    }
+
+    public List<ThresholdRule> rules() {
+        return table.rules();
+    }
+
+    public int typeCount() {
+        return table.typeCount();
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public String location() {
+        return location;
+    }
+
+    private List<ThresholdRule> read() throws IOException {
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream in = resource.getInputStream()) {
+            RuleSet ruleSet = objectMapper.readValue(in, RuleSet.class);
+            if (ruleSet.rules() == null) {
+                throw new IllegalArgumentException("Missing \"rules\" array");
+            }
+            return ruleSet.rules().stream().map(RuleDefinition::toRule).toList();
+        }
+    }
+}
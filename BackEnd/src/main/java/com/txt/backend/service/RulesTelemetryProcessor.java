@@ -0,0 +1,44 @@
+package com.txt.backend.service;
+
+import com.txt.backend.dto.TelemetryData;
+import com.txt.backend.rules.ThresholdRule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Evaluates every streamed reading against the threshold rules and raises the alerts they define.
+ * The alerts of a batch this stage fails on are not raised; a condition that persists raises them again on the
+ * sensor's next reading.
+ */
+@Component
+@Order(50)
+public class RulesTelemetryProcessor implements TelemetryProcessor {
+
+    private final RuleEngineService ruleEngineService;
+    private final AlertSender alertSender;
+    private final Counter alertsRaised;
+
+    public RulesTelemetryProcessor(RuleEngineService ruleEngineService, AlertSender alertSender,
+                                   MeterRegistry meterRegistry) {
+        this.ruleEngineService = ruleEngineService;
+        this.alertSender = alertSender;
+        this.alertsRaised = Counter.builder("telemetry.rules.alerts")
+                .description("Alerts raised by threshold rules on streamed readings")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void process(List<TelemetryData> batch) {
+        for (TelemetryData data : batch) {
+            ThresholdRule rule = ruleEngineService.evaluate(data.getType(), data.getValue());
+            if (rule != null && rule.alert()) {
+                alertSender.sendCriticalAlert(rule.toAlert(data.getSensorId(), data.getValue()));
+                alertsRaised.increment();
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.txt.backend.dto.warpSimulationResponse;
 import com.txt.backend.mapper.WarpSimulationMapper;
 
 import com.txt.backend.model.WarpSimulation;
+import com.txt.backend.rules.RuleSeverity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -25,15 +26,18 @@ public class ShipService {
     private final EnergyManagementService energyService;
     private final AIService aiService;
     private final WarpSimulationService warpService;
+    private final RuleEngineService ruleEngineService;
 
     public ShipService(AtmosphereService atmosphereService,
                        EnergyManagementService energyService,
                        AIService aiService,
-                       WarpSimulationService warpService) {
+                       WarpSimulationService warpService,
+                       RuleEngineService ruleEngineService) {
         this.atmosphereService = atmosphereService;
         this.energyService = energyService;
         this.aiService = aiService;
         this.warpService = warpService;
+        this.ruleEngineService = ruleEngineService;
     }
 
     /**
@@ -135,10 +139,11 @@ public class ShipService {
         if (!hullIntegrity) {
             return "CRITICAL";
         }
-        if (oxygenLevel < 19.5) {
+        RuleSeverity severity = ruleEngineService.severityOf("crew-oxygen", oxygenLevel);
+        if (severity == RuleSeverity.CRITICAL) {
             return "DANGER";
         }
-        if (oxygenLevel < 20.0) {
+        if (severity != null && severity != RuleSeverity.INFO) {
             return "CAUTION";
         }
         return "NORMAL";
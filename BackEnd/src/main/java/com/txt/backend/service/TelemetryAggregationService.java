@@ -0,0 +1,174 @@
+package com.txt.backend.service;
+
+import com.txt.backend.aggregation.AggregateScope;
+import com.txt.backend.aggregation.PanedWindow;
+import com.txt.backend.aggregation.WindowAggregate;
+import com.txt.backend.aggregation.WindowMode;
+import com.txt.backend.dto.TelemetryData;
+import com.txt.backend.serialization.TelemetryTimestamps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Windowed statistics per sensor and per telemetry type, maintained incrementally as batches are consumed.
+ * Every key keeps {@code retention-seconds} worth of {@code pane-seconds} panes; queries merge panes
+ * instead of rescanning readings.
+ * A batch this stage fails on is missing from its panes, so those windows under-count until they expire.
+ * Readings stamped more than a pane ahead of the clock are skipped: a pane recycles its ring slot only for
+ * newer panes, so one reading from a skewed sensor clock would otherwise make every real reading that maps
+ * to the same slot look late until the clock caught up.
+ */
+@Service
+@Order(20)
+public class TelemetryAggregationService implements TelemetryProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetryAggregationService.class);
+
+    private final Map<AggregateScope, Map<String, PanedWindow>> windows = new EnumMap<>(AggregateScope.class);
+    private final long paneSeconds;
+    private final long retentionSeconds;
+    private final int maxKeys;
+    private final Counter lateReadings;
+    private final Counter futureReadings;
+    private final Counter rejectedKeys;
+
+    public TelemetryAggregationService(@Value("${telemetry.aggregation.pane-seconds:10}") long paneSeconds,
+                                       @Value("${telemetry.aggregation.retention-seconds:3600}") long retentionSeconds,
+                                       @Value("${telemetry.aggregation.max-keys:2048}") int maxKeys,
+                                       MeterRegistry meterRegistry) {
+        if (paneSeconds <= 0 || retentionSeconds < paneSeconds || retentionSeconds % paneSeconds != 0) {
+            throw new IllegalArgumentException("telemetry.aggregation.retention-seconds must be a multiple of pane-seconds");
+        }
+        this.paneSeconds = paneSeconds;
+        this.retentionSeconds = retentionSeconds;
+        this.maxKeys = maxKeys;
+        for (AggregateScope scope : AggregateScope.values()) {
+            windows.put(scope, new ConcurrentHashMap<>());
+        }
+        this.lateReadings = Counter.builder("telemetry.aggregation.late")
+                .description("Readings older than the aggregation retention, not aggregated")
+                .register(meterRegistry);
+        this.futureReadings = Counter.builder("telemetry.aggregation.future")
+                .description("Readings stamped more than a pane ahead of the clock, not aggregated")
+                .register(meterRegistry);
+        this.rejectedKeys = Counter.builder("telemetry.aggregation.rejected")
+                .description("Readings not aggregated because the key limit was reached")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void process(List<TelemetryData> batch) {
+        long now = TelemetryTimestamps.toEpochMicros(Instant.now());
+        long horizon = now + TimeUnit.SECONDS.toMicros(paneSeconds);
+        for (TelemetryData data : batch) {
+            long micros = TelemetryTimestamps.toEpochMicros(data.getTimestamp());
+            if (micros == TelemetryTimestamps.UNPARSEABLE) {
+                micros = now;
+            } else if (micros > horizon) {
+                futureReadings.increment();
+                continue;
+            }
+            record(AggregateScope.SENSOR, data.getSensorId(), micros, data.getValue());
+            record(AggregateScope.TYPE, data.getType(), micros, data.getValue());
+        }
+    }
+
+    /** Keys with aggregates in the given scope, sorted. */
+    public Set<String> keys(AggregateScope scope) {
+        return new TreeSet<>(windows.get(scope).keySet());
+    }
+
+    /**
+     * Computes the newest {@code count} windows of {@code windowSeconds} for one key, oldest first.
+     * Tumbling windows are aligned to multiples of the window size (the newest one is still open);
+     * sliding windows end at successive pane boundaries, the newest at the end of the current pane.
+     *
+     * @throws IllegalArgumentException if the windows are not whole panes or reach past the retention.
+     */
+    public Optional<List<WindowAggregate>> aggregates(AggregateScope scope, String key, WindowMode mode,
+                                                      long windowSeconds, int count) {
+        validate(mode, windowSeconds, count);
+        PanedWindow window = windows.get(scope).get(key);
+        if (window == null) {
+            return Optional.empty();
+        }
+
+        long windowMicros = TimeUnit.SECONDS.toMicros(windowSeconds);
+        long paneMicros = window.paneMicros();
+        long now = TelemetryTimestamps.toEpochMicros(Instant.now());
+        List<WindowAggregate> result = new ArrayList<>(count);
+        for (int k = count - 1; k >= 0; k--) {
+            long start;
+            long end;
+            if (mode == WindowMode.TUMBLING) {
+                start = Math.floorDiv(now, windowMicros) * windowMicros - k * windowMicros;
+                end = start + windowMicros;
+            } else {
+                end = (Math.floorDiv(now, paneMicros) + 1) * paneMicros - k * paneMicros;
+                start = end - windowMicros;
+            }
+            result.add(new WindowAggregate(start, end, window.aggregate(start, end)));
+        }
+        return Optional.of(result);
+    }
+
+    private void validate(WindowMode mode, long windowSeconds, int count) {
+        if (windowSeconds <= 0 || windowSeconds % paneSeconds != 0) {
+            throw new IllegalArgumentException("Window size must be a positive multiple of " + paneSeconds + " seconds");
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("Window count must be positive");
+        }
+        long span = mode == WindowMode.TUMBLING
+                ? windowSeconds * count
+                : windowSeconds + (count - 1) * paneSeconds;
+        if (span > retentionSeconds) {
+            throw new IllegalArgumentException("Requested windows span " + span
+                    + " seconds, more than the " + retentionSeconds + " seconds retained");
+        }
+    }
+
+    private void record(AggregateScope scope, String key, long micros, double value) {
+        if (key == null) {
+            return;
+        }
+        PanedWindow window = windowFor(scope, key);
+        if (window == null) {
+            rejectedKeys.increment();
+        } else if (!window.add(micros, value)) {
+            lateReadings.increment();
+        }
+    }
+
+    private PanedWindow windowFor(AggregateScope scope, String key) {
+        Map<String, PanedWindow> byKey = windows.get(scope);
+        PanedWindow window = byKey.get(key);
+        if (window != null) {
+            return window;
+        }
+        if (byKey.size() >= maxKeys) {
+            return null;
+        }
+        return byKey.computeIfAbsent(key, k -> {
+            logger.debug("Aggregating new {} key: {}", scope, k);
+            // One extra pane so a window starting a full retention ago is still complete
+            return new PanedWindow(TimeUnit.SECONDS.toMicros(paneSeconds), (int) (retentionSeconds / paneSeconds) + 1);
+        });
+    }
+}
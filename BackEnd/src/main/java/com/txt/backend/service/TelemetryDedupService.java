@@ -0,0 +1,104 @@
+package com.txt.backend.service;
+
+import com.txt.backend.dedup.TimeBucketedBloomFilter;
+import com.txt.backend.dedup.TimeBucketedBloomFilter.Outcome;
+import com.txt.backend.dto.TelemetryData;
+import com.txt.backend.serialization.TelemetryTimestamps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drops readings whose (sensorId, timestamp) was already consumed, before any processor sees them.
+ * Gateway retries and Kafka redeliveries after a rebalance would otherwise be counted twice.
+ *
+ * Detection is probabilistic (see {@link TimeBucketedBloomFilter}): a new reading is dropped as a duplicate
+ * with probability {@code telemetry.dedup.false-positive-rate}, a real duplicate is never let through while its
+ * timestamp is inside the window. Readings without a parseable timestamp, older than the window or too far in
+ * the future are passed through unchecked.
+ */
+@Service
+public class TelemetryDedupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetryDedupService.class);
+
+    private final boolean enabled;
+    private final TimeBucketedBloomFilter filter;
+
+    private final Counter duplicates;
+    private final Counter unchecked;
+
+    public TelemetryDedupService(@Value("${telemetry.dedup.enabled:true}") boolean enabled,
+                                 @Value("${telemetry.dedup.window-seconds:600}") long windowSeconds,
+                                 @Value("${telemetry.dedup.buckets:10}") int buckets,
+                                 @Value("${telemetry.dedup.expected-per-bucket:200000}") long expectedPerBucket,
+                                 @Value("${telemetry.dedup.false-positive-rate:0.001}") double falsePositiveRate,
+                                 MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        long bucketMicros = Math.max(1, TimeUnit.SECONDS.toMicros(windowSeconds) / buckets);
+        this.filter = new TimeBucketedBloomFilter(bucketMicros, buckets, expectedPerBucket, falsePositiveRate);
+        this.duplicates = Counter.builder("telemetry.dedup.duplicates")
+                .description("Readings dropped because their sensor and timestamp were already consumed")
+                .register(meterRegistry);
+        this.unchecked = Counter.builder("telemetry.dedup.unchecked")
+                .description("Readings passed through without a duplicate check (no timestamp or outside the window)")
+                .register(meterRegistry);
+        Gauge.builder("telemetry.dedup.memory.bytes", filter, TimeBucketedBloomFilter::memoryBytes)
+                .description("Memory held by the duplicate filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        if (enabled) {
+            logger.info("Telemetry dedup: {}s window, {} hashes, {} KiB", windowSeconds, filter.hashCount(),
+                    filter.memoryBytes() / 1024);
+        }
+    }
+
+    /**
+     * @return the batch without duplicates; the same list instance when nothing was dropped.
+     */
+    public List<TelemetryData> filter(List<TelemetryData> batch) {
+        if (!enabled) {
+            return batch;
+        }
+        long latestAccepted = TelemetryTimestamps.toEpochMicros(Instant.now()) + filter.windowMicros();
+        List<TelemetryData> kept = null;
+        for (int i = 0; i < batch.size(); i++) {
+            TelemetryData data = batch.get(i);
+            if (isDuplicate(data, latestAccepted)) {
+                if (kept == null) {
+                    kept = new ArrayList<>(batch.subList(0, i));
+                }
+            } else if (kept != null) {
+                kept.add(data);
+            }
+        }
+        return kept != null ? kept : batch;
+    }
+
+    private boolean isDuplicate(TelemetryData data, long latestAccepted) {
+        long micros = TelemetryTimestamps.toEpochMicros(data.getTimestamp());
+        // A clock far ahead would slide the window forward and make every real reading uncheckable
+        if (data.getSensorId() == null || micros == TelemetryTimestamps.UNPARSEABLE || micros > latestAccepted) {
+            unchecked.increment();
+            return false;
+        }
+        Outcome outcome = filter.checkAndPut(data.getSensorId(), micros);
+        if (outcome == Outcome.DUPLICATE) {
+            duplicates.increment();
+            return true;
+        }
+        if (outcome == Outcome.OUT_OF_WINDOW) {
+            unchecked.increment();
+        }
+        return false;
+    }
+}
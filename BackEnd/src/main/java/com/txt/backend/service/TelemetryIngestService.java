@@ -0,0 +1,156 @@
+package com.txt.backend.service;
+
+import com.txt.backend.dto.TelemetryData;
+import com.txt.backend.exception.ServiceOverloadedException;
+import com.txt.backend.ingest.IngestQueue;
+import com.txt.backend.ingest.IngestQueue.Admission;
+import com.txt.backend.ingest.IngestQueue.Lane;
+import com.txt.backend.ingest.IngestQueue.ShedReason;
+import com.txt.backend.ingest.OverflowPolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Admission control for the single-reading ingest endpoints.
+ *
+ * Readings are queued in a bounded {@link IngestQueue} and published by one dispatcher thread, so a slow
+ * broker (KafkaTemplate.send blocking on metadata) backs up the queue instead of Tomcat threads.
+ * Life-support readings (the configured priority types, or any reading a CRITICAL rule matches) use
+ * the priority lane and are shed last. Synchronous checks are limited by a permit count instead.
+ */
+@Service
+public class TelemetryIngestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetryIngestService.class);
+
+    private static final int DRAIN_BATCH = 500;
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final KafkaProducerService kafkaProducerService;
+    private final RuleEngineService ruleEngineService;
+    private final IngestQueue<TelemetryData> queue;
+    private final Set<String> priorityTypes;
+    private final Semaphore checkPermits;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public TelemetryIngestService(KafkaProducerService kafkaProducerService,
+                                  RuleEngineService ruleEngineService,
+                                  @Value("${telemetry.ingest.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${telemetry.ingest.overflow-policy:REJECT}") OverflowPolicy overflowPolicy,
+                                  @Value("${telemetry.ingest.sample-every:10}") int sampleEvery,
+                                  @Value("${telemetry.ingest.priority-types:oxygen,co2,pressure}") String priorityTypes,
+                                  @Value("${telemetry.ingest.max-concurrent-checks:64}") int maxConcurrentChecks,
+                                  MeterRegistry meterRegistry) {
+        this.kafkaProducerService = kafkaProducerService;
+        this.ruleEngineService = ruleEngineService;
+        this.queue = new IngestQueue<>(queueCapacity, overflowPolicy, sampleEvery);
+        this.priorityTypes = Arrays.stream(priorityTypes.split(","))
+                .map(type -> type.trim().toLowerCase(Locale.ROOT))
+                .filter(type -> !type.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.checkPermits = new Semaphore(maxConcurrentChecks);
+
+        for (Lane lane : Lane.values()) {
+            String tag = lane.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("telemetry.ingest.queue.depth", queue, q -> q.depth(lane))
+                    .description("Readings waiting to be published to Kafka")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            for (ShedReason reason : ShedReason.values()) {
+                FunctionCounter.builder("telemetry.ingest.shed", queue, q -> q.shedCount(lane, reason))
+                        .description("Readings shed by the ingest queue")
+                        .tag("lane", tag)
+                        .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry);
+            }
+        }
+        Gauge.builder("telemetry.ingest.checks.available", checkPermits, Semaphore::availablePermits)
+                .description("Free permits for synchronous sensor checks")
+                .register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatch, "telemetry-ingest");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Queues a reading for publishing.
+     *
+     * @return {@link Admission#SAMPLED_OUT} when the reading was deliberately skipped by sampling.
+     * @throws ServiceOverloadedException when the queue is full and the policy refuses the reading.
+     */
+    public Admission submit(TelemetryData data) {
+        Admission admission = queue.offer(data, isPriority(data));
+        if (admission == Admission.REJECTED) {
+            throw new ServiceOverloadedException("Telemetry ingest queue is full", RETRY_AFTER_SECONDS);
+        }
+        return admission;
+    }
+
+    /**
+     * Runs a synchronous check if a permit is free.
+     *
+     * @throws ServiceOverloadedException when {@code telemetry.ingest.max-concurrent-checks} are already running.
+     */
+    public <T> T runCheck(Supplier<T> check) {
+        if (!checkPermits.tryAcquire()) {
+            throw new ServiceOverloadedException("Too many concurrent sensor checks", RETRY_AFTER_SECONDS);
+        }
+        try {
+            return check.get();
+        } finally {
+            checkPermits.release();
+        }
+    }
+
+    boolean isPriority(TelemetryData data) {
+        String type = data.getType();
+        return type != null && (priorityTypes.contains(type.toLowerCase(Locale.ROOT))
+                || ruleEngineService.isCritical(type, data.getValue()));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void dispatch() {
+        List<TelemetryData> batch = new ArrayList<>(DRAIN_BATCH);
+        // Keep draining after shutdown starts so accepted readings still reach the producer
+        while (running || queue.depth(Lane.PRIORITY) + queue.depth(Lane.NORMAL) > 0) {
+            try {
+                if (queue.drainTo(batch, DRAIN_BATCH, 100, TimeUnit.MILLISECONDS) == 0) {
+                    continue;
+                }
+                for (TelemetryData data : batch) {
+                    kafkaProducerService.sendTelemetry(data);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Failed to publish queued telemetry", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.txt.backend.service;
+
+import com.txt.backend.dto.TelemetryData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The processing path shared by live consumption ({@link KafkaConsumerService}) and replays
+ * ({@link TelemetryReplayService}): every {@link TelemetryProcessor} bean, in order.
+ * Live batches are deduplicated first; replays are not, since reprocessing is their point.
+ * A failing stage does not stop the others; see {@link TelemetryProcessor} for why it is not retried.
+ */
+@Component
+@Slf4j
+public class TelemetryPipeline {
+
+    private final List<TelemetryProcessor> processors;
+    private final List<TelemetryProcessor> replayProcessors;
+    private final TelemetryDedupService dedupService;
+    private final Map<TelemetryProcessor, Counter> failures = new IdentityHashMap<>();
+
+    public TelemetryPipeline(List<TelemetryProcessor> processors, TelemetryDedupService dedupService,
+                             MeterRegistry meterRegistry) {
+        this.processors = List.copyOf(processors);
+        this.replayProcessors = processors.stream().filter(TelemetryProcessor::supportsReplay).toList();
+        this.dedupService = dedupService;
+        for (TelemetryProcessor processor : processors) {
+            failures.put(processor, Counter.builder("telemetry.pipeline.failures")
+                    .description("Batches a telemetry processor failed on; they are not retried")
+                    .tag("processor", processor.getClass().getSimpleName())
+                    .register(meterRegistry));
+        }
+    }
+
+    public void process(List<TelemetryData> batch) {
+        run(processors, dedupService.filter(batch));
+    }
+
+    /** Same as {@link #process}, skipping processors that do not support replay. */
+    public void replay(List<TelemetryData> batch) {
+        run(replayProcessors, batch);
+    }
+
+    private void run(List<TelemetryProcessor> stages, List<TelemetryData> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // Processors run one after another on the calling thread, keeping per-sensor order
+        for (TelemetryProcessor processor : stages) {
+            try {
+                processor.process(batch);
+            } catch (RuntimeException e) {
+                failures.get(processor).increment();
+                log.error("Falha no processador de telemetria {}", processor.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.txt.backend.service;
+
+import com.txt.backend.dto.TelemetryData;
+
+import java.util.List;
+
+/**
+ * Stage of the telemetry consumer pipeline.
+ * Batches arrive in partition order, so readings of one sensor are always seen oldest first.
+ * Stages run in {@code @Order}: store (10), aggregation (20), live stream (30), flight log (40), rules (50).
+ *
+ * Delivery is at most once per stage: when {@link #process} throws, {@link TelemetryPipeline} logs and counts
+ * the failure, runs the remaining stages and lets the container commit the batch's offsets. Handing the batch
+ * back to Kafka would not bring it back: {@link TelemetryDedupService} has already marked its readings as seen
+ * and would drop the redelivery, and the stages that succeeded would apply it a second time. Each implementation
+ * notes what a lost batch costs it.
+ */
+public interface TelemetryProcessor {
+    void process(List<TelemetryData> batch);
+
+    /** Whether replayed batches go through this stage too; recorders return false so a replay is not recorded again. */
+    default boolean supportsReplay() {
+        return true;
+    }
+}
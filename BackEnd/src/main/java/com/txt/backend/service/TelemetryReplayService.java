@@ -0,0 +1,279 @@
+package com.txt.backend.service;
+
+import com.txt.backend.config.KafkaConfig;
+import com.txt.backend.dto.TelemetryData;
+import com.txt.backend.dto.TelemetryReplayRequest;
+import com.txt.backend.dto.TelemetryReplayStatus;
+import com.txt.backend.exception.ResourceNotFoundException;
+import com.txt.backend.flightlog.FlightLog;
+import com.txt.backend.replay.ReplayRun;
+import com.txt.backend.replay.ReplaySink;
+import com.txt.backend.replay.ReplaySource;
+import com.txt.backend.replay.ReplaySpeed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Re-feeds recorded telemetry through {@link TelemetryPipeline#replay}, the same stages the Kafka consumer
+ * runs (oxygen checks, history, aggregates), to reproduce incidents or find the saturation point.
+ * Replays run one at a time on a dedicated thread; the latest runs are kept for status queries.
+ */
+@Service
+public class TelemetryReplayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetryReplayService.class);
+
+    private static final int MAX_KEPT_RUNS = 20;
+    private static final int MAX_BATCH_SIZE = 10_000;
+    private static final Duration KAFKA_POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final TelemetryPipeline pipeline;
+    private final FlightLogService flightLogService;
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final Path replayDirectory;
+    private final int defaultBatchSize;
+    private final Timer batchLatency;
+    private final Counter recordsReplayed;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "telemetry-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, ReplayRun> runs = new LinkedHashMap<>();
+    private ReplayRun current;
+
+    public TelemetryReplayService(TelemetryPipeline pipeline,
+                                  FlightLogService flightLogService,
+                                  ConsumerFactory<Object, Object> consumerFactory,
+                                  @Value("${telemetry.replay.directory:data/replay}") String replayDirectory,
+                                  @Value("${telemetry.replay.batch-size:500}") int defaultBatchSize,
+                                  MeterRegistry meterRegistry) {
+        this.pipeline = pipeline;
+        this.flightLogService = flightLogService;
+        this.consumerFactory = consumerFactory;
+        this.replayDirectory = Path.of(replayDirectory).toAbsolutePath().normalize();
+        this.defaultBatchSize = defaultBatchSize;
+        this.batchLatency = Timer.builder("telemetry.replay.latency")
+                .description("Time from a replayed batch being due to the end of its processing")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.recordsReplayed = Counter.builder("telemetry.replay.records")
+                .description("Telemetry records re-fed through the pipeline by replays")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Validates the request and starts the replay in the background.
+     *
+     * @throws IllegalStateException if another replay is still running.
+     */
+    public synchronized TelemetryReplayStatus start(TelemetryReplayRequest request) {
+        if (current != null && current.state() == ReplayRun.State.RUNNING) {
+            throw new IllegalStateException("Replay " + current.id() + " is still running");
+        }
+        String sourceName = request.source() != null ? request.source().trim().toLowerCase(Locale.ROOT) : "flight-log";
+        ReplaySource source;
+        String description;
+        switch (sourceName) {
+            case "flight-log" -> {
+                if (request.from() == null) {
+                    throw new IllegalArgumentException("'from' is required to replay the flight log");
+                }
+                Instant to = request.to() != null ? request.to() : Instant.now();
+                source = flightLogSource(request.from(), to);
+                description = "flight-log " + request.from() + " .. " + to;
+            }
+            case "file" -> {
+                Path file = resolveReplayFile(request.file());
+                source = fileSource(file);
+                description = "file " + replayDirectory.relativize(file);
+            }
+            case "kafka" -> {
+                int partition = request.partition() != null ? request.partition() : 0;
+                if (partition < 0 || partition >= KafkaConfig.TELEMETRY_PARTITIONS) {
+                    throw new IllegalArgumentException("Partition must be between 0 and " + (KafkaConfig.TELEMETRY_PARTITIONS - 1));
+                }
+                if (request.fromOffset() == null || request.fromOffset() < 0) {
+                    throw new IllegalArgumentException("'fromOffset' is required to replay from Kafka");
+                }
+                long toOffset = request.toOffset() != null ? request.toOffset() : Long.MAX_VALUE;
+                if (toOffset <= request.fromOffset()) {
+                    throw new IllegalArgumentException("'toOffset' must be greater than 'fromOffset'");
+                }
+                source = kafkaSource(partition, request.fromOffset(), toOffset);
+                description = "kafka " + KafkaConfig.TELEMETRY_TOPIC + "-" + partition + " @" + request.fromOffset()
+                        + (request.toOffset() != null ? " .. " + toOffset : "");
+            }
+            default -> throw new IllegalArgumentException("Unknown replay source: " + request.source());
+        }
+
+        ReplaySpeed speed = request.speed() != null ? ReplaySpeed.parse(request.speed()) : ReplaySpeed.MAX;
+        int batchSize = request.batchSize() != null ? request.batchSize() : defaultBatchSize;
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+
+        ReplayRun run = new ReplayRun(UUID.randomUUID().toString(), description, speed, batchSize,
+                batch -> {
+                    pipeline.replay(batch);
+                    recordsReplayed.increment(batch.size());
+                },
+                latency -> batchLatency.record(latency, TimeUnit.NANOSECONDS));
+        keep(run);
+        current = run;
+        executor.execute(() -> {
+            logger.info("Replay {} started: {} at {}", run.id(), description, speed);
+            run.run(source);
+            logger.info("Replay {} {}: {} records in {} ms{}", run.id(), run.state(), run.records(),
+                    TimeUnit.NANOSECONDS.toMillis(run.elapsedNanos()), run.error() != null ? " (" + run.error() + ")" : "");
+        });
+        return status(run);
+    }
+
+    public synchronized Optional<TelemetryReplayStatus> status(String id) {
+        return Optional.ofNullable(runs.get(id)).map(TelemetryReplayService::status);
+    }
+
+    /** Latest runs, newest first. */
+    public synchronized List<TelemetryReplayStatus> statuses() {
+        List<TelemetryReplayStatus> result = new ArrayList<>(runs.size());
+        runs.values().forEach(run -> result.add(0, status(run)));
+        return result;
+    }
+
+    public synchronized Optional<TelemetryReplayStatus> cancel(String id) {
+        ReplayRun run = runs.get(id);
+        if (run == null) {
+            return Optional.empty();
+        }
+        run.cancel();
+        return Optional.of(status(run));
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (current != null) {
+            current.cancel();
+        }
+        executor.shutdownNow();
+    }
+
+    private ReplaySource flightLogSource(Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Time range start must be before its end");
+        }
+        if (!flightLogService.isEnabled()) {
+            throw new IllegalStateException("The telemetry flight log is disabled");
+        }
+        return sink -> flightLogService.read(from, to, decoding(sink));
+    }
+
+    private ReplaySource fileSource(Path file) {
+        return sink -> {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+                FlightLog.readFrames(in, decoding(sink));
+            }
+        };
+    }
+
+    private ReplaySource kafkaSource(int partition, long fromOffset, long toOffset) {
+        return sink -> {
+            Properties overrides = new Properties();
+            overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+            // Reads by explicit assignment: no group membership, no offsets committed
+            try (Consumer<Object, Object> consumer = consumerFactory.createConsumer(
+                    "telemetry-replay", "telemetry-replay", null, overrides)) {
+                TopicPartition topicPartition = new TopicPartition(KafkaConfig.TELEMETRY_TOPIC, partition);
+                consumer.assign(List.of(topicPartition));
+                consumer.seek(topicPartition, fromOffset);
+                long end = Math.min(toOffset, consumer.endOffsets(List.of(topicPartition)).get(topicPartition));
+                while (consumer.position(topicPartition) < end) {
+                    for (ConsumerRecord<Object, Object> record : consumer.poll(KAFKA_POLL_TIMEOUT)) {
+                        if (record.offset() >= end) {
+                            return;
+                        }
+                        if (record.value() instanceof TelemetryData data
+                                && !sink.accept(TimeUnit.MILLISECONDS.toMicros(record.timestamp()), data)) {
+                            return;
+                        }
+                    }
+                }
+            }
+        };
+    }
+
+    private FlightLog.RecordVisitor decoding(ReplaySink sink) {
+        return (recordedMicros, payload) -> sink.accept(recordedMicros, flightLogService.decode(payload));
+    }
+
+    private Path resolveReplayFile(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("'file' is required to replay a file");
+        }
+        Path file = replayDirectory.resolve(name).normalize();
+        if (!file.startsWith(replayDirectory)) {
+            throw new IllegalArgumentException("Replay files must be inside " + replayDirectory);
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("Replay file not found: " + name);
+        }
+        return file;
+    }
+
+    private void keep(ReplayRun run) {
+        runs.put(run.id(), run);
+        if (runs.size() > MAX_KEPT_RUNS) {
+            runs.remove(runs.keySet().iterator().next());
+        }
+    }
+
+    private static TelemetryReplayStatus status(ReplayRun run) {
+        long records = run.records();
+        double elapsedSeconds = run.elapsedNanos() / 1e9;
+        long batches = run.batches();
+        return new TelemetryReplayStatus(
+                run.id(),
+                run.source(),
+                run.speed().toString(),
+                run.state().name(),
+                run.startedAt(),
+                records,
+                batches,
+                elapsedSeconds,
+                elapsedSeconds > 0 ? records / elapsedSeconds : 0,
+                batches > 0 ? run.latencyMillis(0.50) : null,
+                batches > 0 ? run.latencyMillis(0.99) : null,
+                batches > 0 ? run.maxLatencyMillis() : null,
+                run.error());
+    }
+}
@@ -0,0 +1,125 @@
+package com.txt.backend.service;
+
+import com.txt.backend.dto.TelemetryData;
+import com.txt.backend.serialization.TelemetryTimestamps;
+import com.txt.backend.timeseries.SensorRingBuffer;
+import com.txt.backend.timeseries.SeriesSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory history of recent readings per sensor.
+ * Memory is bounded: every sensor gets a ring of {@code telemetry.store.capacity-per-sensor} samples
+ * (16 bytes each) plus up to {@code telemetry.store.compressed-bytes-per-sensor} of older, Gorilla-compressed
+ * chunks, and at most {@code telemetry.store.max-sensors} sensors are tracked.
+ * A batch this stage fails on leaves a gap in the affected sensors' history.
+ */
+@Service
+@Order(10)
+public class TelemetryStoreService implements TelemetryProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetryStoreService.class);
+
+    private final Map<String, SensorRingBuffer> series = new ConcurrentHashMap<>();
+    private final int capacityPerSensor;
+    private final int maxSensors;
+    private final int chunkSamples;
+    private final int compressedBytesPerSensor;
+    private final Counter rejectedSensors;
+
+    public TelemetryStoreService(@Value("${telemetry.store.capacity-per-sensor:4096}") int capacityPerSensor,
+                                 @Value("${telemetry.store.max-sensors:1024}") int maxSensors,
+                                 @Value("${telemetry.store.chunk-samples:1024}") int chunkSamples,
+                                 @Value("${telemetry.store.compressed-bytes-per-sensor:65536}") int compressedBytesPerSensor,
+                                 MeterRegistry meterRegistry) {
+        this.capacityPerSensor = capacityPerSensor;
+        this.maxSensors = maxSensors;
+        this.chunkSamples = Math.min(chunkSamples, capacityPerSensor);
+        this.compressedBytesPerSensor = compressedBytesPerSensor;
+        this.rejectedSensors = Counter.builder("telemetry.store.rejected")
+                .description("Readings dropped because the sensor limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("telemetry.store.sensors", series, Map::size)
+                .description("Sensors with an in-memory series")
+                .register(meterRegistry);
+        Gauge.builder("telemetry.store.compressed.bytes", series, TelemetryStoreService::compressedBytes)
+                .description("Bytes of Gorilla-compressed history across all sensors")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void process(List<TelemetryData> batch) {
+        for (TelemetryData data : batch) {
+            record(data);
+        }
+    }
+
+    public void record(TelemetryData data) {
+        if (data.getSensorId() == null) {
+            return;
+        }
+        SensorRingBuffer buffer = seriesFor(data.getSensorId());
+        if (buffer == null) {
+            rejectedSensors.increment();
+            return;
+        }
+        long micros = TelemetryTimestamps.toEpochMicros(data.getTimestamp());
+        if (micros == TelemetryTimestamps.UNPARSEABLE) {
+            micros = TelemetryTimestamps.toEpochMicros(Instant.now());
+        }
+        if (buffer.type() == null) {
+            buffer.describe(data.getType(), data.getUnit());
+        }
+        buffer.append(micros, data.getValue());
+    }
+
+    /** Newest {@code limit} samples of the sensor, oldest first. */
+    public Optional<SeriesSnapshot> lastSamples(String sensorId, int limit) {
+        return Optional.ofNullable(series.get(sensorId)).map(buffer -> buffer.last(limit));
+    }
+
+    /** Samples with {@code from <= timestamp < to}, oldest first. */
+    public Optional<SeriesSnapshot> samplesBetween(String sensorId, Instant from, Instant to, int limit) {
+        return Optional.ofNullable(series.get(sensorId)).map(buffer -> buffer.range(
+                TelemetryTimestamps.toEpochMicros(from), TelemetryTimestamps.toEpochMicros(to), limit));
+    }
+
+    public Optional<SensorRingBuffer> series(String sensorId) {
+        return Optional.ofNullable(series.get(sensorId));
+    }
+
+    private SensorRingBuffer seriesFor(String sensorId) {
+        SensorRingBuffer buffer = series.get(sensorId);
+        if (buffer != null) {
+            return buffer;
+        }
+        if (series.size() >= maxSensors) {
+            return null;
+        }
+        return series.computeIfAbsent(sensorId, id -> {
+            logger.debug("Tracking new sensor series: {}", id);
+            return new SensorRingBuffer(capacityPerSensor, chunkSamples, compressedBytesPerSensor);
+        });
+    }
+
+    private static double compressedBytes(Map<String, SensorRingBuffer> series) {
+        long total = 0;
+        for (SensorRingBuffer buffer : series.values()) {
+            total += buffer.compressedBytes();
+        }
+        return total;
+    }
+}
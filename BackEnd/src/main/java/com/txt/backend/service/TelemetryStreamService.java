@@ -0,0 +1,232 @@
+package com.txt.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.dto.TelemetryData;
+import com.txt.backend.streaming.ConflatingSubscriber;
+import com.txt.backend.streaming.TelemetryEventSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Pushes consumed telemetry to live dashboards.
+ *
+ * The consumer thread only serializes each reading once and offers it to every matching subscriber's
+ * conflating buffer, which never blocks; a small sender pool writes to the clients. A slow client
+ * therefore holds at most one pending value per sensor and never stalls the consumer. Each sender task
+ * writes one snapshot and goes back to the end of the pool queue, and a client whose write takes longer
+ * than {@code send-timeout-ms}, or whose buffer keeps overflowing for that long, is disconnected, so a
+ * few stuck dashboards cannot occupy every sender thread.
+ * A failed batch simply never reaches the dashboards; the next reading of each sensor replaces it anyway.
+ */
+@Service
+@Order(30)
+public class TelemetryStreamService implements TelemetryProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetryStreamService.class);
+
+    public static final String EVENT_NAME = "telemetry";
+
+    private final ObjectMapper objectMapper;
+    private final int bufferPerSubscriber;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMs;
+    private final long sendTimeoutNanos;
+    private final Map<String, ConflatingSubscriber> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+
+    private final Counter sent;
+    private final Counter conflated;
+    private final Counter dropped;
+    private final Counter evicted;
+    private final Timer sendLatency;
+
+    public TelemetryStreamService(ObjectMapper objectMapper,
+                                  @Value("${telemetry.stream.buffer-per-subscriber:256}") int bufferPerSubscriber,
+                                  @Value("${telemetry.stream.max-subscribers:1000}") int maxSubscribers,
+                                  @Value("${telemetry.stream.sender-threads:4}") int senderThreads,
+                                  @Value("${telemetry.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+                                  @Value("${telemetry.stream.send-timeout-ms:5000}") long sendTimeoutMs,
+                                  MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.bufferPerSubscriber = bufferPerSubscriber;
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "telemetry-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("telemetry.stream.subscribers", subscribers, Map::size)
+                .description("Connected live telemetry subscribers")
+                .register(meterRegistry);
+        this.sent = Counter.builder("telemetry.stream.sent")
+                .description("Telemetry events written to subscribers")
+                .register(meterRegistry);
+        this.conflated = Counter.builder("telemetry.stream.conflated")
+                .description("Queued events replaced by a newer reading of the same sensor")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("telemetry.stream.dropped")
+                .description("Queued events dropped because a subscriber buffer was full")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("telemetry.stream.evicted")
+                .description("Subscribers disconnected because a write or a full buffer outlasted the send timeout")
+                .register(meterRegistry);
+        this.sendLatency = Timer.builder("telemetry.stream.send.latency")
+                .description("Time from a reading being queued for a subscriber to it being written")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens an SSE stream of readings. Empty filters match everything.
+     *
+     * @throws IllegalStateException when the subscriber limit is reached.
+     */
+    public SseEmitter subscribe(Set<String> sensorIds, Set<String> types) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Predicate<TelemetryData> filter = data -> (sensorIds.isEmpty() || sensorIds.contains(data.getSensorId()))
+                && (types.isEmpty() || types.contains(data.getType()));
+        ConflatingSubscriber subscriber = subscribe(filter, new TelemetryEventSink() {
+            @Override
+            public void send(String sensorId, String json) throws IOException {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).data(json, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void close() {
+                emitter.completeWithError(new IOException("Live telemetry client too slow"));
+            }
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber.id()));
+        emitter.onTimeout(() -> unsubscribe(subscriber.id()));
+        emitter.onError(e -> unsubscribe(subscriber.id()));
+        return emitter;
+    }
+
+    /** Registers a subscriber with its own transport; used by {@link #subscribe(Set, Set)}. */
+    public ConflatingSubscriber subscribe(Predicate<TelemetryData> filter, TelemetryEventSink sink) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Live telemetry subscriber limit reached (" + maxSubscribers + ")");
+        }
+        ConflatingSubscriber subscriber = new ConflatingSubscriber(UUID.randomUUID().toString(), filter, sink, bufferPerSubscriber);
+        subscribers.put(subscriber.id(), subscriber);
+        logger.debug("Live telemetry subscriber {} connected ({} total)", subscriber.id(), subscribers.size());
+        return subscriber;
+    }
+
+    public void unsubscribe(String id) {
+        if (subscribers.remove(id) != null) {
+            logger.debug("Live telemetry subscriber {} disconnected ({} left)", id, subscribers.size());
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void process(List<TelemetryData> batch) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (TelemetryData data : batch) {
+            if (data.getSensorId() == null) {
+                continue;
+            }
+            String json = null;
+            for (ConflatingSubscriber subscriber : subscribers.values()) {
+                if (!subscriber.accepts(data)) {
+                    continue;
+                }
+                if (json == null) {
+                    json = serialize(data);
+                    if (json == null) {
+                        break;
+                    }
+                }
+                switch (subscriber.offer(data.getSensorId(), json, now)) {
+                    case CONFLATED -> conflated.increment();
+                    case DROPPED_OLDEST -> dropped.increment();
+                    default -> { }
+                }
+            }
+        }
+        long checkedAt = System.nanoTime();
+        for (ConflatingSubscriber subscriber : subscribers.values()) {
+            if (subscriber.isStalled(checkedAt, sendTimeoutNanos)) {
+                evict(subscriber);
+            } else if (subscriber.tryStartDrain()) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    private void schedule(ConflatingSubscriber subscriber) {
+        try {
+            senders.execute(() -> {
+                try {
+                    boolean more = subscriber.drain(latency -> {
+                        sent.increment();
+                        sendLatency.record(latency, TimeUnit.NANOSECONDS);
+                    });
+                    if (more) {
+                        schedule(subscriber);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    logger.debug("Live telemetry subscriber {} failed: {}", subscriber.id(), e.getMessage());
+                    unsubscribe(subscriber.id());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            unsubscribe(subscriber.id());
+        }
+    }
+
+    private void evict(ConflatingSubscriber subscriber) {
+        logger.info("Live telemetry subscriber {} is too slow, disconnecting", subscriber.id());
+        evicted.increment();
+        unsubscribe(subscriber.id());
+        subscriber.close();
+    }
+
+    private String serialize(TelemetryData data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            logger.warn("Cannot serialize telemetry from sensor {}", data.getSensorId(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.txt.backend.service;
+
+import com.txt.backend.dto.WarpSimulationBatchResult;
+import com.txt.backend.dto.WarpSimulationRequest;
+import com.txt.backend.mapper.WarpSimulationMapper;
+import com.txt.backend.model.WarpSimulation;
+import com.txt.backend.repository.WarpSimulationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs many warp simulations per request: they are computed in parallel on a shared worker pool and stored as
+ * they finish, {@code insert-size} rows per transaction so Hibernate sends each chunk as one JDBC batch (the
+ * pooled {@code warp_simulation_seq} ids need no round trip per row). Results reach the caller in completion
+ * order, each chunk once it has committed.
+ *
+ * A simulation that fails (say, origin and destination are the same point) is reported with its error and
+ * does not stop the batch; a failed insert does.
+ */
+@Service
+public class WarpBatchService {
+
+    private final WarpSimulationService warpSimulationService;
+    private final WarpSimulationRepository warpSimulationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final int insertSize;
+    private final int maxSize;
+
+    private final Counter simulated;
+    private final Counter failed;
+    private final Timer insertLatency;
+
+    public WarpBatchService(WarpSimulationService warpSimulationService,
+                            WarpSimulationRepository warpSimulationRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${warp.batch.parallelism:0}") int parallelism,
+                            @Value("${warp.batch.insert-size:50}") int insertSize,
+                            @Value("${warp.batch.max-size:10000}") int maxSize,
+                            MeterRegistry meterRegistry) {
+        if (insertSize <= 0 || maxSize <= 0) {
+            throw new IllegalArgumentException("Warp batch insert size and maximum size must be positive");
+        }
+        this.warpSimulationService = warpSimulationService;
+        this.warpSimulationRepository = warpSimulationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.insertSize = insertSize;
+        this.maxSize = maxSize;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(), runnable -> {
+                    Thread thread = new Thread(runnable, "warp-batch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.simulated = Counter.builder("warp.batch.simulations")
+                .description("Warp simulations computed and stored through the batch endpoint")
+                .register(meterRegistry);
+        this.failed = Counter.builder("warp.batch.failures")
+                .description("Batch warp simulations that could not be computed")
+                .register(meterRegistry);
+        this.insertLatency = Timer.builder("warp.batch.insert.latency")
+                .description("Time to store one chunk of batch warp simulations")
+                .register(meterRegistry);
+    }
+
+    /** @throws IllegalArgumentException if the batch is larger than {@code warp.batch.max-size}. */
+    public void checkSize(int size) {
+        if (size > maxSize) {
+            throw new IllegalArgumentException("A batch may hold at most " + maxSize + " simulations, got " + size);
+        }
+    }
+
+    /**
+     * Simulates and stores every request, handing each outcome to {@code onResult} on the calling thread.
+     *
+     * @return simulations stored.
+     */
+    public int simulate(List<WarpSimulationRequest> requests, Consumer<WarpSimulationBatchResult> onResult) {
+        checkSize(requests.size());
+        CompletionService<Indexed> completion = new ExecutorCompletionService<>(workers);
+        List<Future<Indexed>> futures = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            int index = i;
+            WarpSimulationRequest request = requests.get(i);
+            futures.add(completion.submit(() -> {
+                try {
+                    return new Indexed(index, warpSimulationService.compute(
+                            request.initialX(), request.initialY(), request.initialZ(),
+                            request.finalX(), request.finalY(), request.finalZ(), request.bubbleVelocity()), null);
+                } catch (RuntimeException e) {
+                    return new Indexed(index, null, e);
+                }
+            }));
+        }
+        int stored = 0;
+        List<Indexed> pending = new ArrayList<>(insertSize);
+        try {
+            for (int done = 0; done < requests.size(); done++) {
+                Indexed result = completion.take().get();
+                if (result.failure() != null) {
+                    failed.increment();
+                    onResult.accept(new WarpSimulationBatchResult(result.index(), null, message(result.failure())));
+                    continue;
+                }
+                pending.add(result);
+                if (pending.size() == insertSize) {
+                    stored += store(pending, onResult);
+                }
+            }
+            if (!pending.isEmpty()) {
+                stored += store(pending, onResult);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while simulating a warp batch", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Warp batch worker failed", e.getCause()); // tasks catch their errors
+        } finally {
+            futures.forEach(future -> future.cancel(true)); // no-op for finished ones; stops the rest on failure
+        }
+        return stored;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private int store(List<Indexed> pending, Consumer<WarpSimulationBatchResult> onResult) {
+        long start = System.nanoTime();
+        List<WarpSimulation> simulations = pending.stream().map(Indexed::simulation).toList();
+        transactionTemplate.executeWithoutResult(status -> warpSimulationRepository.saveAll(simulations));
+        insertLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        simulated.increment(pending.size());
+        for (Indexed result : pending) {
+            onResult.accept(new WarpSimulationBatchResult(result.index(),
+                    WarpSimulationMapper.toResponse(result.simulation()), null));
+        }
+        int count = pending.size();
+        pending.clear();
+        return count;
+    }
+
+    // Many exceptions carry no message; the class name still tells the client something
+    private static String message(RuntimeException failure) {
+        return failure.getMessage() != null ? failure.getMessage() : failure.toString();
+    }
+
+    private record Indexed(int index, WarpSimulation simulation, RuntimeException failure) {
+    }
+}
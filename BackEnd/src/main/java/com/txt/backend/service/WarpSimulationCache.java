@@ -0,0 +1,161 @@
+package com.txt.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.cache.LruTtlCache;
+import com.txt.backend.cache.WarpSimulationKey;
+import com.txt.backend.dto.WarpSimulationRequest;
+import com.txt.backend.dto.warpSimulationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Results of warp simulations keyed by {@link WarpSimulationKey}, in two tiers: a bounded in-process
+ * {@link LruTtlCache} and, with {@code warp.cache.redis.enabled}, Redis shared by every instance. A local miss
+ * falls through to Redis, and a Redis hit is copied into the local tier.
+ *
+ * Redis is an optimisation only: when it is unreachable the error is counted and the request is simulated as
+ * if it had missed.
+ */
+@Service
+public class WarpSimulationCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarpSimulationCache.class);
+
+    static final String REDIS_KEY_PREFIX = "warp:simulation:";
+
+    private final ObstacleCatalogService obstacleCatalogService;
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redis;
+    private final boolean enabled;
+    private final double positionQuantum;
+    private final double velocityQuantum;
+    private final Duration redisTtl;
+    private final LruTtlCache<WarpSimulationKey, warpSimulationResponse> local;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public WarpSimulationCache(ObstacleCatalogService obstacleCatalogService,
+                               ObjectMapper objectMapper,
+                               ObjectProvider<StringRedisTemplate> redisTemplate,
+                               @Value("${warp.cache.enabled:true}") boolean enabled,
+                               @Value("${warp.cache.max-entries:10000}") int maxEntries,
+                               @Value("${warp.cache.ttl-seconds:600}") long ttlSeconds,
+                               @Value("${warp.cache.position-quantum:1}") double positionQuantum,
+                               @Value("${warp.cache.velocity-quantum:1}") double velocityQuantum,
+                               @Value("${warp.cache.redis.enabled:false}") boolean redisEnabled,
+                               @Value("${warp.cache.redis.ttl-seconds:3600}") long redisTtlSeconds,
+                               MeterRegistry meterRegistry) {
+        if (!(positionQuantum > 0) || !(velocityQuantum > 0) || redisTtlSeconds <= 0) {
+            throw new IllegalArgumentException("Warp cache quanta and Redis time to live must be positive");
+        }
+        this.obstacleCatalogService = obstacleCatalogService;
+        this.objectMapper = objectMapper;
+        this.redis = enabled && redisEnabled ? redisTemplate.getObject() : null;
+        this.enabled = enabled;
+        this.positionQuantum = positionQuantum;
+        this.velocityQuantum = velocityQuantum;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        Map<LruTtlCache.EvictionCause, Counter> evictions = new EnumMap<>(LruTtlCache.EvictionCause.class);
+        for (LruTtlCache.EvictionCause cause : LruTtlCache.EvictionCause.values()) {
+            evictions.put(cause, Counter.builder("warp.cache.evictions")
+                    .description("Warp simulation results dropped from the in-process cache")
+                    .tag("cause", cause.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.local = new LruTtlCache<>(maxEntries, TimeUnit.SECONDS.toNanos(ttlSeconds),
+                cause -> evictions.get(cause).increment());
+        Gauge.builder("warp.cache.size", local, LruTtlCache::size)
+                .description("Warp simulation results in the in-process cache")
+                .register(meterRegistry);
+        this.localHits = requests(meterRegistry, "local", "hit");
+        this.localMisses = requests(meterRegistry, "local", "miss");
+        this.redisHits = requests(meterRegistry, "redis", "hit");
+        this.redisMisses = requests(meterRegistry, "redis", "miss");
+        this.redisErrors = Counter.builder("warp.cache.redis.errors")
+                .description("Redis cache reads and writes that failed and were skipped")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Key of the request against the current obstacle catalog; {@code model} fingerprints the simulation settings. */
+    public WarpSimulationKey key(WarpSimulationRequest request, long model) {
+        return WarpSimulationKey.of(request, positionQuantum, velocityQuantum, model,
+                obstacleCatalogService.fingerprint());
+    }
+
+    /** The cached result, or null. */
+    public warpSimulationResponse get(WarpSimulationKey key) {
+        warpSimulationResponse cached = local.get(key);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        localMisses.increment();
+        if (redis == null) {
+            return null;
+        }
+        try {
+            String json = redis.opsForValue().get(REDIS_KEY_PREFIX + key.canonical());
+            if (json == null) {
+                redisMisses.increment();
+                return null;
+            }
+            cached = objectMapper.readValue(json, warpSimulationResponse.class);
+            redisHits.increment();
+            local.put(key, cached);
+            return cached;
+        } catch (JsonProcessingException | RuntimeException e) {
+            redisErrors.increment();
+            logger.warn("Warp cache read from Redis failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** The result in this instance's cache, or null; not counted as a lookup. */
+    public warpSimulationResponse peek(WarpSimulationKey key) {
+        return local.get(key);
+    }
+
+    public void put(WarpSimulationKey key, warpSimulationResponse result) {
+        local.put(key, result);
+        if (redis == null) {
+            return;
+        }
+        try {
+            redis.opsForValue().set(REDIS_KEY_PREFIX + key.canonical(), objectMapper.writeValueAsString(result),
+                    redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            redisErrors.increment();
+            logger.warn("Warp cache write to Redis failed: {}", e.getMessage());
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("warp.cache.requests")
+                .description("Warp simulation cache lookups")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -3,7 +3,28 @@ package com.txt.backend.service;
 import com.txt.backend.model.WarpSimulation;
 import com.txt.backend.repository.WarpSimulationRepository;
 import com.txt.backend.exception.ResourceNotFoundException;
+import com.txt.backend.cache.WarpCacheMode;
+import com.txt.backend.cache.WarpSimulationKey;
+import com.txt.backend.dto.WarpSimulationRequest;
+import com.txt.backend.dto.WarpTrajectoryRequest;
+import com.txt.backend.dto.warpSimulationResponse;
+import com.txt.backend.mapper.WarpSimulationMapper;
+import com.txt.backend.obstacle.Contact;
+import com.txt.backend.warp.AccelerationProfile;
+import com.txt.backend.warp.AlcubierreEnergyEngine;
+import com.txt.backend.warp.ShapeFunction;
+import com.txt.backend.warp.TrajectoryPlan;
+import com.txt.backend.warp.TrajectorySimulator;
+import jakarta.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -11,31 +32,209 @@ public class WarpSimulationService {
 
     private static final double SPEED_OF_LIGHT = 299792458; // Velocidade da luz em m/s
     private final WarpSimulationRepository warpSimulationRepository;
+    private final ObstacleCatalogService obstacleCatalogService;
+    private final WarpSimulationCache simulationCache;
+    private final WarpCacheMode defaultCacheMode;
+    private final long modelFingerprint;
+    // Misses being simulated right now, so concurrent requests for the same key wait for one result
+    private final ConcurrentHashMap<WarpSimulationKey, CompletableFuture<warpSimulationResponse>> inFlight =
+            new ConcurrentHashMap<>();
+    private final AlcubierreEnergyEngine energyEngine;
+    private final AlcubierreEnergyEngine.Method energyMethod;
+    private final double energyAccuracy;
+    private final double acceleration;
+    private final AccelerationProfile profile;
+    private final int targetSteps;
+    private final long maxSteps;
 
-    public WarpSimulationService(WarpSimulationRepository warpSimulationRepository) {
+    /** A persisted warp simulation and the stepper that replays its trajectory. */
+    public record Trajectory(WarpSimulation simulation, TrajectorySimulator simulator) {
+    }
+
+    public WarpSimulationService(WarpSimulationRepository warpSimulationRepository,
+                                 ObstacleCatalogService obstacleCatalogService,
+                                 WarpSimulationCache simulationCache,
+                                 @Value("${warp.cache.mode:PERSIST}") WarpCacheMode defaultCacheMode,
+                                 @Value("${warp.energy.sigma-r:8}") double sigmaR,
+                                 @Value("${warp.energy.wall-widths:10}") double wallWidths,
+                                 @Value("${warp.energy.method:GRID}") AlcubierreEnergyEngine.Method energyMethod,
+                                 @Value("${warp.energy.grid-cells:48}") int gridCells,
+                                 @Value("${warp.energy.tolerance:1e-6}") double tolerance,
+                                 @Value("${warp.energy.parallelism:0}") int parallelism,
+                                 @Value("${warp.trajectory.acceleration:1000}") double acceleration,
+                                 @Value("${warp.trajectory.profile:SMOOTH}") AccelerationProfile profile,
+                                 @Value("${warp.trajectory.target-steps:1000}") int targetSteps,
+                                 @Value("${warp.trajectory.max-steps:1000000}") long maxSteps) {
+        if (!(acceleration > 0) || targetSteps <= 0 || maxSteps <= 0) {
+            throw new IllegalArgumentException("Trajectory acceleration and step limits must be positive");
+        }
         this.warpSimulationRepository = warpSimulationRepository;
+        this.obstacleCatalogService = obstacleCatalogService;
+        this.simulationCache = simulationCache;
+        this.defaultCacheMode = defaultCacheMode;
+        this.energyEngine = new AlcubierreEnergyEngine(new ShapeFunction(sigmaR), wallWidths,
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.energyMethod = energyMethod;
+        this.energyAccuracy = energyMethod == AlcubierreEnergyEngine.Method.GRID ? gridCells : tolerance;
+        energyEngine.integral(energyMethod, energyAccuracy); // at startup rather than on the first simulation
+        this.acceleration = acceleration;
+        this.profile = profile;
+        this.targetSteps = targetSteps;
+        this.maxSteps = maxSteps;
+        // Everything besides the request a result depends on; enums by name so the value is the same in every JVM
+        this.modelFingerprint = fingerprint("sigmaR=" + sigmaR + ";wallWidths=" + wallWidths
+                + ";method=" + energyMethod.name() + ";accuracy=" + energyAccuracy + ";acceleration=" + acceleration
+                + ";profile=" + profile.name());
     }
 
-    // Simplified energy calculation based on bubble properties
+    /**
+     * Magnitude of the negative energy an Alcubierre bubble needs: E = ∫ T_00 dV over the bubble,
+     * integrated numerically by {@link AlcubierreEnergyEngine}.
+     *
+     * @param bubbleSize bubble radius in metres.
+     * @param bubbleVelocity bubble velocity in m/s.
+     */
     public double calculateEnergyRequired(double bubbleSize, double bubbleVelocity) {
-        // Simplified formula based on energy-momentum tensor
-        // E = integral T_00 dV
-        return bubbleSize * bubbleVelocity * 1e12; // Arbitrary simulation value
+        return Math.abs(energyEngine.energy(bubbleSize, bubbleVelocity, energyMethod, energyAccuracy));
+    }
+
+    @PreDestroy
+    public void close() {
+        energyEngine.close();
+    }
+
+    /**
+     * Simulates a jump through {@link WarpSimulationCache}. Requests that quantize to the same key share one
+     * result, simulated from the quantized inputs. With {@link WarpCacheMode#PERSIST} a miss stores one row
+     * and hits return it; with {@link WarpCacheMode#COMPUTE_ONLY} nothing is stored. Concurrent misses on one
+     * key are simulated once, the other requests wait for that result.
+     *
+     * @param mode null for {@code warp.cache.mode}.
+     */
+    public warpSimulationResponse simulate(WarpSimulationRequest request, WarpCacheMode mode) {
+        WarpCacheMode effective = mode != null ? mode : defaultCacheMode;
+        if (!simulationCache.isEnabled()) {
+            return WarpSimulationMapper.toResponse(run(request, effective));
+        }
+        WarpSimulationKey key = simulationCache.key(request, modelFingerprint);
+        warpSimulationResponse cached = simulationCache.get(key);
+        if (usable(cached, effective)) {
+            return cached;
+        }
+        CompletableFuture<warpSimulationResponse> mine = new CompletableFuture<>();
+        CompletableFuture<warpSimulationResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            warpSimulationResponse shared = await(running);
+            // A COMPUTE_ONLY result has no row for a PERSIST request to return
+            return usable(shared, effective) ? shared : runAndCache(key, effective);
+        }
+        try {
+            // A request that finished between the lookup above and claiming the key has cached its result already
+            warpSimulationResponse finished = simulationCache.peek(key);
+            warpSimulationResponse result = usable(finished, effective) ? finished : runAndCache(key, effective);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private warpSimulationResponse runAndCache(WarpSimulationKey key, WarpCacheMode mode) {
+        warpSimulationResponse result = WarpSimulationMapper.toResponse(run(key.canonicalRequest(), mode));
+        simulationCache.put(key, result);
+        return result;
+    }
+
+    private static boolean usable(warpSimulationResponse cached, WarpCacheMode mode) {
+        return cached != null && (mode == WarpCacheMode.COMPUTE_ONLY || cached.id() != null);
+    }
+
+    private static warpSimulationResponse await(CompletableFuture<warpSimulationResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause; // the same request failed for the one that simulated it
+            }
+            throw e;
+        }
+    }
+
+    // First 64 bits of SHA-256, so every JVM derives the same value and different settings practically never collide
+    private static long fingerprint(String settings) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(settings.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private WarpSimulation run(WarpSimulationRequest request, WarpCacheMode mode) {
+        WarpSimulation simulation = compute(request.initialX(), request.initialY(), request.initialZ(),
+                request.finalX(), request.finalY(), request.finalZ(), request.bubbleVelocity());
+        return mode == WarpCacheMode.PERSIST ? warpSimulationRepository.save(simulation) : simulation;
     }
 
     // Method to simulate warp drive mechanics
     public WarpSimulation simulateWarp(double initialX, double initialY, double initialZ,
                                        double finalX, double finalY, double finalZ,
                                        double bubbleVelocity) {
-        double distance = Math.sqrt(Math.pow(finalX - initialX, 2) +
-                                   Math.pow(finalY - initialY, 2) +
-                                   Math.pow(finalZ - initialZ, 2));
+        return warpSimulationRepository.save(
+                compute(initialX, initialY, initialZ, finalX, finalY, finalZ, bubbleVelocity));
+    }
 
-        double bubbleSize = distance / 10; // Bubble size proportional to distance
-        double energyRequired = calculateEnergyRequired(bubbleSize, bubbleVelocity);
-        double travelTime = distance / bubbleVelocity;
+    /** Simulates a warp jump without storing it; safe to call from several threads. */
+    public WarpSimulation compute(double initialX, double initialY, double initialZ,
+                                  double finalX, double finalY, double finalZ,
+                                  double bubbleVelocity) {
+        double distance = distance(initialX, initialY, initialZ, finalX, finalY, finalZ);
+        TrajectoryPlan plan = TrajectoryPlan.of(profile, distance, bubbleVelocity, acceleration);
+        return build(initialX, initialY, initialZ, finalX, finalY, finalZ, bubbleVelocity, plan);
+    }
+
+    /**
+     * Plans a warp jump, stores its summary as one {@code warp_simulations} row and returns a stepper for the
+     * caller to run; the steps themselves are never stored.
+     */
+    public Trajectory simulateTrajectory(WarpTrajectoryRequest request) {
+        double distance = distance(request.initialX(), request.initialY(), request.initialZ(),
+                request.finalX(), request.finalY(), request.finalZ());
+        TrajectoryPlan plan = TrajectoryPlan.of(
+                request.profile() != null ? request.profile() : profile, distance, request.bubbleVelocity(),
+                request.acceleration() != null ? request.acceleration() : acceleration);
+        double timeStep = request.timeStep() != null ? request.timeStep() : plan.totalTime() / targetSteps;
+        if (!(timeStep > 0)) {
+            timeStep = 1; // zero-length jump: a single sample
+        }
+        long steps = TrajectorySimulator.steps(plan.totalTime(), timeStep);
+        if (steps > maxSteps) {
+            throw new IllegalArgumentException("Trajectory would take " + steps + " steps, more than the limit of "
+                    + maxSteps + "; use a larger time step");
+        }
+        WarpSimulation simulation = warpSimulationRepository.save(build(request.initialX(), request.initialY(),
+                request.initialZ(), request.finalX(), request.finalY(), request.finalZ(), request.bubbleVelocity(), plan));
+        TrajectorySimulator simulator = new TrajectorySimulator(plan,
+                new double[]{request.initialX(), request.initialY(), request.initialZ()},
+                new double[]{request.finalX(), request.finalY(), request.finalZ()},
+                timeStep, request.sampleEvery() != null ? request.sampleEvery() : 1,
+                simulation.getEnergyRequired());
+        return new Trajectory(simulation, simulator);
+    }
 
-        WarpSimulation simulation = WarpSimulation.builder()
+    private WarpSimulation build(double initialX, double initialY, double initialZ,
+                                 double finalX, double finalY, double finalZ,
+                                 double bubbleVelocity, TrajectoryPlan plan) {
+        double bubbleSize = plan.distance() / 10; // Bubble size proportional to distance
+        // The bubble needs the most energy at its peak velocity, which is below cruise on short jumps
+        double energyRequired = calculateEnergyRequired(bubbleSize, plan.peakVelocity());
+        Contact contact = obstacleCatalogService.firstContact(new double[]{initialX, initialY, initialZ},
+                new double[]{finalX, finalY, finalZ}, bubbleSize);
+
+        return WarpSimulation.builder()
                 .initialX(initialX)
                 .initialY(initialY)
                 .initialZ(initialZ)
@@ -45,12 +244,21 @@ public class WarpSimulationService {
                 .bubbleVelocity(bubbleVelocity)
                 .bubbleSize(bubbleSize)
                 .energyRequired(energyRequired)
-                .warpPhase("START")
-                .obstaclesDetected(false)
-                .travelTime(travelTime)
+                .warpPhase(plan.phaseAt(plan.totalTime()).name())
+                .obstaclesDetected(contact != null)
+                .travelTime(plan.totalTime())
+                .obstacleId(contact != null ? contact.obstacleId() : null)
+                .contactX(contact != null ? contact.x() : null)
+                .contactY(contact != null ? contact.y() : null)
+                .contactZ(contact != null ? contact.z() : null)
                 .build();
+    }
 
-        return warpSimulationRepository.save(simulation);
+    private static double distance(double initialX, double initialY, double initialZ,
+                                   double finalX, double finalY, double finalZ) {
+        return Math.sqrt(Math.pow(finalX - initialX, 2) +
+                         Math.pow(finalY - initialY, 2) +
+                         Math.pow(finalZ - initialZ, 2));
     }
 
     public WarpSimulation getById(Long id) {
@@ -0,0 +1,186 @@
+package com.txt.backend.streaming;
+
+import com.txt.backend.dto.TelemetryData;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Bounded, conflating queue of pending updates for one subscriber.
+ *
+ * The queue holds at most one update per sensor: a newer reading replaces the queued one in place,
+ * so a slow client skips intermediate values but always ends up with the latest. When more than
+ * {@code capacity} sensors are pending, the oldest queued sensor is dropped. Offering never blocks;
+ * at most one drain per subscriber runs on the sender pool at a time, and each drain sends one snapshot
+ * so a client that keeps receiving updates still hands its sender thread back between snapshots.
+ */
+public final class ConflatingSubscriber {
+
+    public enum Offer { QUEUED, CONFLATED, DROPPED_OLDEST, FILTERED }
+
+    private static final long IDLE = Long.MIN_VALUE;
+
+    private final String id;
+    private final Predicate<TelemetryData> filter;
+    private final TelemetryEventSink sink;
+    private final int capacity;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, Pending> pending = new LinkedHashMap<>();
+    private boolean draining;
+    private long fullSinceNanos = IDLE;
+    private Thread sender;
+    private volatile boolean closed;
+    private volatile long sendStartedNanos = IDLE;
+
+    public ConflatingSubscriber(String id, Predicate<TelemetryData> filter, TelemetryEventSink sink, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Subscriber buffer capacity must be positive");
+        }
+        this.id = id;
+        this.filter = filter;
+        this.sink = sink;
+        this.capacity = capacity;
+    }
+
+    public boolean accepts(TelemetryData data) {
+        return filter.test(data);
+    }
+
+    /** Queues an already serialized update; the caller checked {@link #accepts}. */
+    public Offer offer(String sensorId, String json, long enqueuedNanos) {
+        synchronized (lock) {
+            Pending previous = pending.get(sensorId);
+            if (previous != null) {
+                // Keep the original enqueue time: latency is measured from the oldest value it replaced
+                pending.put(sensorId, new Pending(sensorId, json, previous.enqueuedNanos()));
+                return Offer.CONFLATED;
+            }
+            Offer result = Offer.QUEUED;
+            if (pending.size() >= capacity) {
+                Iterator<Map.Entry<String, Pending>> eldest = pending.entrySet().iterator();
+                eldest.next();
+                eldest.remove();
+                result = Offer.DROPPED_OLDEST;
+                if (fullSinceNanos == IDLE) {
+                    fullSinceNanos = enqueuedNanos;
+                }
+            }
+            pending.put(sensorId, new Pending(sensorId, json, enqueuedNanos));
+            return result;
+        }
+    }
+
+    /** Claims the drain for the caller; false if one is already scheduled or running. */
+    public boolean tryStartDrain() {
+        synchronized (lock) {
+            if (draining || pending.isEmpty()) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+    }
+
+    /**
+     * Sends the updates pending right now, at most {@code capacity} of them. Updates that arrive meanwhile
+     * wait for the next drain.
+     *
+     * @param latencyNanos receives, per sent update, the time since it was first queued.
+     * @return true if more updates are pending: the drain stays claimed and the caller must run it again.
+     * @throws IOException if the client is gone; the drain is released and the queue cleared.
+     */
+    public boolean drain(LongConsumer latencyNanos) throws IOException {
+        List<Pending> batch;
+        synchronized (lock) {
+            batch = closed ? List.of() : new ArrayList<>(pending.values());
+            pending.clear();
+            fullSinceNanos = IDLE;
+            sender = Thread.currentThread();
+        }
+        try {
+            for (Pending update : batch) {
+                if (closed) {
+                    break;
+                }
+                sendStartedNanos = System.nanoTime();
+                sink.send(update.sensorId(), update.json());
+                sendStartedNanos = IDLE;
+                latencyNanos.accept(System.nanoTime() - update.enqueuedNanos());
+            }
+        } catch (IOException | RuntimeException e) {
+            release();
+            throw e;
+        }
+        synchronized (lock) {
+            if (!closed && !pending.isEmpty()) {
+                sender = null;
+                return true;
+            }
+        }
+        release();
+        return false;
+    }
+
+    /**
+     * True if the current send has been running, or the buffer has been overflowing, for longer than
+     * {@code limitNanos}. Such a client cannot keep up and only holds a sender thread or drops data.
+     */
+    public boolean isStalled(long nowNanos, long limitNanos) {
+        long sending = sendStartedNanos;
+        if (sending != IDLE && nowNanos - sending > limitNanos) {
+            return true;
+        }
+        synchronized (lock) {
+            return fullSinceNanos != IDLE && nowNanos - fullSinceNanos > limitNanos;
+        }
+    }
+
+    /**
+     * Stops sending to this subscriber: the queue is cleared and a send in progress is interrupted.
+     * The sink itself is closed by the drain that owns it, so a blocked transport is never touched
+     * from the calling thread.
+     */
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            pending.clear();
+            if (sender != null) {
+                sender.interrupt();
+            }
+        }
+    }
+
+    private void release() {
+        synchronized (lock) {
+            pending.clear();
+            draining = false;
+            sender = null;
+            sendStartedNanos = IDLE;
+        }
+        if (closed) {
+            // Drop an interrupt from close() that arrived after the send it was meant for
+            Thread.interrupted();
+            sink.close();
+        }
+    }
+
+    public int pendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    public String id() {
+        return id;
+    }
+
+    private record Pending(String sensorId, String json, long enqueuedNanos) {
+    }
+}
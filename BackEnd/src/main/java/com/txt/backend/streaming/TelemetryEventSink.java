@@ -0,0 +1,16 @@
+package com.txt.backend.streaming;
+
+import java.io.IOException;
+
+/**
+ * Transport of one subscriber (an SSE connection in production).
+ * Called from a sender thread, never from the Kafka consumer.
+ */
+@FunctionalInterface
+public interface TelemetryEventSink {
+    void send(String sensorId, String json) throws IOException;
+
+    /** Ends the transport after the subscriber was disconnected for being too slow. */
+    default void close() {
+    }
+}
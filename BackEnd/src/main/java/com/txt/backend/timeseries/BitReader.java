@@ -0,0 +1,36 @@
+package com.txt.backend.timeseries;
+
+/** Reads bit fields written by {@link BitWriter}. */
+final class BitReader {
+
+    private final long[] words;
+    private int position;
+
+    BitReader(long[] words) {
+        this.words = words;
+    }
+
+    boolean readBit() {
+        boolean bit = (words[position >>> 6] << (position & 63)) < 0;
+        position++;
+        return bit;
+    }
+
+    /** Reads {@code count} bits (1..64) as an unsigned value. */
+    long readBits(int count) {
+        int wordIndex = position >>> 6;
+        int used = position & 63;
+        int available = 64 - used;
+        long value;
+        if (count <= available) {
+            value = (words[wordIndex] << used) >>> (64 - count);
+        } else {
+            int spill = count - available;
+            long high = (words[wordIndex] << used) >>> (64 - available);
+            long low = words[wordIndex + 1] >>> (64 - spill);
+            value = (high << spill) | low;
+        }
+        position += count;
+        return value;
+    }
+}
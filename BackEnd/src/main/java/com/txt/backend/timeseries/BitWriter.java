@@ -0,0 +1,48 @@
+package com.txt.backend.timeseries;
+
+import java.util.Arrays;
+
+/** Appends bit fields, most significant bit first, into a growable {@code long[]}. */
+final class BitWriter {
+
+    private long[] words;
+    private int bitCount;
+
+    BitWriter(int initialWords) {
+        this.words = new long[Math.max(1, initialWords)];
+    }
+
+    void writeBit(boolean bit) {
+        writeBits(bit ? 1 : 0, 1);
+    }
+
+    /** Writes the low {@code count} bits of {@code value} (1..64). */
+    void writeBits(long value, int count) {
+        if (count < 64) {
+            value &= (1L << count) - 1;
+        }
+        int wordIndex = bitCount >>> 6;
+        int used = bitCount & 63;
+        if (wordIndex + 1 >= words.length) {
+            words = Arrays.copyOf(words, words.length * 2);
+        }
+        int free = 64 - used;
+        if (count <= free) {
+            words[wordIndex] |= value << (free - count);
+        } else {
+            int spill = count - free;
+            words[wordIndex] |= value >>> spill;
+            words[wordIndex + 1] |= value << (64 - spill);
+        }
+        bitCount += count;
+    }
+
+    int bitCount() {
+        return bitCount;
+    }
+
+    /** The written bits, trimmed to whole words. */
+    long[] toWords() {
+        return Arrays.copyOf(words, (bitCount + 63) >>> 6);
+    }
+}
@@ -0,0 +1,178 @@
+package com.txt.backend.timeseries;
+
+/**
+ * Immutable, compressed run of consecutive samples of one sensor (Gorilla, Pelkonen et al. 2015).
+ *
+ * Timestamps are stored as delta-of-delta: regular sampling makes almost every sample cost one bit.
+ * Values are XORed with the previous value and only the meaningful bits are written, so a repeated
+ * reading costs one bit and a small change a dozen or so.
+ *
+ * <pre>
+ * first sample:  64-bit timestamp, 64-bit value bits
+ * timestamp:     '0' dod = 0 | '10' 14 bits | '110' 20 bits | '1110' 32 bits | '1111' 64 bits
+ * value:         '0' same value | '10' reuse previous leading/trailing window | '11' 6-bit leading, 6-bit length, bits
+ * </pre>
+ */
+public final class GorillaChunk {
+
+    private final long[] bits;
+    private final int count;
+    private final long firstSequence;
+    private final long minMicros;
+    private final long maxMicros;
+
+    private GorillaChunk(long[] bits, int count, long firstSequence, long minMicros, long maxMicros) {
+        this.bits = bits;
+        this.count = count;
+        this.firstSequence = firstSequence;
+        this.minMicros = minMicros;
+        this.maxMicros = maxMicros;
+    }
+
+    /**
+     * Compresses {@code count} samples.
+     *
+     * @param firstSequence position of the first sample in the sensor's series, used to merge with newer data.
+     */
+    public static GorillaChunk encode(long firstSequence, long[] timestamps, double[] values, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("A chunk needs at least one sample");
+        }
+        BitWriter out = new BitWriter(count / 16 + 4);
+        long minMicros = timestamps[0];
+        long maxMicros = timestamps[0];
+
+        long previousTimestamp = timestamps[0];
+        long previousDelta = 0;
+        long previousValue = Double.doubleToRawLongBits(values[0]);
+        int previousLeading = Integer.MAX_VALUE;
+        int previousTrailing = 0;
+        out.writeBits(previousTimestamp, 64);
+        out.writeBits(previousValue, 64);
+
+        for (int i = 1; i < count; i++) {
+            long timestamp = timestamps[i];
+            minMicros = Math.min(minMicros, timestamp);
+            maxMicros = Math.max(maxMicros, timestamp);
+            long delta = timestamp - previousTimestamp;
+            writeDeltaOfDelta(out, delta - previousDelta);
+            previousDelta = delta;
+            previousTimestamp = timestamp;
+
+            long value = Double.doubleToRawLongBits(values[i]);
+            long xor = value ^ previousValue;
+            previousValue = value;
+            if (xor == 0) {
+                out.writeBit(false);
+                continue;
+            }
+            out.writeBit(true);
+            int leading = Math.min(Long.numberOfLeadingZeros(xor), 63);
+            int trailing = Long.numberOfTrailingZeros(xor);
+            if (leading >= previousLeading && trailing >= previousTrailing) {
+                out.writeBit(false);
+                out.writeBits(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+            } else {
+                int meaningful = 64 - leading - trailing;
+                out.writeBit(true);
+                out.writeBits(leading, 6);
+                out.writeBits(meaningful - 1, 6);
+                out.writeBits(xor >>> trailing, meaningful);
+                previousLeading = leading;
+                previousTrailing = trailing;
+            }
+        }
+        return new GorillaChunk(out.toWords(), count, firstSequence, minMicros, maxMicros);
+    }
+
+    /** Decompresses every sample into the arrays, starting at {@code offset}. */
+    public void decode(long[] timestamps, double[] values, int offset) {
+        BitReader in = new BitReader(bits);
+        long timestamp = in.readBits(64);
+        long value = in.readBits(64);
+        long delta = 0;
+        int leading = 0;
+        int trailing = 0;
+        timestamps[offset] = timestamp;
+        values[offset] = Double.longBitsToDouble(value);
+
+        for (int i = 1; i < count; i++) {
+            delta += readDeltaOfDelta(in);
+            timestamp += delta;
+            if (in.readBit()) {
+                if (in.readBit()) {
+                    leading = (int) in.readBits(6);
+                    int meaningful = (int) in.readBits(6) + 1;
+                    trailing = 64 - leading - meaningful;
+                }
+                value ^= in.readBits(64 - leading - trailing) << trailing;
+            }
+            timestamps[offset + i] = timestamp;
+            values[offset + i] = Double.longBitsToDouble(value);
+        }
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long firstSequence() {
+        return firstSequence;
+    }
+
+    public long minMicros() {
+        return minMicros;
+    }
+
+    public long maxMicros() {
+        return maxMicros;
+    }
+
+    public int sizeBytes() {
+        return bits.length * Long.BYTES;
+    }
+
+    private static void writeDeltaOfDelta(BitWriter out, long dod) {
+        if (dod == 0) {
+            out.writeBit(false);
+        } else if (fits(dod, 14)) {
+            out.writeBits(0b10, 2);
+            out.writeBits(dod, 14);
+        } else if (fits(dod, 20)) {
+            out.writeBits(0b110, 3);
+            out.writeBits(dod, 20);
+        } else if (fits(dod, 32)) {
+            out.writeBits(0b1110, 4);
+            out.writeBits(dod, 32);
+        } else {
+            out.writeBits(0b1111, 4);
+            out.writeBits(dod, 64);
+        }
+    }
+
+    private static long readDeltaOfDelta(BitReader in) {
+        if (!in.readBit()) {
+            return 0;
+        }
+        if (!in.readBit()) {
+            return signExtend(in.readBits(14), 14);
+        }
+        if (!in.readBit()) {
+            return signExtend(in.readBits(20), 20);
+        }
+        if (!in.readBit()) {
+            return signExtend(in.readBits(32), 32);
+        }
+        return in.readBits(64);
+    }
+
+    private static boolean fits(long value, int bits) {
+        long limit = 1L << (bits - 1);
+        return value >= -limit && value < limit;
+    }
+
+    private static long signExtend(long value, int bits) {
+        int shift = 64 - bits;
+        return (value << shift) >> shift;
+    }
+}
@@ -0,0 +1,232 @@
+package com.txt.backend.timeseries;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Fixed-capacity ring of (timestamp, value) samples for one sensor, stored in primitive arrays.
+ *
+ * Each buffer has its own lock, so writers only contend when they write the same sensor
+ * (which the partition-per-key consumer already avoids). Readers copy under an optimistic
+ * read and fall back to a read lock if a write raced with the copy.
+ *
+ * Optionally, every {@code chunkSamples} appended samples are sealed into a {@link GorillaChunk}, so
+ * history keeps going back after the raw ring wraps: the newest chunks are kept up to
+ * {@code maxCompressedBytes} per sensor and queries decompress them on the fly.
+ */
+public final class SensorRingBuffer {
+
+    private static final GorillaChunk[] NO_CHUNKS = new GorillaChunk[0];
+
+    private final long[] timestamps;
+    private final double[] values;
+    private final StampedLock lock = new StampedLock();
+
+    private long written; // total samples ever appended; next slot is written % capacity
+
+    // Cold tier: oldest chunk first, replaced (never mutated) under the write lock
+    private final int chunkSamples;
+    private final int maxCompressedBytes;
+    private final long[] chunkTimestamps;
+    private final double[] chunkValues;
+    private volatile GorillaChunk[] chunks = NO_CHUNKS;
+    private int compressedBytes;
+
+    private volatile String type;
+    private volatile String unit;
+
+    public SensorRingBuffer(int capacity) {
+        this(capacity, 0, 0);
+    }
+
+    /**
+     * @param chunkSamples samples per compressed chunk, at most {@code capacity}; 0 keeps raw samples only.
+     * @param maxCompressedBytes compressed history kept, the oldest chunks are discarded beyond it.
+     */
+    public SensorRingBuffer(int capacity, int chunkSamples, int maxCompressedBytes) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ring buffer capacity must be positive");
+        }
+        if (chunkSamples < 0 || chunkSamples > capacity) {
+            throw new IllegalArgumentException("Chunk size must be between 0 and the ring capacity");
+        }
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+        this.chunkSamples = maxCompressedBytes > 0 ? chunkSamples : 0;
+        this.maxCompressedBytes = maxCompressedBytes;
+        this.chunkTimestamps = new long[this.chunkSamples];
+        this.chunkValues = new double[this.chunkSamples];
+    }
+
+    public void append(long timestampMicros, double value) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = (int) (written % timestamps.length);
+            timestamps[slot] = timestampMicros;
+            values[slot] = value;
+            written++;
+            if (chunkSamples > 0 && written % chunkSamples == 0) {
+                sealChunk();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Copies the newest {@code limit} samples, oldest first. */
+    public SeriesSnapshot last(int limit) {
+        return read(Long.MIN_VALUE, Long.MAX_VALUE, limit);
+    }
+
+    /** Copies samples with {@code from <= timestamp < to}, oldest first, at most the newest {@code limit}. */
+    public SeriesSnapshot range(long fromMicros, long toMicros, int limit) {
+        return read(fromMicros, toMicros, limit);
+    }
+
+    public void describe(String type, String unit) {
+        if (type != null) {
+            this.type = type;
+        }
+        if (unit != null) {
+            this.unit = unit;
+        }
+    }
+
+    public String type() {
+        return type;
+    }
+
+    public String unit() {
+        return unit;
+    }
+
+    public int capacity() {
+        return timestamps.length;
+    }
+
+    /** Bytes held by compressed chunks. */
+    public int compressedBytes() {
+        long stamp = lock.readLock();
+        try {
+            return compressedBytes;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** Samples held by compressed chunks (some may still be in the raw ring as well). */
+    public long compressedSamples() {
+        long total = 0;
+        for (GorillaChunk chunk : chunks) {
+            total += chunk.count();
+        }
+        return total;
+    }
+
+    private SeriesSnapshot read(long fromMicros, long toMicros, int limit) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            HotCopy hot = copy(fromMicros, toMicros, limit);
+            if (lock.validate(stamp)) {
+                return withColdSamples(hot, fromMicros, toMicros, limit);
+            }
+        }
+        stamp = lock.readLock();
+        HotCopy hot;
+        try {
+            hot = copy(fromMicros, toMicros, limit);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return withColdSamples(hot, fromMicros, toMicros, limit);
+    }
+
+    private HotCopy copy(long fromMicros, long toMicros, int limit) {
+        int capacity = timestamps.length;
+        long end = written;
+        int available = (int) Math.min(end, capacity);
+        long[] ts = new long[Math.min(available, limit)];
+        double[] vs = new double[ts.length];
+
+        // Walk from newest to oldest so the limit keeps the most recent matches
+        int count = 0;
+        for (long i = end - 1; i >= end - available && count < ts.length; i--) {
+            int slot = (int) (i % capacity);
+            long t = timestamps[slot];
+            if (t >= fromMicros && t < toMicros) {
+                ts[count] = t;
+                vs[count] = values[slot];
+                count++;
+            }
+        }
+        return new HotCopy(ts, vs, count, end - available, chunks);
+    }
+
+    // Continues a newest-first copy with samples older than the raw ring, decompressing chunks newest first
+    private static SeriesSnapshot withColdSamples(HotCopy hot, long fromMicros, long toMicros, int limit) {
+        GorillaChunk[] cold = hot.chunks();
+        if (hot.count() >= limit || cold.length == 0 || cold[0].firstSequence() >= hot.oldestSequence()) {
+            return SeriesSnapshot.reversed(hot.timestamps(), hot.values(), hot.count());
+        }
+        long[] ts = hot.timestamps();
+        double[] vs = hot.values();
+        int count = hot.count();
+        long[] chunkTs = null;
+        double[] chunkVs = null;
+        for (int c = cold.length - 1; c >= 0 && count < limit; c--) {
+            GorillaChunk chunk = cold[c];
+            if (chunk.firstSequence() >= hot.oldestSequence()
+                    || chunk.maxMicros() < fromMicros || chunk.minMicros() >= toMicros) {
+                continue;
+            }
+            if (chunkTs == null || chunkTs.length < chunk.count()) {
+                chunkTs = new long[chunk.count()];
+                chunkVs = new double[chunk.count()];
+            }
+            chunk.decode(chunkTs, chunkVs, 0);
+            // Samples from oldestSequence on are still raw in the ring and were already copied
+            int newest = (int) Math.min(chunk.count(), hot.oldestSequence() - chunk.firstSequence()) - 1;
+            for (int i = newest; i >= 0 && count < limit; i--) {
+                long t = chunkTs[i];
+                if (t >= fromMicros && t < toMicros) {
+                    if (count == ts.length) {
+                        int grown = (int) Math.min(limit, Math.max(16L, ts.length * 2L));
+                        ts = Arrays.copyOf(ts, grown);
+                        vs = Arrays.copyOf(vs, grown);
+                    }
+                    ts[count] = t;
+                    vs[count] = chunkVs[i];
+                    count++;
+                }
+            }
+        }
+        return SeriesSnapshot.reversed(ts, vs, count);
+    }
+
+    // Called under the write lock when the last chunkSamples appends complete a chunk
+    private void sealChunk() {
+        int capacity = timestamps.length;
+        long first = written - chunkSamples;
+        for (int i = 0; i < chunkSamples; i++) {
+            int slot = (int) ((first + i) % capacity);
+            chunkTimestamps[i] = timestamps[slot];
+            chunkValues[i] = values[slot];
+        }
+        GorillaChunk chunk = GorillaChunk.encode(first, chunkTimestamps, chunkValues, chunkSamples);
+
+        GorillaChunk[] current = chunks;
+        int drop = 0;
+        int bytes = compressedBytes + chunk.sizeBytes();
+        while (drop < current.length && bytes > maxCompressedBytes) {
+            bytes -= current[drop].sizeBytes();
+            drop++;
+        }
+        GorillaChunk[] next = Arrays.copyOfRange(current, drop, current.length + 1);
+        next[next.length - 1] = chunk;
+        compressedBytes = bytes;
+        chunks = next;
+    }
+
+    private record HotCopy(long[] timestamps, double[] values, int count, long oldestSequence, GorillaChunk[] chunks) {
+    }
+}
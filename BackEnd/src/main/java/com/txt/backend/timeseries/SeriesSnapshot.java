@@ -0,0 +1,43 @@
+package com.txt.backend.timeseries;
+
+import java.util.Arrays;
+
+/**
+ * Copy of part of a sensor series, oldest sample first.
+ */
+public record SeriesSnapshot(long[] timestampsMicros, double[] values) {
+
+    public static final SeriesSnapshot EMPTY = new SeriesSnapshot(new long[0], new double[0]);
+
+    public int size() {
+        return timestampsMicros.length;
+    }
+
+    /** Builds a snapshot from the first {@code count} entries of newest-first arrays. */
+    static SeriesSnapshot reversed(long[] newestFirstTs, double[] newestFirstValues, int count) {
+        long[] ts = new long[count];
+        double[] vs = new double[count];
+        for (int i = 0; i < count; i++) {
+            ts[i] = newestFirstTs[count - 1 - i];
+            vs[i] = newestFirstValues[count - 1 - i];
+        }
+        return new SeriesSnapshot(ts, vs);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SeriesSnapshot other
+                && Arrays.equals(timestampsMicros, other.timestampsMicros)
+                && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(timestampsMicros) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "SeriesSnapshot{size=" + size() + '}';
+    }
+}
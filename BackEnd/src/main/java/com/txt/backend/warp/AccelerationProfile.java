@@ -0,0 +1,53 @@
+package com.txt.backend.warp;
+
+/**
+ * How the bubble ramps between rest and its peak velocity; deceleration mirrors acceleration.
+ * Both cover {@code v_peak · t_ramp / 2} metres during a ramp of {@code t_ramp} seconds.
+ */
+public enum AccelerationProfile {
+
+    /** Constant acceleration: velocity grows linearly. */
+    LINEAR {
+        @Override
+        double rampTime(double peakVelocity, double acceleration) {
+            return peakVelocity / acceleration;
+        }
+
+        @Override
+        double velocity(double peakVelocity, double rampTime, double t) {
+            return peakVelocity * t / rampTime;
+        }
+
+        @Override
+        double distance(double peakVelocity, double rampTime, double t) {
+            return peakVelocity * t * t / (2 * rampTime);
+        }
+    },
+
+    /** Cosine ramp: acceleration rises and falls smoothly, peaking at {@code acceleration} halfway through. */
+    SMOOTH {
+        @Override
+        double rampTime(double peakVelocity, double acceleration) {
+            return Math.PI * peakVelocity / (2 * acceleration);
+        }
+
+        @Override
+        double velocity(double peakVelocity, double rampTime, double t) {
+            return peakVelocity * (1 - Math.cos(Math.PI * t / rampTime)) / 2;
+        }
+
+        @Override
+        double distance(double peakVelocity, double rampTime, double t) {
+            return peakVelocity / 2 * (t - rampTime / Math.PI * Math.sin(Math.PI * t / rampTime));
+        }
+    };
+
+    /** Seconds to go from rest to {@code peakVelocity} with at most {@code acceleration} m/s². */
+    abstract double rampTime(double peakVelocity, double acceleration);
+
+    /** Velocity {@code t} seconds into the ramp up. */
+    abstract double velocity(double peakVelocity, double rampTime, double t);
+
+    /** Distance covered {@code t} seconds into the ramp up. */
+    abstract double distance(double peakVelocity, double rampTime, double t);
+}
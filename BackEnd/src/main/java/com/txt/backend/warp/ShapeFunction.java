@@ -0,0 +1,36 @@
+package com.txt.backend.warp;
+
+/**
+ * Alcubierre's top-hat shape function of the warp bubble, in units of the bubble radius R:
+ * {@code f(u) = [tanh(σR(u + 1)) - tanh(σR(u - 1))] / (2 tanh(σR))} with {@code u = r_s / R}.
+ *
+ * f is 1 inside the bubble and 0 far outside; {@code sigmaR} sets how sharp the wall is (larger is thinner,
+ * the wall being about {@code 1 / σ} thick).
+ */
+public record ShapeFunction(double sigmaR) {
+
+    public ShapeFunction {
+        if (!(sigmaR > 0) || Double.isInfinite(sigmaR)) {
+            throw new IllegalArgumentException("Shape function steepness σR must be positive");
+        }
+    }
+
+    public double value(double u) {
+        return (Math.tanh(sigmaR * (u + 1)) - Math.tanh(sigmaR * (u - 1))) / (2 * Math.tanh(sigmaR));
+    }
+
+    /** df/du; the derivative with respect to r_s is this divided by R. */
+    public double derivative(double u) {
+        return sigmaR / (2 * Math.tanh(sigmaR)) * (sech2(sigmaR * (u + 1)) - sech2(sigmaR * (u - 1)));
+    }
+
+    /** Distance from the centre, in units of R, that many wall thicknesses (1 / σ) beyond the wall. */
+    public double extent(double wallWidths) {
+        return 1 + wallWidths / sigmaR;
+    }
+
+    private static double sech2(double x) {
+        double cosh = Math.cosh(x); // overflows to infinity far from the wall, giving 0
+        return 1 / (cosh * cosh);
+    }
+}
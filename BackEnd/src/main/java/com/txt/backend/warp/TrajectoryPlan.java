@@ -0,0 +1,68 @@
+package com.txt.backend.warp;
+
+/**
+ * Velocity profile of one warp jump over {@code distance} metres: ramp up (START), cruise (CRUISE) and ramp
+ * down (END). When the distance is too short to reach the cruise velocity the bubble turns around at a lower
+ * peak and never cruises.
+ */
+public record TrajectoryPlan(AccelerationProfile profile, double distance, double peakVelocity,
+                             double rampTime, double cruiseTime) {
+
+    public static TrajectoryPlan of(AccelerationProfile profile, double distance, double cruiseVelocity,
+                                    double acceleration) {
+        if (!(distance >= 0) || !(cruiseVelocity > 0) || !(acceleration > 0)) {
+            throw new IllegalArgumentException("Distance must be non-negative, velocity and acceleration positive");
+        }
+        double rampTime = profile.rampTime(cruiseVelocity, acceleration);
+        double rampDistance = cruiseVelocity * rampTime / 2;
+        if (2 * rampDistance <= distance) {
+            return new TrajectoryPlan(profile, distance, cruiseVelocity, rampTime,
+                    (distance - 2 * rampDistance) / cruiseVelocity);
+        }
+        // Two ramps of v·t/2 each must cover the distance, with t = k·v for this profile
+        double k = profile.rampTime(1, acceleration);
+        double peak = Math.sqrt(distance / k);
+        return new TrajectoryPlan(profile, distance, peak, profile.rampTime(peak, acceleration), 0);
+    }
+
+    public double totalTime() {
+        return 2 * rampTime + cruiseTime;
+    }
+
+    public WarpPhase phaseAt(double t) {
+        if (t < rampTime) {
+            return WarpPhase.START;
+        }
+        return t < rampTime + cruiseTime ? WarpPhase.CRUISE : WarpPhase.END;
+    }
+
+    public double velocityAt(double t) {
+        if (t <= 0 || t >= totalTime()) {
+            return 0;
+        }
+        if (t < rampTime) {
+            return profile.velocity(peakVelocity, rampTime, t);
+        }
+        if (t < rampTime + cruiseTime) {
+            return peakVelocity;
+        }
+        return profile.velocity(peakVelocity, rampTime, totalTime() - t);
+    }
+
+    public double distanceAt(double t) {
+        if (t <= 0) {
+            return 0;
+        }
+        if (t >= totalTime()) {
+            return distance;
+        }
+        if (t < rampTime) {
+            return profile.distance(peakVelocity, rampTime, t);
+        }
+        double rampDistance = peakVelocity * rampTime / 2;
+        if (t < rampTime + cruiseTime) {
+            return rampDistance + peakVelocity * (t - rampTime);
+        }
+        return distance - profile.distance(peakVelocity, rampTime, totalTime() - t);
+    }
+}
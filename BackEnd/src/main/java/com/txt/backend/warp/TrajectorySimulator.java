@@ -0,0 +1,102 @@
+package com.txt.backend.warp;
+
+import java.io.IOException;
+
+/**
+ * Steps a warp bubble along a straight path from {@code from} to {@code to} following a {@link TrajectoryPlan},
+ * handing every {@code sampleEvery}-th step (and always the first and last) to a {@link SampleSink}.
+ *
+ * Samples are passed as primitives and never collected, so memory does not grow with the number of steps; the
+ * caller decides whether to stream, encode or discard them. Position and velocity come from the plan's closed
+ * form at each step time, so the bubble ends exactly on {@code to} whatever the step size.
+ *
+ * The bubble holds {@code peakEnergy · (v / v_peak)²} joules (E ∝ β²), so the energy drawn by a step is the
+ * change in that: positive while accelerating, zero while cruising and negative (recovered) while decelerating.
+ */
+public final class TrajectorySimulator {
+
+    /** Receives one sample; {@code energyDraw} is the energy drawn since the previous sample, in joules. */
+    @FunctionalInterface
+    public interface SampleSink {
+        void accept(double time, double x, double y, double z, double velocity, WarpPhase phase,
+                    double energyDraw) throws IOException;
+    }
+
+    /** Totals of a run; {@code energyDrawn} and {@code energyRecovered} are both non-negative. */
+    public record Summary(long steps, long samples, double travelTime, double energyDrawn, double energyRecovered) {
+    }
+
+    private final TrajectoryPlan plan;
+    private final double[] from;
+    private final double[] direction;
+    private final double timeStep;
+    private final int sampleEvery;
+    private final double peakEnergy;
+
+    /**
+     * @param timeStep seconds between steps.
+     * @param peakEnergy magnitude of the bubble energy at the plan's peak velocity, in joules.
+     */
+    public TrajectorySimulator(TrajectoryPlan plan, double[] from, double[] to, double timeStep, int sampleEvery,
+                               double peakEnergy) {
+        if (!(timeStep > 0) || sampleEvery <= 0) {
+            throw new IllegalArgumentException("Time step and sample interval must be positive");
+        }
+        this.plan = plan;
+        this.from = from.clone();
+        this.direction = new double[3];
+        if (plan.distance() > 0) {
+            for (int i = 0; i < 3; i++) {
+                direction[i] = (to[i] - from[i]) / plan.distance();
+            }
+        }
+        this.timeStep = timeStep;
+        this.sampleEvery = sampleEvery;
+        this.peakEnergy = peakEnergy;
+    }
+
+    public TrajectoryPlan plan() {
+        return plan;
+    }
+
+    /** Steps from departure to arrival, the arrival step included. */
+    public long steps() {
+        return steps(plan.totalTime(), timeStep);
+    }
+
+    public static long steps(double travelTime, double timeStep) {
+        return (long) Math.ceil(travelTime / timeStep);
+    }
+
+    public Summary run(SampleSink sink) throws IOException {
+        double total = plan.totalTime();
+        long steps = steps();
+        long samples = 0;
+        double drawn = 0;
+        double recovered = 0;
+        double previousEnergy = 0;
+        double sinceSample = 0;
+        for (long k = 0; k <= steps; k++) {
+            double t = k == steps ? total : k * timeStep;
+            double v = plan.velocityAt(t);
+            double ratio = plan.peakVelocity() > 0 ? v / plan.peakVelocity() : 0;
+            double energy = peakEnergy * ratio * ratio;
+            double draw = energy - previousEnergy;
+            previousEnergy = energy;
+            if (draw > 0) {
+                drawn += draw;
+            } else {
+                recovered -= draw;
+            }
+            sinceSample += draw;
+            if (k % sampleEvery == 0 || k == steps) {
+                double s = plan.distanceAt(t);
+                sink.accept(t, from[0] + direction[0] * s, from[1] + direction[1] * s, from[2] + direction[2] * s,
+                        v, plan.phaseAt(t), sinceSample);
+                sinceSample = 0;
+                samples++;
+            }
+        }
+        return new Summary(steps, samples, total, drawn, recovered);
+    }
+}
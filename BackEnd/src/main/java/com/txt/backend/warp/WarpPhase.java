@@ -0,0 +1,7 @@
+package com.txt.backend.warp;
+
+public enum WarpPhase {
+    START,  // bubble accelerating
+    CRUISE, // constant velocity
+    END     // decelerating to the destination, then arrived
+}
@@ -0,0 +1,73 @@
+package com.txt.backend.aggregation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WindowStatisticsTest {
+
+    @Test
+    @DisplayName("Quantiles stay within the sketch relative accuracy")
+    void shouldEstimateQuantilesWithinRelativeError() {
+        Random random = new Random(42);
+        double[] values = new double[50_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 2) - 0.5; // skewed, with some negatives
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[]{0.01, 0.5, 0.95, 0.99}) {
+            double exact = values[(int) (q * (values.length - 1))];
+            double estimate = sketch.quantile(q);
+            assertEquals(exact, estimate, Math.abs(exact) * QuantileSketch.DEFAULT_RELATIVE_ACCURACY + 1e-9,
+                    "quantile " + q);
+        }
+    }
+
+    @Test
+    @DisplayName("Merging pane statistics matches aggregating all readings at once")
+    void shouldMergeLikeSequentialAggregation() {
+        Random random = new Random(7);
+        WindowStatistics all = new WindowStatistics();
+        WindowStatistics merged = new WindowStatistics();
+        for (int pane = 0; pane < 10; pane++) {
+            WindowStatistics partial = new WindowStatistics();
+            for (int i = 0; i < 1_000; i++) {
+                double value = 20 + random.nextGaussian() * 3;
+                all.add(value);
+                partial.add(value);
+            }
+            merged.merge(partial);
+        }
+
+        assertEquals(all.count(), merged.count());
+        assertEquals(all.min(), merged.min());
+        assertEquals(all.max(), merged.max());
+        assertEquals(all.mean(), merged.mean(), 1e-9);
+        assertEquals(all.stddev(), merged.stddev(), 1e-9);
+        assertEquals(all.quantile(0.95), merged.quantile(0.95));
+    }
+
+    @Test
+    @DisplayName("Panes older than the ring are recycled and late readings are dropped")
+    void shouldRecyclePanesAndDropLateReadings() {
+        PanedWindow window = new PanedWindow(10, 3);
+        assertTrue(window.add(5, 1));   // pane 0
+        assertTrue(window.add(15, 2));  // pane 1
+        assertTrue(window.add(35, 4));  // pane 3 reuses the slot of pane 0
+        assertFalse(window.add(7, 8));  // pane 0 is gone
+
+        WindowStatistics stats = window.aggregate(0, 40);
+        assertEquals(2, stats.count());
+        assertEquals(3, stats.mean(), 1e-9);
+        assertEquals(1, window.aggregate(30, 40).count());
+    }
+}
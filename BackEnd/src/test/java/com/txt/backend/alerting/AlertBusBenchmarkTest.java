@@ -0,0 +1,105 @@
+package com.txt.backend.alerting;
+
+import com.txt.backend.dto.SystemAlert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Alerts/sec through the 'dev' alert bus: the preallocated ring against an ArrayBlockingQueue with a
+ * batch-draining consumer, both with producers on several threads and an empty handler.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=AlertBusBenchmarkTest
+ */
+@Tag("benchmark")
+class AlertBusBenchmarkTest {
+
+    private static final int PRODUCERS = 2;
+    private static final int PER_PRODUCER = 2_000_000;
+    private static final int CAPACITY = 65_536;
+    private static final int BATCH = 100;
+
+    @Test
+    @DisplayName("Alert handoff: ring bus vs ArrayBlockingQueue (alerts/sec)")
+    void compareHandoff() throws InterruptedException {
+        SystemAlert alert = SystemAlert.builder().systemSource("LIFE_SUPPORT").severity("INFO").message("m").build();
+
+        measureRing(alert); // warm-up
+        measureQueue(alert);
+        long ring = measureRing(alert);
+        long queue = measureQueue(alert);
+
+        long total = (long) PRODUCERS * PER_PRODUCER;
+        System.out.printf("%n=== Alert bus handoff (%d producers x %d alerts, %d cpus) ===%n",
+                PRODUCERS, PER_PRODUCER, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-22s %14.0f alerts/s%n", "AlertRingBus", total * 1e9 / ring);
+        System.out.printf("%-22s %14.0f alerts/s%n", "ArrayBlockingQueue", total * 1e9 / queue);
+    }
+
+    private static long measureRing(SystemAlert alert) throws InterruptedException {
+        LongAdder handled = new LongAdder();
+        AlertRingBus bus = new AlertRingBus("bench-bus", CAPACITY, BATCH, batch -> handled.add(batch.size()));
+        long elapsed = produce(bus::tryPublish, alert);
+        bus.close();
+        assertEquals((long) PRODUCERS * PER_PRODUCER, handled.sum());
+        return elapsed;
+    }
+
+    private static long measureQueue(SystemAlert alert) throws InterruptedException {
+        BlockingQueue<SystemAlert> queue = new ArrayBlockingQueue<>(CAPACITY);
+        LongAdder handled = new LongAdder();
+        long total = (long) PRODUCERS * PER_PRODUCER;
+        Thread consumer = new Thread(() -> {
+            List<SystemAlert> batch = new ArrayList<>(BATCH);
+            try {
+                while (handled.sum() < total) {
+                    SystemAlert first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first != null) {
+                        batch.add(first);
+                        queue.drainTo(batch, BATCH - 1);
+                        handled.add(batch.size());
+                        batch.clear();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "bench-queue");
+        consumer.start();
+        long elapsed = produce(queue::offer, alert);
+        consumer.join();
+        assertEquals(total, handled.sum());
+        return elapsed;
+    }
+
+    // Producers retry while the buffer is full; returns the time until every alert was accepted
+    private static long produce(Predicate<SystemAlert> publish, SystemAlert alert) throws InterruptedException {
+        List<Thread> producers = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int p = 0; p < PRODUCERS; p++) {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < PER_PRODUCER; i++) {
+                    while (!publish.test(alert)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,77 @@
+package com.txt.backend.alerting;
+
+import com.txt.backend.dto.SystemAlert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlertCoalescerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static SystemAlert hypoxic(double value) {
+        return SystemAlert.builder()
+                .systemSource("LIFE_SUPPORT")
+                .severity("CRITICAL")
+                .message("Oxygen level hypoxic: " + value + "%")
+                .value(value)
+                .threshold(19.5)
+                .occurrences(1)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Sends the first alert, then one summary with the count per window")
+    void shouldCoalesceRepeatedAlerts() {
+        AlertCoalescer coalescer = new AlertCoalescer(10_000, Map.of(), 0.25);
+
+        assertEquals(1, coalescer.offer(hypoxic(19.0), 0).getOccurrences());
+        for (int i = 1; i <= 99; i++) { // 10 Hz for ~10 s
+            assertNull(coalescer.offer(hypoxic(19.0), i * SECOND / 10));
+        }
+        assertTrue(coalescer.flush(9 * SECOND).isEmpty());
+
+        List<SystemAlert> summaries = coalescer.flush(10 * SECOND);
+        assertEquals(1, summaries.size());
+        assertEquals(99, summaries.get(0).getOccurrences());
+        assertTrue(coalescer.flush(11 * SECOND).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Escalates immediately when the value moves further from the threshold")
+    void shouldEscalateWorseValues() {
+        AlertCoalescer coalescer = new AlertCoalescer(10_000, Map.of(), 0.25);
+        coalescer.offer(hypoxic(19.0), 0);               // 0.5 below
+        assertNull(coalescer.offer(hypoxic(18.9), 1));   // 0.6 below, not 25% worse
+        assertNull(coalescer.offer(hypoxic(19.2), 2));
+
+        SystemAlert escalated = coalescer.offer(hypoxic(18.0), 3);
+
+        assertNotNull(escalated);
+        assertEquals(3, escalated.getOccurrences());
+        assertEquals(18.0, escalated.getValue());
+        assertNull(coalescer.offer(hypoxic(18.1), 4));
+    }
+
+    @Test
+    @DisplayName("Keeps keys apart and honours per-key windows")
+    void shouldUsePerKeyWindows() {
+        AlertCoalescer coalescer = new AlertCoalescer(10_000,
+                AlertCoalescer.parseWindows("LIFE_SUPPORT:CRITICAL=0, POWER_GRID:*=60000"), 0.25);
+        SystemAlert power = SystemAlert.builder().systemSource("POWER_GRID").severity("CRITICAL").message("low").build();
+
+        assertNotNull(coalescer.offer(hypoxic(19.0), 0));
+        assertNotNull(coalescer.offer(hypoxic(19.0), 1));
+        assertNotNull(coalescer.offer(power, 0));
+        assertNull(coalescer.offer(power, 59 * SECOND));
+        assertNotNull(coalescer.offer(power, 60 * SECOND));
+    }
+}
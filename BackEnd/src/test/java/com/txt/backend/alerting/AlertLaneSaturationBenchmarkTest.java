@@ -0,0 +1,193 @@
+package com.txt.backend.alerting;
+
+import com.txt.backend.dto.SystemAlert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Critical alert latency while the INFO lane is flooded, on both sides of the broker.
+ *
+ * Publishing: one publisher shared by every severity against one publisher per {@link AlertLane}. The simulated
+ * broker costs a fixed time per message, so a backlog of INFO alerts takes a while to drain; latency is measured
+ * from offering a critical alert to it being sent.
+ *
+ * Consuming: one consumer shared by every severity against one consumer per lane, as the per-lane listener
+ * containers and {@code InProcessAlertSender} run them. Handling costs a fixed time per alert, like the flight log
+ * insert; latency is measured from publishing a critical alert to it being handled, and compared with the same
+ * critical stream and no flood at all.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=AlertLaneSaturationBenchmarkTest
+ */
+@Tag("benchmark")
+class AlertLaneSaturationBenchmarkTest {
+
+    private static final int FLOOD = 40_000;
+    private static final int CRITICAL = 200;
+    private static final long CRITICAL_INTERVAL_MICROS = 1_000;
+    private static final long BROKER_MICROS_PER_MESSAGE = 10;
+    private static final long HANDLER_MICROS_PER_ALERT = 10;
+
+    @Test
+    @DisplayName("Critical alert latency under an INFO flood: shared vs per-lane publishers")
+    void compareSharedAndLaned() throws InterruptedException {
+        long[] shared = measure(false);
+        long[] laned = measure(true);
+
+        System.out.printf("%n=== %d INFO alerts queued, %d CRITICAL at 1/ms, broker %d us/msg ===%n",
+                FLOOD, CRITICAL, BROKER_MICROS_PER_MESSAGE);
+        System.out.printf("%-18s %10s %10s %10s%n", "publisher", "p50 ms", "p99 ms", "max ms");
+        print("shared", shared);
+        print("per-lane", laned);
+
+        assertTrue(percentile(laned, 0.99) < percentile(shared, 0.99),
+                "per-lane publishing should keep critical alerts ahead of the flood");
+    }
+
+    @Test
+    @DisplayName("Critical alert consumption under an INFO flood: shared vs per-lane consumers")
+    void compareSharedAndLanedConsumers() throws InterruptedException {
+        long[] idle = consume(true, 0);
+        long[] laned = consume(true, FLOOD);
+        long[] shared = consume(false, FLOOD);
+
+        System.out.printf("%n=== %d INFO alerts queued, %d CRITICAL at 1/ms, handler %d us/alert ===%n",
+                FLOOD, CRITICAL, HANDLER_MICROS_PER_ALERT);
+        System.out.printf("%-18s %10s %10s %10s%n", "consumer", "p50 ms", "p99 ms", "max ms");
+        print("per-lane, no flood", idle);
+        print("per-lane", laned);
+        print("shared", shared);
+
+        assertTrue(percentile(laned, 0.99) < percentile(shared, 0.99),
+                "per-lane consumers should keep critical alerts ahead of the flood");
+        assertTrue(percentile(laned, 0.99) < percentile(idle, 0.99) + TimeUnit.MILLISECONDS.toNanos(10),
+                "a flooded INFO consumer should not slow down the critical one");
+    }
+
+    private static long[] consume(boolean perLane, int flood) throws InterruptedException {
+        ConcurrentLinkedQueue<Long> criticalLatency = new ConcurrentLinkedQueue<>();
+        AlertRingBus.BatchHandler handler = batch -> {
+            LockSupport.parkNanos(batch.size() * HANDLER_MICROS_PER_ALERT * 1_000);
+            long now = System.nanoTime();
+            for (SystemAlert alert : batch) {
+                if ("CRITICAL".equals(alert.getSeverity())) {
+                    criticalLatency.add(now - alert.getValue().longValue());
+                }
+            }
+        };
+
+        Map<AlertLane, AlertRingBus> buses = new EnumMap<>(AlertLane.class);
+        Function<SystemAlert, AlertRingBus> route;
+        if (perLane) {
+            for (AlertLane lane : AlertLane.values()) {
+                buses.put(lane, new AlertRingBus("bench-consumer-" + lane.key(), FLOOD + CRITICAL, 100, handler));
+            }
+            route = alert -> buses.get(AlertLane.of(alert.getSeverity()));
+        } else {
+            AlertRingBus bus = new AlertRingBus("bench-consumer-shared", FLOOD + CRITICAL, 100, handler);
+            buses.put(AlertLane.INFO, bus);
+            route = alert -> bus;
+        }
+
+        try {
+            for (int i = 0; i < flood; i++) {
+                SystemAlert info = alert("INFO");
+                route.apply(info).tryPublish(info);
+            }
+            for (int i = 0; i < CRITICAL; i++) {
+                SystemAlert critical = alert("CRITICAL");
+                critical.setValue((double) System.nanoTime());
+                route.apply(critical).tryPublish(critical);
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(CRITICAL_INTERVAL_MICROS));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (criticalLatency.size() < CRITICAL && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            buses.values().forEach(AlertRingBus::close);
+        }
+
+        long[] sorted = criticalLatency.stream().mapToLong(Long::longValue).sorted().toArray();
+        assertEquals(CRITICAL, sorted.length, "every critical alert should be handled");
+        return sorted;
+    }
+
+    private static long[] measure(boolean perLane) throws InterruptedException {
+        ConcurrentLinkedQueue<Long> criticalLatency = new ConcurrentLinkedQueue<>();
+        AsyncAlertPublisher.BatchSender broker = batch -> {
+            LockSupport.parkNanos(batch.size() * BROKER_MICROS_PER_MESSAGE * 1_000);
+            long now = System.nanoTime();
+            for (SystemAlert alert : batch) {
+                if ("CRITICAL".equals(alert.getSeverity())) {
+                    criticalLatency.add(now - alert.getValue().longValue());
+                }
+            }
+        };
+
+        Map<AlertLane, AsyncAlertPublisher> publishers = new EnumMap<>(AlertLane.class);
+        Function<SystemAlert, AsyncAlertPublisher> route;
+        if (perLane) {
+            for (AlertLane lane : AlertLane.values()) {
+                publishers.put(lane, new AsyncAlertPublisher("bench-" + lane.key(), FLOOD + CRITICAL, 100, 1, 1,
+                        broker, nanos -> { }));
+            }
+            route = alert -> publishers.get(AlertLane.of(alert.getSeverity()));
+        } else {
+            AsyncAlertPublisher publisher = new AsyncAlertPublisher("bench-shared", FLOOD + CRITICAL, 100, 1, 1,
+                    broker, nanos -> { });
+            publishers.put(AlertLane.INFO, publisher);
+            route = alert -> publisher;
+        }
+
+        try {
+            for (int i = 0; i < FLOOD; i++) {
+                SystemAlert info = alert("INFO");
+                route.apply(info).offer(info);
+            }
+            for (int i = 0; i < CRITICAL; i++) {
+                SystemAlert critical = alert("CRITICAL");
+                critical.setValue((double) System.nanoTime());
+                route.apply(critical).offer(critical);
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(CRITICAL_INTERVAL_MICROS));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (criticalLatency.size() < CRITICAL && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            publishers.values().forEach(AsyncAlertPublisher::close);
+        }
+
+        long[] sorted = criticalLatency.stream().mapToLong(Long::longValue).sorted().toArray();
+        assertEquals(CRITICAL, sorted.length, "every critical alert should be sent");
+        return sorted;
+    }
+
+    private static SystemAlert alert(String severity) {
+        return SystemAlert.builder()
+                .systemSource("LIFE_SUPPORT")
+                .severity(severity)
+                .message("Oxygen level reading")
+                .build();
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+
+    private static void print(String label, long[] sorted) {
+        System.out.printf("%-18s %10.2f %10.2f %10.2f%n", label, percentile(sorted, 0.5) / 1e6,
+                percentile(sorted, 0.99) / 1e6, sorted[sorted.length - 1] / 1e6);
+    }
+}
@@ -0,0 +1,69 @@
+package com.txt.backend.alerting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.service.AlertSender;
+import com.txt.backend.service.AtmosphereService;
+import com.txt.backend.service.RuleEngineService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Caller latency of a hypoxic oxygen check (the work behind POST /api/telemetry/simulate/oxygen) with a
+ * synchronous alert send against the queued, batched publisher, for several simulated broker latencies.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=AlertLatencyBenchmarkTest
+ */
+@Tag("benchmark")
+class AlertLatencyBenchmarkTest {
+
+    private static final int REQUESTS = 2_000;
+
+    @Test
+    @DisplayName("Oxygen check latency: synchronous vs asynchronous alert publishing")
+    void compareSenders() {
+        RuleEngineService rules = new RuleEngineService(new DefaultResourceLoader(), new ObjectMapper(),
+                "classpath:telemetry-rules.json");
+        System.out.printf("%n=== Hypoxic oxygen check, %d requests ===%n", REQUESTS);
+        System.out.printf("%-14s %-6s %10s %10s%n", "broker", "sender", "p50 us", "p99 us");
+        for (long brokerMicros : new long[]{0, 500, 2_000}) {
+            AlertSender sync = alert -> broker(brokerMicros);
+            print(brokerMicros, "sync", measure(new AtmosphereService(sync, rules)));
+
+            // One confirm round trip per batch, as with publisher confirms
+            AsyncAlertPublisher publisher = new AsyncAlertPublisher("bench-publisher", REQUESTS, 100, 3, 1,
+                    batch -> broker(brokerMicros), nanos -> { });
+            print(brokerMicros, "async", measure(new AtmosphereService(publisher::offer, rules)));
+            publisher.close();
+        }
+    }
+
+    private static long[] measure(AtmosphereService service) {
+        for (int i = 0; i < 200; i++) {
+            service.monitorOxygenLevel(18.0, 0.04);
+        }
+        long[] nanos = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            long start = System.nanoTime();
+            service.monitorOxygenLevel(18.0, 0.04);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static void broker(long micros) {
+        if (micros > 0) {
+            LockSupport.parkNanos(micros * 1_000);
+        }
+    }
+
+    private static void print(long brokerMicros, String sender, long[] sorted) {
+        System.out.printf("%-14s %-6s %10.1f %10.1f%n", brokerMicros + " us", sender,
+                sorted[sorted.length / 2] / 1e3, sorted[(int) (sorted.length * 0.99)] / 1e3);
+    }
+}
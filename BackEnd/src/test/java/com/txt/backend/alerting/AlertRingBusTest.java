@@ -0,0 +1,98 @@
+package com.txt.backend.alerting;
+
+import com.txt.backend.dto.SystemAlert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlertRingBusTest {
+
+    private static SystemAlert alert(String source, int i) {
+        return SystemAlert.builder().systemSource(source).severity("INFO").message(String.valueOf(i)).build();
+    }
+
+    @Test
+    @DisplayName("Delivers every alert from concurrent producers, each producer's alerts in order")
+    void shouldDeliverAllInOrderPerProducer() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50_000;
+        List<SystemAlert> received = new ArrayList<>(); // only touched by the consumer thread until close
+        List<Integer> batchSizes = new ArrayList<>();
+        AlertRingBus bus = new AlertRingBus("test-bus", 1_000, 64, batch -> {
+            batchSizes.add(batch.size());
+            received.addAll(batch);
+        });
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            String source = "P" + p;
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!bus.tryPublish(alert(source, i))) {
+                        Thread.yield(); // ring full, wait for the consumer
+                    }
+                }
+            });
+            producer.start();
+            threads.add(producer);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        bus.close();
+
+        assertEquals(1024, bus.capacity());
+        assertEquals(producers * perProducer, received.size());
+        assertEquals(producers * perProducer, bus.deliveredCount());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 64));
+        for (int p = 0; p < producers; p++) {
+            String source = "P" + p;
+            List<Integer> sequence = received.stream()
+                    .filter(alert -> alert.getSystemSource().equals(source))
+                    .map(alert -> Integer.parseInt(alert.getMessage()))
+                    .toList();
+            assertEquals(perProducer, sequence.size());
+            for (int i = 0; i < perProducer; i++) {
+                assertEquals(i, sequence.get(i), source + " out of order");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Drops alerts when the ring is full and counts handler failures")
+    void shouldDropWhenFullAndCountFailures() throws InterruptedException {
+        CountDownLatch handling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AlertRingBus bus = new AlertRingBus("test-bus", 4, 1, batch -> {
+            handling.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("database down");
+        });
+
+        assertTrue(bus.tryPublish(alert("P", 0)));
+        assertTrue(handling.await(5, TimeUnit.SECONDS)); // alert 0 is now held by the handler
+        for (int i = 1; i < 4; i++) {
+            assertTrue(bus.tryPublish(alert("P", i)));
+        }
+        assertFalse(bus.tryPublish(alert("P", 4)));
+        release.countDown();
+        bus.close();
+
+        assertEquals(0, bus.deliveredCount());
+        assertEquals(4, bus.failedCount());
+        assertEquals(1, bus.droppedCount());
+        assertFalse(bus.tryPublish(alert("P", 5)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.txt.backend.alerting;
+
+import com.txt.backend.dto.SystemAlert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncAlertPublisherTest {
+
+    private static SystemAlert alert(int i) {
+        return SystemAlert.builder().systemSource("LIFE_SUPPORT").severity("CRITICAL").message("alert " + i).build();
+    }
+
+    @Test
+    @DisplayName("Publishes queued alerts in batches and retries failed batches")
+    void shouldBatchAndRetry() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncAlertPublisher publisher = new AsyncAlertPublisher("test-publisher", 100, 10, 3, 1, batch -> {
+            release.await();
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("nack");
+            }
+            batchSizes.add(batch.size());
+        }, nanos -> { });
+
+        for (int i = 0; i < 25; i++) {
+            assertTrue(publisher.offer(alert(i)));
+        }
+        release.countDown();
+        publisher.close();
+
+        assertEquals(25, publisher.sentCount());
+        assertEquals(1, publisher.retryCount());
+        assertEquals(25, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 10));
+    }
+
+    @Test
+    @DisplayName("Gives up after the last attempt and drops alerts when the queue is full")
+    void shouldCountFailuresAndDrops() throws InterruptedException {
+        CountDownLatch firstSend = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncAlertPublisher publisher = new AsyncAlertPublisher("test-publisher", 2, 1, 2, 1, batch -> {
+            firstSend.countDown();
+            release.await();
+            throw new IllegalStateException("broker down");
+        }, nanos -> { });
+
+        publisher.offer(alert(0));
+        assertTrue(firstSend.await(5, TimeUnit.SECONDS)); // alert 0 is now held by the publisher
+        publisher.offer(alert(1));
+        publisher.offer(alert(2));
+        assertFalse(publisher.offer(alert(3)));
+        release.countDown();
+        publisher.close();
+
+        assertEquals(0, publisher.sentCount());
+        assertEquals(3, publisher.failedCount());
+        assertEquals(1, publisher.droppedCount());
+    }
+}
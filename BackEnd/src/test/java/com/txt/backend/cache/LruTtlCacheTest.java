@@ -0,0 +1,66 @@
+package com.txt.backend.cache;
+
+import com.txt.backend.dto.WarpSimulationRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LruTtlCacheTest {
+
+    private long now;
+    private final List<LruTtlCache.EvictionCause> evictions = new ArrayList<>();
+
+    @Test
+    @DisplayName("A full cache drops the least recently used entry")
+    void evictsLeastRecentlyUsed() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(2, 1_000, () -> now, evictions::add);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(1, cache.get("a")); // b is now the eldest
+        cache.put("c", 3);
+
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.get("a"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(List.of(LruTtlCache.EvictionCause.SIZE), evictions);
+    }
+
+    @Test
+    @DisplayName("Entries expire after their time to live, whether read or pushed out")
+    void expiresEntries() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(2, 1_000, () -> now, evictions::add);
+        cache.put("a", 1);
+        now = 500;
+        cache.put("b", 2);
+        now = 999;
+        assertEquals(1, cache.get("a"));
+        now = 1_000;
+        assertNull(cache.get("a"));
+        assertEquals(2, cache.get("b"));
+
+        now = 1_600; // b expired but never read again
+        cache.put("c", 3);
+        cache.put("d", 4);
+        assertEquals(2, cache.size());
+        assertEquals(List.of(LruTtlCache.EvictionCause.EXPIRED, LruTtlCache.EvictionCause.EXPIRED), evictions);
+    }
+
+    @Test
+    @DisplayName("Requests a fraction of a quantum apart share a key and its canonical request")
+    void quantizedKeys() {
+        WarpSimulationKey a = WarpSimulationKey.of(new WarpSimulationRequest(
+                10.2, -3.4, 0.0, 1_000.49, 0.0, 0.0, 1e6 + 0.3), 1, 1, 7, 9);
+        WarpSimulationKey b = WarpSimulationKey.of(new WarpSimulationRequest(
+                9.8, -3.0, 0.4, 999.6, -0.2, 0.0, 1e6), 1, 1, 7, 9);
+        assertEquals(a, b);
+        assertEquals(a.canonical(), b.canonical());
+        assertEquals(10.0, a.canonicalRequest().initialX());
+        assertEquals(1_000.0, a.canonicalRequest().finalX());
+        assertEquals(1e6, a.canonicalRequest().bubbleVelocity());
+    }
+}
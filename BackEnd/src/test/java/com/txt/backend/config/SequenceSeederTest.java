@@ -0,0 +1,65 @@
+package com.txt.backend.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class SequenceSeederTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SequenceSeeder seeder;
+
+    @BeforeEach
+    void setUp() {
+        seeder = new SequenceSeeder(jdbcTemplate, entityManagerFactory);
+        // What ddl-auto=update leaves on MySQL next to a table that had IDENTITY ids
+        jdbcTemplate.execute("create table if not exists legacy_rows (id bigint primary key)");
+        jdbcTemplate.execute("create table if not exists legacy_seq (next_val bigint)");
+        jdbcTemplate.update("delete from legacy_rows");
+        jdbcTemplate.update("delete from legacy_seq");
+        jdbcTemplate.update("insert into legacy_seq values (1)");
+    }
+
+    @Test
+    @DisplayName("A table-backed sequence is moved a whole block past the existing ids, once")
+    void seedsSequenceTablePastExistingIds() {
+        for (long id = 1; id <= 7; id++) {
+            jdbcTemplate.update("insert into legacy_rows values (?)", id);
+        }
+
+        seeder.seed("legacy_seq", "legacy_rows", 50);
+        assertEquals(58, nextVal());
+
+        jdbcTemplate.update("update legacy_seq set next_val = 1000");
+        seeder.seed("legacy_seq", "legacy_rows", 50);
+        assertEquals(1000, nextVal(), "a sequence already ahead is left alone");
+    }
+
+    @Test
+    @DisplayName("Empty tables and native sequences are left alone")
+    void leavesEmptyTablesAndNativeSequences() {
+        seeder.seed("legacy_seq", "legacy_rows", 50);
+        assertEquals(1, nextVal());
+
+        seeder.seedAll(); // H2 keeps alert_history_seq and warp_simulation_seq as native sequences
+    }
+
+    private long nextVal() {
+        return jdbcTemplate.queryForObject("select next_val from legacy_seq", Long.class);
+    }
+}
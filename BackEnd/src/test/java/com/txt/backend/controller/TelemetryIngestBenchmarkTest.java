@@ -0,0 +1,165 @@
+package com.txt.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.dto.TelemetryData;
+import com.txt.backend.ingest.OverflowPolicy;
+import com.txt.backend.serialization.TelemetrySerializer;
+import com.txt.backend.service.AtmosphereService;
+import com.txt.backend.service.KafkaProducerService;
+import com.txt.backend.service.RuleEngineService;
+import com.txt.backend.service.TelemetryIngestService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Throughput comparison between the single-record ingest path and the batch endpoint.
+ *
+ * The broker is replaced by a {@link MockProducer}, so the numbers measure what the backend itself
+ * spends per reading (HTTP handling, JSON, producer calls). Network savings from linger/compression
+ * come on top of this and can only be measured against a real cluster.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=TelemetryIngestBenchmarkTest
+ */
+@Tag("benchmark")
+class TelemetryIngestBenchmarkTest {
+
+    private static final int READINGS = 20_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MockProducer<String, TelemetryData> producer = new MockProducer<>(true, new StringSerializer(), new TelemetrySerializer()) {
+        @Override
+        public void close(Duration timeout) {
+            // KafkaTemplate closes the producer after every send; keep the shared mock open
+        }
+    };
+
+    @Test
+    @DisplayName("Batch endpoint vs single-record endpoint (records/sec)")
+    void compareIngestPaths() throws Exception {
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(newController()).build();
+        List<TelemetryData> readings = readings();
+
+        // Warm-up both paths before measuring
+        runSingle(mvc, readings.subList(0, 2_000));
+        producer.clear();
+        runBatch(mvc, readings.subList(0, 2_000), false);
+
+        producer.clear();
+        long single = runSingle(mvc, readings);
+        assertEquals(READINGS, producer.history().size());
+
+        producer.clear();
+        long jsonBatch = runBatch(mvc, readings, false);
+        assertEquals(READINGS, producer.history().size());
+
+        producer.clear();
+        long ndjsonBatch = runBatch(mvc, readings, true);
+        assertEquals(READINGS, producer.history().size());
+
+        System.out.printf("%n=== Telemetry ingest (%d readings, batches of %d) ===%n", READINGS, BATCH_SIZE);
+        report("POST /kafka/send (single)", single);
+        report("POST /kafka/batch (JSON array)", jsonBatch);
+        report("POST /kafka/batch (NDJSON)", ndjsonBatch);
+    }
+
+    private long runSingle(MockMvc mvc, List<TelemetryData> readings) throws Exception {
+        long start = System.nanoTime();
+        for (TelemetryData data : readings) {
+            mvc.perform(post("/api/telemetry/kafka/send")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsBytes(data)))
+                    .andExpect(status().isAccepted());
+        }
+        // Single readings are published by the ingest dispatcher; wait until all of them reached the producer
+        while (producer.history().size() < readings.size()) {
+            Thread.onSpinWait();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long runBatch(MockMvc mvc, List<TelemetryData> readings, boolean ndjson) throws Exception {
+        long start = System.nanoTime();
+        for (int from = 0; from < readings.size(); from += BATCH_SIZE) {
+            List<TelemetryData> chunk = readings.subList(from, Math.min(from + BATCH_SIZE, readings.size()));
+            MvcResult pending = mvc.perform(post("/api/telemetry/kafka/batch")
+                            .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                            .content(ndjson ? toNdjson(chunk) : objectMapper.writeValueAsBytes(chunk)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mvc.perform(asyncDispatch(pending)).andExpect(status().isOk());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private byte[] toNdjson(List<TelemetryData> chunk) throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (TelemetryData data : chunk) {
+            body.append(objectMapper.writeValueAsString(data)).append('\n');
+        }
+        return body.toString().getBytes();
+    }
+
+    private TelemetryController newController() {
+        ProducerFactory<String, TelemetryData> producerFactory = new ProducerFactory<>() {
+            @Override
+            public Producer<String, TelemetryData> createProducer() {
+                return producer;
+            }
+
+            @Override
+            public ProducerFactory<String, TelemetryData> copyWithConfigurationOverride(Map<String, Object> overrides) {
+                return this;
+            }
+        };
+        RuleEngineService rules = new RuleEngineService(new DefaultResourceLoader(), objectMapper, "classpath:telemetry-rules.json");
+        KafkaProducerService producerService = new KafkaProducerService(
+                new KafkaTemplate<>(producerFactory), 20, 262144, "lz4");
+        TelemetryIngestService ingestService = new TelemetryIngestService(producerService, rules,
+                READINGS, OverflowPolicy.REJECT, 10, "oxygen", 64, new SimpleMeterRegistry());
+        return new TelemetryController(new AtmosphereService(alert -> { }, rules), producerService, ingestService,
+                objectMapper, BATCH_SIZE);
+    }
+
+    private static List<TelemetryData> readings() {
+        List<TelemetryData> readings = new ArrayList<>(READINGS);
+        for (int i = 0; i < READINGS; i++) {
+            readings.add(TelemetryData.builder()
+                    .sensorId("O2-SENSOR-" + (i % 32))
+                    .type("oxygen")
+                    .value(20.5 - (i % 100) / 100.0)
+                    .unit("%")
+                    .timestamp("2026-10-18T10:00:00." + String.format("%06d", i % 1_000_000))
+                    .build());
+        }
+        return readings;
+    }
+
+    private static void report(String label, long nanos) {
+        double seconds = nanos / 1e9;
+        System.out.printf("%-34s %10.0f records/s  (%.1f ms)%n", label, READINGS / seconds, nanos / 1e6);
+    }
+}
@@ -0,0 +1,62 @@
+package com.txt.backend.dedup;
+
+import com.txt.backend.dedup.TimeBucketedBloomFilter.Outcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Cost per record of the duplicate check and the false-positive rate it reaches at full load.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=DedupBenchmarkTest
+ */
+@Tag("benchmark")
+class DedupBenchmarkTest {
+
+    private static final int SENSORS = 256;
+    private static final int READINGS = 2_000_000;
+    private static final long BUCKET_MICROS = 60_000_000L;
+    private static final int BUCKETS = 10;
+    private static final int PER_BUCKET = 200_000;
+
+    @Test
+    @DisplayName("Time-bucketed Bloom filter: ns per record and observed false-positive rate")
+    void measureCheckCost() {
+        String[] sensorIds = new String[SENSORS];
+        for (int i = 0; i < SENSORS; i++) {
+            sensorIds[i] = "SENSOR-" + i;
+            sensorIds[i].hashCode(); // cached, as for ids decoded once per record
+        }
+        // Readings arrive at the rate the buckets are sized for
+        long stepMicros = BUCKET_MICROS / PER_BUCKET;
+
+        for (double rate : new double[]{0.01, 0.001, 0.0001}) {
+            TimeBucketedBloomFilter warmUp = new TimeBucketedBloomFilter(BUCKET_MICROS, BUCKETS, PER_BUCKET, rate);
+            run(warmUp, sensorIds, stepMicros, 0);
+
+            TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(BUCKET_MICROS, BUCKETS, PER_BUCKET, rate);
+            long start = System.nanoTime();
+            int falsePositives = run(filter, sensorIds, stepMicros, 0);
+            long newNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            int detected = run(filter, sensorIds, stepMicros, READINGS - BUCKETS * PER_BUCKET);
+            long replayNanos = System.nanoTime() - start;
+
+            System.out.printf("%nfpp %.4f: %d hashes, %d KiB | new %.1f ns/rec, fp %.4f%% | redelivered %.1f ns/rec, caught %d/%d%n",
+                    rate, filter.hashCount(), filter.memoryBytes() / 1024,
+                    (double) newNanos / READINGS, 100.0 * falsePositives / READINGS,
+                    (double) replayNanos / (BUCKETS * PER_BUCKET), detected, BUCKETS * PER_BUCKET);
+        }
+    }
+
+    // Returns the number of DUPLICATE outcomes for readings [from, READINGS)
+    private static int run(TimeBucketedBloomFilter filter, String[] sensorIds, long stepMicros, int from) {
+        int duplicates = 0;
+        for (int i = from; i < READINGS; i++) {
+            if (filter.checkAndPut(sensorIds[i % SENSORS], i * stepMicros) == Outcome.DUPLICATE) {
+                duplicates++;
+            }
+        }
+        return duplicates;
+    }
+}
@@ -0,0 +1,61 @@
+package com.txt.backend.dedup;
+
+import com.txt.backend.dedup.TimeBucketedBloomFilter.Outcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeBucketedBloomFilterTest {
+
+    private static final long SECOND = 1_000_000L;
+
+    @Test
+    @DisplayName("Reports every repeated key inside the window as a duplicate")
+    void shouldDetectDuplicates() {
+        TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(60 * SECOND, 10, 10_000, 0.001);
+        for (int i = 0; i < 5_000; i++) {
+            assertEquals(Outcome.NEW, filter.checkAndPut("O2-SENSOR-" + (i % 50), i * 100_000L), "first sighting " + i);
+        }
+        for (int i = 0; i < 5_000; i++) {
+            assertEquals(Outcome.DUPLICATE, filter.checkAndPut("O2-SENSOR-" + (i % 50), i * 100_000L));
+        }
+        assertEquals(Outcome.NEW, filter.checkAndPut("O2-SENSOR-1", 1));
+        assertEquals(Outcome.NEW, filter.checkAndPut("CO2-SENSOR-0", 0));
+    }
+
+    @Test
+    @DisplayName("Keeps the false-positive rate near the configured target")
+    void shouldBoundFalsePositives() {
+        TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(SECOND, 1, 100_000, 0.01);
+        for (int i = 0; i < 100_000; i++) {
+            filter.checkAndPut("SENSOR-" + (i % 100), i);
+        }
+        // Probing also inserts, so keep the probe small next to the expected load
+        int falsePositives = 0;
+        for (int i = 100_000; i < 110_000; i++) {
+            if (filter.checkAndPut("SENSOR-" + (i % 100), i) == Outcome.DUPLICATE) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Forgets buckets that slide out of the window")
+    void shouldExpireOldBuckets() {
+        TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(SECOND, 3, 1_000, 0.001);
+        filter.checkAndPut("TEMP-1", 0);
+        filter.checkAndPut("TEMP-1", 2 * SECOND);
+
+        assertEquals(Outcome.DUPLICATE, filter.checkAndPut("TEMP-1", 0));
+
+        filter.checkAndPut("TEMP-1", 3 * SECOND); // window is now seconds 1..3
+        assertEquals(Outcome.OUT_OF_WINDOW, filter.checkAndPut("TEMP-1", 0));
+        assertEquals(Outcome.DUPLICATE, filter.checkAndPut("TEMP-1", 2 * SECOND));
+
+        filter.checkAndPut("TEMP-2", 6 * SECOND); // reuses the slot of second 3
+        assertEquals(Outcome.OUT_OF_WINDOW, filter.checkAndPut("TEMP-1", 3 * SECOND));
+    }
+}
@@ -0,0 +1,91 @@
+package com.txt.backend.flightlog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlightLogTest {
+
+    private static final int SEGMENT_BYTES = 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Rolls segments and reads back a time range across them")
+    void shouldReadRangeAcrossSegments() throws IOException {
+        try (FlightLog log = new FlightLog(directory, SEGMENT_BYTES, 64, Long.MAX_VALUE, Long.MAX_VALUE)) {
+            for (int t = 0; t < 100; t++) {
+                log.append(t * 1000L, List.of(payload(t)));
+            }
+            assertTrue(log.segmentCount() > 1);
+
+            List<Integer> read = new ArrayList<>();
+            log.read(20_000, 70_000, (micros, payload) -> read.add((int) payload[0]));
+            assertEquals(50, read.size());
+            assertEquals(20, read.get(0));
+            assertEquals(69, read.get(read.size() - 1));
+
+            ByteArrayOutputStream raw = new ByteArrayOutputStream();
+            long bytes = log.transferTo(20_000, 70_000, Channels.newChannel(raw));
+            assertEquals(50L * (LogSegment.HEADER_BYTES + 40), bytes);
+            assertEquals(20, ByteBuffer.wrap(raw.toByteArray()).get(LogSegment.HEADER_BYTES));
+        }
+    }
+
+    @Test
+    @DisplayName("Reopening keeps valid records and drops a torn tail")
+    void shouldRecoverAfterTornWrite() throws IOException {
+        try (FlightLog log = new FlightLog(directory, SEGMENT_BYTES, 64, Long.MAX_VALUE, Long.MAX_VALUE)) {
+            log.append(1, List.of(payload(1), payload(2), payload(3)));
+        }
+        // Simulate a crash in the middle of the fourth record: header written, payload missing
+        Path segment = directory.resolve(LogSegment.fileName(0));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(LogSegment.HEADER_BYTES).putInt(40).putInt(123).putLong(2);
+            channel.write(header.flip(), 3L * (LogSegment.HEADER_BYTES + 40));
+        }
+
+        try (FlightLog log = new FlightLog(directory, SEGMENT_BYTES, 64, Long.MAX_VALUE, Long.MAX_VALUE)) {
+            assertEquals(3, log.nextOffset());
+            log.append(5, List.of(payload(4)));
+            List<Integer> read = new ArrayList<>();
+            log.read(0, Long.MAX_VALUE, (micros, payload) -> read.add((int) payload[0]));
+            assertEquals(List.of(1, 2, 3, 4), read);
+        }
+    }
+
+    @Test
+    @DisplayName("Retention deletes the oldest sealed segments but never the active one")
+    void shouldEnforceRetention() throws IOException {
+        try (FlightLog log = new FlightLog(directory, SEGMENT_BYTES, 64, 2L * SEGMENT_BYTES, 1_000)) {
+            for (int t = 0; t < 200; t++) {
+                log.append(t, List.of(payload(t)));
+            }
+            log.enforceRetention(200);
+            assertTrue(log.sizeBytes() <= 2L * SEGMENT_BYTES);
+
+            log.enforceRetention(10_000);
+            assertEquals(1, log.segmentCount());
+        }
+    }
+
+    private static byte[] payload(int marker) {
+        byte[] payload = new byte[40];
+        payload[0] = (byte) marker;
+        return payload;
+    }
+}
@@ -0,0 +1,73 @@
+package com.txt.backend.ingest;
+
+import com.txt.backend.ingest.IngestQueue.Admission;
+import com.txt.backend.ingest.IngestQueue.Lane;
+import com.txt.backend.ingest.IngestQueue.ShedReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IngestQueueTest {
+
+    @Test
+    @DisplayName("REJECT refuses normal readings when full, priority readings displace normal ones")
+    void shouldShedNormalBeforePriority() throws InterruptedException {
+        IngestQueue<String> queue = new IngestQueue<>(3, OverflowPolicy.REJECT, 10);
+        queue.offer("n1", false);
+        queue.offer("n2", false);
+        queue.offer("n3", false);
+
+        assertEquals(Admission.REJECTED, queue.offer("n4", false));
+        assertEquals(Admission.ACCEPTED, queue.offer("p1", true));
+        assertEquals(Admission.ACCEPTED, queue.offer("p2", true));
+        assertEquals(Admission.ACCEPTED, queue.offer("p3", true));
+        assertEquals(Admission.REJECTED, queue.offer("p4", true));
+
+        assertEquals(1, queue.shedCount(Lane.NORMAL, ShedReason.REJECTED));
+        assertEquals(3, queue.shedCount(Lane.NORMAL, ShedReason.DROPPED));
+        assertEquals(1, queue.shedCount(Lane.PRIORITY, ShedReason.REJECTED));
+        assertEquals(List.of("p1", "p2", "p3"), drain(queue));
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST keeps the newest readings and drains the priority lane first")
+    void shouldDropOldest() throws InterruptedException {
+        IngestQueue<String> queue = new IngestQueue<>(3, OverflowPolicy.DROP_OLDEST, 10);
+        queue.offer("n1", false);
+        queue.offer("p1", true);
+        queue.offer("n2", false);
+
+        assertEquals(Admission.ACCEPTED, queue.offer("n3", false));
+
+        assertEquals(1, queue.shedCount(Lane.NORMAL, ShedReason.DROPPED));
+        assertEquals(List.of("p1", "n2", "n3"), drain(queue));
+    }
+
+    @Test
+    @DisplayName("SAMPLE keeps one in N normal readings past half capacity")
+    void shouldSampleUnderPressure() {
+        IngestQueue<String> queue = new IngestQueue<>(100, OverflowPolicy.SAMPLE, 4);
+        int accepted = 0;
+        for (int i = 0; i < 70; i++) {
+            if (queue.offer("n" + i, false) == Admission.ACCEPTED) {
+                accepted++;
+            }
+        }
+
+        // 50 below half capacity, then 1 in 4 of the remaining 20
+        assertEquals(55, accepted);
+        assertEquals(15, queue.shedCount(Lane.NORMAL, ShedReason.SAMPLED));
+        assertEquals(Admission.ACCEPTED, queue.offer("p", true));
+    }
+
+    private static List<String> drain(IngestQueue<String> queue) throws InterruptedException {
+        List<String> out = new ArrayList<>();
+        queue.drainTo(out, 100, 0, TimeUnit.MILLISECONDS);
+        return out;
+    }
+}
@@ -0,0 +1,89 @@
+package com.txt.backend.obstacle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * First-contact queries against a catalog of millions of obstacles: the octree against scanning every
+ * obstacle. Obstacles are scattered through a cube 1000 km on a side; paths are 100 km jumps with a 50 m
+ * bubble, a mix of clear paths and collisions. Both answer every query and must agree.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=ObstacleOctreeBenchmarkTest
+ */
+@Tag("benchmark")
+class ObstacleOctreeBenchmarkTest {
+
+    private static final double SPACE = 1_000_000;
+    private static final double JUMP = 100_000;
+    private static final double BUBBLE = 50;
+    private static final int SCAN_QUERIES = 100;
+    private static final int OCTREE_QUERIES = 100_000;
+
+    @Test
+    @DisplayName("First contact on warp paths: octree vs brute-force scan over millions of obstacles")
+    void compareOctreeAndScan() {
+        System.out.printf("%n=== %d km jumps, %d m bubble, obstacles 1-200 m in a %d km cube ===%n",
+                (int) (JUMP / 1000), (int) BUBBLE, (int) (SPACE / 1000));
+        System.out.printf("%-10s %10s %12s %12s %12s %8s%n",
+                "obstacles", "build ms", "scan us/q", "octree us/q", "speed-up", "hits");
+        double speedUp = 0;
+        for (int count : new int[]{100_000, 1_000_000, 2_000_000}) {
+            Random random = new Random(count);
+            ObstacleOctree.Loader loader = new ObstacleOctree.Loader();
+            for (int id = 0; id < count; id++) {
+                loader.add(id, random.nextDouble() * SPACE, random.nextDouble() * SPACE, random.nextDouble() * SPACE,
+                        1 + random.nextDouble() * 199);
+            }
+            long start = System.nanoTime();
+            ObstacleOctree octree = loader.build();
+            double buildMillis = (System.nanoTime() - start) / 1e6;
+
+            double[][] paths = paths(new Random(7), OCTREE_QUERIES);
+            int hits = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < SCAN_QUERIES; i++) {
+                double[] p = paths[i];
+                Contact expected = octree.scanFirstContact(p[0], p[1], p[2], p[3], p[4], p[5], BUBBLE);
+                assertEquals(expected, octree.firstContact(p[0], p[1], p[2], p[3], p[4], p[5], BUBBLE), "path " + i);
+            }
+            double scanMicros = (System.nanoTime() - start) / 1e3 / SCAN_QUERIES;
+
+            for (int i = 0; i < 10_000; i++) { // warm-up
+                double[] p = paths[i];
+                octree.firstContact(p[0], p[1], p[2], p[3], p[4], p[5], BUBBLE);
+            }
+            start = System.nanoTime();
+            for (double[] p : paths) {
+                if (octree.firstContact(p[0], p[1], p[2], p[3], p[4], p[5], BUBBLE) != null) {
+                    hits++;
+                }
+            }
+            double octreeMicros = (System.nanoTime() - start) / 1e3 / OCTREE_QUERIES;
+            speedUp = scanMicros / octreeMicros;
+            System.out.printf("%-10d %10.0f %12.1f %12.2f %11.0fx %7.1f%%%n", count, buildMillis, scanMicros,
+                    octreeMicros, speedUp, 100.0 * hits / OCTREE_QUERIES);
+        }
+        assertTrue(speedUp > 100, "the octree should beat scanning millions of obstacles by orders of magnitude");
+    }
+
+    private static double[][] paths(Random random, int n) {
+        double[][] paths = new double[n][];
+        for (int i = 0; i < n; i++) {
+            double x = random.nextDouble() * SPACE;
+            double y = random.nextDouble() * SPACE;
+            double z = random.nextDouble() * SPACE;
+            double theta = random.nextDouble() * 2 * Math.PI;
+            double cosPhi = random.nextDouble() * 2 - 1;
+            double sinPhi = Math.sqrt(1 - cosPhi * cosPhi);
+            paths[i] = new double[]{x, y, z, x + JUMP * sinPhi * Math.cos(theta),
+                    y + JUMP * sinPhi * Math.sin(theta), z + JUMP * cosPhi};
+        }
+        return paths;
+    }
+}
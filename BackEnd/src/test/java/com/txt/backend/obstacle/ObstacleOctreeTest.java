@@ -0,0 +1,97 @@
+package com.txt.backend.obstacle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObstacleOctreeTest {
+
+    @Test
+    @DisplayName("A swept sphere touches the first obstacle on its path at the surface point facing it")
+    void firstContactOnStraightPath() {
+        ObstacleOctree octree = new ObstacleOctree.Loader()
+                .add(1, 100, 0, 0, 10)
+                .add(2, 50, 0, 0, 5)
+                .add(3, 50, 40, 0, 5)
+                .build();
+
+        Contact contact = octree.firstContact(0, 0, 0, 200, 0, 0, 2);
+        assertNotNull(contact);
+        assertEquals(2, contact.obstacleId());
+        assertEquals(43.0 / 200, contact.fraction(), 1e-12); // centre 7 m short of obstacle 2
+        assertEquals(45, contact.x(), 1e-9);
+        assertEquals(0, contact.y(), 1e-9);
+
+        assertNull(octree.firstContact(0, 25, 0, 200, 25, 0, 2), "path between the obstacles is clear");
+        assertEquals(3, octree.firstContact(0, 25, 0, 200, 25, 0, 16).obstacleId(), "a wider bubble clips 3");
+        assertEquals(0, octree.firstContact(100, 5, 0, 300, 5, 0, 1).fraction(), "starting inside an obstacle");
+    }
+
+    @Test
+    @DisplayName("Octree queries match a full scan after bulk load, inserts, moves and removals")
+    void matchesScanAfterUpdates() {
+        Random random = new Random(42);
+        ObstacleOctree.Loader loader = new ObstacleOctree.Loader();
+        for (int id = 0; id < 5_000; id++) {
+            loader.add(id, random.nextDouble() * 10_000, random.nextDouble() * 10_000, random.nextDouble() * 10_000,
+                    random.nextDouble() * 50);
+        }
+        ObstacleOctree octree = loader.build();
+        assertQueriesMatchScan(octree, random);
+
+        for (int id = 0; id < 2_000; id += 2) {
+            assertTrue(octree.remove(id));
+        }
+        assertFalse(octree.remove(0));
+        for (int id = 1; id < 2_000; id += 2) {
+            // moves, some far outside the bulk-loaded bounds so the root has to grow
+            octree.insert(new Obstacle(id, random.nextDouble() * 30_000 - 10_000,
+                    random.nextDouble() * 30_000 - 10_000, random.nextDouble() * 10_000, random.nextDouble() * 200));
+        }
+        for (int id = 5_000; id < 6_000; id++) {
+            octree.insert(new Obstacle(id, random.nextDouble() * 10_000, random.nextDouble() * 10_000,
+                    random.nextDouble() * 10_000, 1));
+        }
+        assertEquals(5_000, octree.size());
+        assertQueriesMatchScan(octree, random);
+    }
+
+    @Test
+    @DisplayName("Inserting into an empty tree and duplicate ids in a bulk load")
+    void emptyTreeAndDuplicates() {
+        ObstacleOctree octree = new ObstacleOctree();
+        assertNull(octree.firstContact(0, 0, 0, 1, 1, 1, 1));
+        octree.insert(new Obstacle(7, -1e6, 1e6, 0, 3));
+        assertEquals(7, octree.firstContact(-1e6 - 100, 1e6, 0, -1e6 + 100, 1e6, 0, 0).obstacleId());
+
+        ObstacleOctree.Loader duplicates = new ObstacleOctree.Loader().add(1, 0, 0, 0, 1).add(1, 5, 5, 5, 1);
+        assertThrows(IllegalArgumentException.class, duplicates::build);
+        assertThrows(IllegalArgumentException.class, () -> new Obstacle(1, Double.NaN, 0, 0, 1));
+    }
+
+    private static void assertQueriesMatchScan(ObstacleOctree octree, Random random) {
+        int hits = 0;
+        for (int i = 0; i < 500; i++) {
+            double[] a = {random.nextDouble() * 12_000 - 1_000, random.nextDouble() * 12_000 - 1_000,
+                    random.nextDouble() * 12_000 - 1_000};
+            double[] b = {random.nextDouble() * 12_000 - 1_000, random.nextDouble() * 12_000 - 1_000,
+                    random.nextDouble() * 12_000 - 1_000};
+            double radius = random.nextDouble() * 20;
+            Contact expected = octree.scanFirstContact(a[0], a[1], a[2], b[0], b[1], b[2], radius);
+            Contact actual = octree.firstContact(a[0], a[1], a[2], b[0], b[1], b[2], radius);
+            assertEquals(expected, actual, "query " + i);
+            if (expected != null) {
+                hits++;
+            }
+        }
+        assertTrue(hits > 50 && hits < 500, "queries should mix hits and misses, got " + hits);
+    }
+}
@@ -0,0 +1,75 @@
+package com.txt.backend.replay;
+
+import com.txt.backend.dto.TelemetryData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplayRunTest {
+
+    @Test
+    @DisplayName("Max speed replays everything in full batches")
+    void shouldBatchAtMaxSpeed() {
+        List<Integer> batchSizes = new ArrayList<>();
+        ReplayRun run = new ReplayRun("r1", "test", ReplaySpeed.MAX, 100,
+                batch -> batchSizes.add(batch.size()), latency -> { });
+
+        run.run(sink -> {
+            for (int i = 0; i < 250; i++) {
+                sink.accept(i * 1_000_000L, reading(i));
+            }
+        });
+
+        assertEquals(ReplayRun.State.COMPLETED, run.state());
+        assertEquals(List.of(100, 100, 50), batchSizes);
+        assertEquals(250, run.records());
+    }
+
+    @Test
+    @DisplayName("A 10x replay of one recorded second takes about 100 ms")
+    void shouldPaceByRecordedTime() {
+        ReplayRun run = new ReplayRun("r2", "test", ReplaySpeed.parse("10x"), 100, batch -> { }, latency -> { });
+
+        run.run(sink -> {
+            for (int i = 0; i <= 10; i++) {
+                sink.accept(i * 100_000L, reading(i));
+            }
+        });
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(run.elapsedNanos());
+        assertTrue(elapsedMillis >= 95 && elapsedMillis < 1_000, "elapsed " + elapsedMillis + " ms");
+        assertEquals(11, run.records());
+    }
+
+    @Test
+    @DisplayName("Cancelling stops the source")
+    void shouldStopWhenCancelled() {
+        ReplayRun run = new ReplayRun("r3", "test", ReplaySpeed.MAX, 10, batch -> { }, latency -> { });
+        int[] emitted = {0};
+
+        run.run(sink -> {
+            for (int i = 0; i < 1_000; i++) {
+                emitted[0]++;
+                if (i == 24) {
+                    run.cancel();
+                }
+                if (!sink.accept(i, reading(i))) {
+                    return;
+                }
+            }
+        });
+
+        assertEquals(ReplayRun.State.CANCELLED, run.state());
+        assertEquals(25, emitted[0]);
+    }
+
+    private static TelemetryData reading(int i) {
+        return new TelemetryData("s-" + (i % 4), "oxygen", 20.9, "%", null);
+    }
+}
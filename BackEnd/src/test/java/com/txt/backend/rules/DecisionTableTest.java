@@ -0,0 +1,73 @@
+package com.txt.backend.rules;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecisionTableTest {
+
+    private static ThresholdRule rule(String id, String type, String operator, double threshold, RuleSeverity severity) {
+        return new ThresholdRule(id, type, ComparisonOperator.fromSymbol(operator), threshold, severity,
+                "LIFE_SUPPORT", "value {value}", false);
+    }
+
+    @Test
+    @DisplayName("Picks the most severe matching rule on both sides of every threshold")
+    void shouldResolveMostSevereRule() {
+        ThresholdRule warning = rule("low", "oxygen", "<", 20.5, RuleSeverity.WARNING);
+        ThresholdRule critical = rule("hypoxic", "oxygen", "<", 19.5, RuleSeverity.CRITICAL);
+        ThresholdRule high = rule("high", "oxygen", ">=", 23.5, RuleSeverity.CAUTION);
+        DecisionTable table = DecisionTable.compile(List.of(warning, critical, high));
+
+        assertEquals(critical, table.evaluate("oxygen", 10));
+        assertEquals(critical, table.evaluate("oxygen", Math.nextDown(19.5)));
+        assertEquals(warning, table.evaluate("oxygen", 19.5));
+        assertEquals(warning, table.evaluate("oxygen", 20));
+        assertNull(table.evaluate("oxygen", 20.5));
+        assertNull(table.evaluate("oxygen", 22));
+        assertEquals(high, table.evaluate("oxygen", 23.5));
+        assertEquals(high, table.evaluate("oxygen", Double.POSITIVE_INFINITY));
+        assertEquals(critical, table.evaluate("oxygen", Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    @DisplayName("Handles inclusive operators, negative zero and the first declared rule on ties")
+    void shouldHandleBoundaries() {
+        ThresholdRule first = rule("first", "temperature", "<=", 0, RuleSeverity.WARNING);
+        ThresholdRule second = rule("second", "temperature", "<", 5, RuleSeverity.WARNING);
+        DecisionTable table = DecisionTable.compile(List.of(first, second));
+
+        assertEquals(first, table.evaluate("temperature", 0.0));
+        assertEquals(first, table.evaluate("temperature", -0.0));
+        assertEquals(second, table.evaluate("temperature", Math.nextUp(0.0)));
+        assertNull(table.evaluate("temperature", 5));
+    }
+
+    @Test
+    @DisplayName("Unknown types, NaN and null types match nothing; types are case-insensitive")
+    void shouldIgnoreUnknownReadings() {
+        ThresholdRule critical = rule("energy-critical", "energy", "<", 10, RuleSeverity.CRITICAL);
+        DecisionTable table = DecisionTable.compile(List.of(critical));
+
+        assertNull(table.evaluate("speed", 1));
+        assertNull(table.evaluate(null, 1));
+        assertNull(table.evaluate("energy", Double.NaN));
+        assertEquals(critical, table.evaluate("ENERGY", 5));
+        assertNull(DecisionTable.EMPTY.evaluate("energy", 5));
+    }
+
+    @Test
+    @DisplayName("Rejects duplicate ids and non-finite thresholds")
+    void shouldRejectInvalidRules() {
+        ThresholdRule a = rule("a", "energy", "<", 10, RuleSeverity.CRITICAL);
+
+        assertThrows(IllegalArgumentException.class, () -> DecisionTable.compile(List.of(a, a)));
+        assertThrows(IllegalArgumentException.class,
+                () -> DecisionTable.compile(List.of(rule("b", "energy", "<", Double.NaN, RuleSeverity.WARNING))));
+    }
+}
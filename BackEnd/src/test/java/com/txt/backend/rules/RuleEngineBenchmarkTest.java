@@ -0,0 +1,62 @@
+package com.txt.backend.rules;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cost of evaluating one reading against the compiled decision table.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=RuleEngineBenchmarkTest
+ */
+@Tag("benchmark")
+class RuleEngineBenchmarkTest {
+
+    private static final String[] TYPES = {"oxygen", "energy", "temperature", "speed", "radiation", "pressure"};
+    private static final int READINGS = 1 << 16;
+    private static final int ROUNDS = 200;
+
+    @Test
+    @DisplayName("Decision table: ns per evaluated reading")
+    void measureEvaluation() {
+        DecisionTable table = DecisionTable.compile(rules(16));
+        String[] types = new String[READINGS];
+        double[] values = new double[READINGS];
+        for (int i = 0; i < READINGS; i++) {
+            types[i] = TYPES[i % TYPES.length];
+            values[i] = (i * 7919 % 1000) / 10.0;
+        }
+
+        long matches = 0;
+        long nanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < READINGS; i++) {
+                if (table.evaluate(types[i], values[i]) != null) {
+                    matches++;
+                }
+            }
+            if (round >= ROUNDS / 2) { // first half is warm-up
+                nanos += System.nanoTime() - start;
+            }
+        }
+        long ops = (long) READINGS * (ROUNDS - ROUNDS / 2);
+        System.out.printf("%n=== Rule evaluation (%d types x 16 rules) ===%n", TYPES.length);
+        System.out.printf("%.1f ns/reading, %d matches%n", (double) nanos / ops, matches);
+    }
+
+    private static List<ThresholdRule> rules(int perType) {
+        RuleSeverity[] severities = RuleSeverity.values();
+        List<ThresholdRule> rules = new ArrayList<>();
+        for (String type : TYPES) {
+            for (int i = 0; i < perType; i++) {
+                rules.add(new ThresholdRule(type + "-" + i, type, i % 2 == 0 ? ComparisonOperator.LESS_THAN : ComparisonOperator.GREATER_OR_EQUAL,
+                        i * 6.0, severities[i % severities.length], "SENSORS", "{sensorId}: {value}", true));
+            }
+        }
+        return rules;
+    }
+}
@@ -0,0 +1,103 @@
+package com.txt.backend.serialization;
+
+import com.txt.backend.dto.TelemetryData;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Payload size and encode/decode cost of the binary telemetry format against JSON.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=TelemetryCodecBenchmarkTest
+ */
+@Tag("benchmark")
+class TelemetryCodecBenchmarkTest {
+
+    private static final String TOPIC = "spaceship.telemetry.v1";
+    private static final int SAMPLES = 10_000;
+    private static final int ROUNDS = 120;
+
+    @Test
+    @DisplayName("Binary vs JSON: bytes per reading and ns/op")
+    void compareCodecs() {
+        List<TelemetryData> readings = readings();
+        TelemetryDeserializer deserializer = new TelemetryDeserializer();
+
+        Result json = measure(new TelemetrySerializer(TelemetryCodecFormat.JSON), deserializer, readings);
+        Result binary = measure(new TelemetrySerializer(TelemetryCodecFormat.BINARY), deserializer, readings);
+
+        System.out.printf("%n=== Telemetry codec (%d readings x %d rounds) ===%n", SAMPLES, ROUNDS);
+        System.out.printf("%-8s %12s %14s %14s%n", "codec", "bytes/rec", "encode ns/op", "decode ns/op");
+        print("json", json);
+        print("binary", binary);
+        System.out.printf("size ratio %.1fx, decode speed-up %.1fx%n",
+                json.bytesPerRecord / binary.bytesPerRecord, json.decodeNs / binary.decodeNs);
+    }
+
+    private static Result measure(Serializer<TelemetryData> serializer, Deserializer<TelemetryData> deserializer,
+                                  List<TelemetryData> readings) {
+        byte[][] encoded = new byte[readings.size()][];
+        long totalBytes = 0;
+        for (int i = 0; i < readings.size(); i++) {
+            encoded[i] = serializer.serialize(TOPIC, readings.get(i));
+            totalBytes += encoded[i].length;
+            assertEquals(readings.get(i), deserializer.deserialize(TOPIC, encoded[i]), "round trip");
+        }
+
+        long sink = 0;
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (TelemetryData data : readings) {
+                sink += serializer.serialize(TOPIC, data).length;
+            }
+            long middle = System.nanoTime();
+            for (byte[] payload : encoded) {
+                sink += (long) deserializer.deserialize(TOPIC, payload).getValue();
+            }
+            long end = System.nanoTime();
+            if (round >= ROUNDS / 2) { // first half is warm-up
+                encodeNanos += middle - start;
+                decodeNanos += end - middle;
+            }
+        }
+        long ops = (long) readings.size() * (ROUNDS - ROUNDS / 2);
+        if (sink == 42) {
+            System.out.println(); // keeps the JIT from discarding the loops
+        }
+        return new Result((double) totalBytes / readings.size(), (double) encodeNanos / ops, (double) decodeNanos / ops);
+    }
+
+    private static List<TelemetryData> readings() {
+        String[][] kinds = {{"oxygen", "%"}, {"temperature", "C"}, {"speed", "m/s"}, {"radiation", "mSv"}};
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 10, 0);
+        List<TelemetryData> readings = new ArrayList<>(SAMPLES);
+        for (int i = 0; i < SAMPLES; i++) {
+            String[] kind = kinds[i % kinds.length];
+            readings.add(TelemetryData.builder()
+                    .sensorId(kind[0].toUpperCase() + "-SENSOR-" + (i % 16))
+                    .type(kind[0])
+                    .value(20.0 + Math.sin(i / 50.0) * 3)
+                    .unit(kind[1])
+                    .timestamp(start.plusNanos(i * 100_000_000L).toString())
+                    .build());
+        }
+        return readings;
+    }
+
+    private static void print(String label, Result result) {
+        System.out.printf("%-8s %12.1f %14.1f %14.1f%n", label, result.bytesPerRecord, result.encodeNs, result.decodeNs);
+    }
+
+    private record Result(double bytesPerRecord, double encodeNs, double decodeNs) {
+    }
+}
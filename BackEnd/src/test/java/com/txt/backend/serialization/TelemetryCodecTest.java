@@ -0,0 +1,83 @@
+package com.txt.backend.serialization;
+
+import com.txt.backend.dto.TelemetryData;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TelemetryCodecTest {
+
+    private static final String TOPIC = "spaceship.telemetry.v1";
+
+    private final TelemetryBinaryCodec codec = new TelemetryBinaryCodec();
+    private final TelemetryDeserializer deserializer = new TelemetryDeserializer();
+
+    @Test
+    @DisplayName("Binary and JSON payloads round trip through the deserializer")
+    void shouldRoundTripBothFormats() {
+        List<TelemetryData> readings = List.of(
+                new TelemetryData("O2-SENSOR-01", "oxygen", 20.9, "%", "2026-10-18T10:15:30.123456"),
+                new TelemetryData("O2-SENSOR-01", "oxygen", -0.0, "%", "2026-10-18T10:15:30.120"),
+                new TelemetryData("sensor-not-in-dictionary", "custom type", Double.NaN, null, "2026-10-18T10:15"),
+                new TelemetryData("RAD-7", "radiation", 1e-12, "Sv", "yesterday"),
+                new TelemetryData("RAD-7", "radiation", 3.5, "Sv", null));
+
+        for (TelemetryCodecFormat format : TelemetryCodecFormat.values()) {
+            TelemetrySerializer serializer = new TelemetrySerializer(format);
+            for (TelemetryData data : readings) {
+                byte[] payload = serializer.serialize(TOPIC, data);
+                assertEquals(format == TelemetryCodecFormat.BINARY, TelemetryBinaryCodec.isBinary(payload));
+                assertEquals(data, deserializer.deserialize(TOPIC, payload), format + " " + data);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("An offset timestamp comes back as the same instant in UTC")
+    void shouldNormalizeOffsetTimestamps() {
+        TelemetryData data = new TelemetryData("O2-SENSOR-01", "oxygen", 20.9, "%", "2026-10-18T12:15:30.5+02:00");
+
+        assertEquals("2026-10-18T10:15:30.500Z", codec.decode(codec.encode(data)).getTimestamp());
+    }
+
+    @Test
+    @DisplayName("Nanoseconds are kept as text instead of being truncated to micros")
+    void shouldKeepNanosecondTimestamps() {
+        String timestamp = "2026-10-18T10:15:30.123456789";
+        TelemetryData data = new TelemetryData("O2-SENSOR-01", "oxygen", 20.9, "%", timestamp);
+
+        assertTrue(TelemetryTimestamps.hasSubMicros(timestamp));
+        assertEquals(TelemetryTimestamps.toEpochMicros("2026-10-18T10:15:30.123456"),
+                TelemetryTimestamps.toEpochMicros(timestamp), "epoch micros truncate");
+        assertEquals(timestamp, codec.decode(codec.encode(data)).getTimestamp());
+
+        assertFalse(TelemetryTimestamps.hasSubMicros("2026-10-18T10:15:30.123456000"));
+        assertFalse(TelemetryTimestamps.hasSubMicros("2026-10-18T10:15:30.1+05:31"));
+    }
+
+    @Test
+    @DisplayName("Unknown magic bytes and schema versions are rejected")
+    void shouldRejectUnknownMagicAndVersion() {
+        byte[] payload = codec.encode(new TelemetryData("O2-SENSOR-01", "oxygen", 20.9, "%", null));
+
+        byte[] futureVersion = payload.clone();
+        futureVersion[1] = TelemetryBinaryCodec.VERSION + 1;
+        IllegalArgumentException version = assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(futureVersion));
+        assertEquals("Unsupported telemetry schema version 2", version.getMessage());
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, futureVersion));
+
+        byte[] wrongMagic = payload.clone();
+        wrongMagic[0] = 0x42;
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(wrongMagic));
+        // Without the magic byte the payload is read as JSON, which it is not either
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, wrongMagic));
+    }
+}
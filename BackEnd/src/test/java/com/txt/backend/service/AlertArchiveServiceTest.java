@@ -0,0 +1,132 @@
+package com.txt.backend.service;
+
+import com.txt.backend.dto.AlertHistoryPage;
+import com.txt.backend.dto.AlertHistoryQuery;
+import com.txt.backend.model.AlertHistory;
+import com.txt.backend.repository.AlertRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "alerts.archive.chunk-rows=3" // several files per day
+})
+@AutoConfigureJson
+@Import({AlertHistoryService.class, AlertArchiveService.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // the archiver commits its own transactions
+class AlertArchiveServiceTest {
+
+    private static final Path ARCHIVE_DIRECTORY = createDirectory();
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+    private static final AlertHistoryQuery ALL = new AlertHistoryQuery(null, null, null, null);
+
+    @DynamicPropertySource
+    static void archiveDirectory(DynamicPropertyRegistry registry) {
+        registry.add("alerts.archive.directory", ARCHIVE_DIRECTORY::toString);
+    }
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private AlertArchiveService alertArchiveService;
+
+    @Autowired
+    private AlertHistoryService alertHistoryService;
+
+    private List<AlertHistory> seeded;
+
+    @BeforeEach
+    void seed() {
+        alertRepository.deleteAllInBatch();
+        List<AlertHistory> alerts = new ArrayList<>();
+        int[] daysAgo = {45, 40, 40, 31, 2, 0};
+        for (int day = 0; day < daysAgo.length; day++) {
+            for (int i = 0; i < 7; i++) {
+                alerts.add(AlertHistory.builder()
+                        .systemSource(i % 2 == 0 ? "LIFE_SUPPORT" : "POWER_GRID")
+                        .severity(i % 3 == 0 ? "WARNING" : "CRITICAL")
+                        .message("alert " + day + "/" + i)
+                        .timestamp(TODAY.minusDays(daysAgo[day]).atTime(10, i / 2)) // pairs share a timestamp
+                        .build());
+            }
+        }
+        seeded = alertRepository.saveAll(alerts);
+    }
+
+    @Test
+    @DisplayName("Moves days past retention to compressed files and keeps them readable through paging")
+    void shouldArchiveOldDaysAndPageAcrossArchive() throws IOException {
+        assertEquals(28, alertArchiveService.archiveBefore(TODAY.minusDays(30)));
+        assertEquals(14, alertRepository.count());
+        assertTrue(alertRepository.findAll().stream()
+                .allMatch(alert -> !alert.getTimestamp().toLocalDate().isBefore(TODAY.minusDays(30))));
+        try (Stream<Path> files = Files.list(ARCHIVE_DIRECTORY)) {
+            List<Path> archived = files.toList();
+            assertTrue(archived.stream().allMatch(file -> file.getFileName().toString().endsWith(".ndjson.gz")));
+            assertEquals(11, archived.size(), "days of 7, 14 and 7 rows in chunks of 3");
+        }
+        assertEquals(0, alertArchiveService.archiveBefore(TODAY.minusDays(30)), "nothing left to archive");
+
+        List<AlertHistory> expected = seeded.stream().sorted(AlertArchiveService.NEWEST_FIRST).toList();
+        assertEquals(ids(expected), ids(walk(ALL, 5)));
+        List<AlertHistory> exported = new ArrayList<>();
+        alertHistoryService.export(ALL, exported::add);
+        assertEquals(ids(expected), ids(exported));
+
+        LocalDateTime before = TODAY.minusDays(35).atStartOfDay();
+        AlertHistoryQuery warnings = new AlertHistoryQuery("WARNING", "LIFE_SUPPORT", null, before);
+        List<AlertHistory> expectedWarnings = expected.stream()
+                .filter(alert -> alert.getSeverity().equals("WARNING"))
+                .filter(alert -> alert.getSystemSource().equals("LIFE_SUPPORT"))
+                .filter(alert -> alert.getTimestamp().isBefore(before))
+                .toList();
+        assertEquals(ids(expectedWarnings), ids(walk(warnings, 2)));
+    }
+
+    private List<AlertHistory> walk(AlertHistoryQuery query, int limit) {
+        List<AlertHistory> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            AlertHistoryPage page = alertHistoryService.findPage(query, cursor, limit);
+            all.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    private static List<Long> ids(List<AlertHistory> alerts) {
+        return alerts.stream().map(AlertHistory::getId).toList();
+    }
+
+    private static Path createDirectory() {
+        try {
+            return Files.createTempDirectory("alert-archive");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.txt.backend.service;
+
+import com.txt.backend.dto.AlertHistoryPage;
+import com.txt.backend.dto.AlertHistoryQuery;
+import com.txt.backend.model.AlertHistory;
+import com.txt.backend.repository.AlertRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "alerts.archive.enabled=false"
+})
+@AutoConfigureJson
+@Import({AlertHistoryService.class, AlertArchiveService.class, SimpleMeterRegistry.class})
+class AlertHistoryServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 18, 10, 0);
+    private static final AlertHistoryQuery ALL = new AlertHistoryQuery(null, null, null, null);
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private AlertHistoryService alertHistoryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        List<AlertHistory> alerts = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            alerts.add(AlertHistory.builder()
+                    .systemSource(i % 2 == 0 ? "LIFE_SUPPORT" : "POWER_GRID")
+                    .severity(i % 5 == 0 ? "WARNING" : "CRITICAL")
+                    .message("alert " + i)
+                    .timestamp(START.plusMinutes(i / 3)) // groups of three share a timestamp
+                    .build());
+        }
+        alertRepository.saveAll(alerts);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Walks all pages newest first without gaps or repeats, even across equal timestamps")
+    void shouldPageThroughEveryAlert() {
+        List<AlertHistory> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            AlertHistoryPage page = alertHistoryService.findPage(ALL, cursor, 4);
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(7, pages);
+        assertEquals(25, seen.stream().map(AlertHistory::getId).distinct().count());
+        List<AlertHistory> expected = new ArrayList<>(seen);
+        expected.sort(Comparator.comparing(AlertHistory::getTimestamp).thenComparing(AlertHistory::getId).reversed());
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    @DisplayName("Applies severity, source and time filters")
+    void shouldFilter() {
+        AlertHistoryQuery query = new AlertHistoryQuery("CRITICAL", "LIFE_SUPPORT", START.plusMinutes(1), START.plusMinutes(7));
+
+        AlertHistoryPage page = alertHistoryService.findPage(query, null, 100);
+
+        assertNull(page.nextCursor());
+        assertTrue(page.items().stream().allMatch(alert -> "CRITICAL".equals(alert.getSeverity())
+                && "LIFE_SUPPORT".equals(alert.getSystemSource())
+                && !alert.getTimestamp().isBefore(START.plusMinutes(1))
+                && alert.getTimestamp().isBefore(START.plusMinutes(7))));
+        // i in 3..20, even, not a multiple of 5: 4, 6, 8, 12, 14, 16, 18
+        assertEquals(7, page.items().size());
+    }
+
+    @Test
+    @DisplayName("Exports every alert and rejects bad cursors and limits")
+    void shouldExportAndValidate() {
+        List<AlertHistory> exported = new ArrayList<>();
+        alertHistoryService.export(ALL, exported::add);
+
+        assertEquals(25, exported.size());
+        assertThrows(IllegalArgumentException.class, () -> alertHistoryService.findPage(ALL, "not-a-cursor", 10));
+        assertThrows(IllegalArgumentException.class, () -> alertHistoryService.findPage(ALL, null, 0));
+    }
+}
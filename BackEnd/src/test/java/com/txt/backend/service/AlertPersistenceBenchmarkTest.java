@@ -0,0 +1,117 @@
+package com.txt.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.dto.SystemAlert;
+import com.txt.backend.repository.AlertRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Alerts/sec stored by CentralCommandListener one message at a time against batch mode, on an in-memory H2.
+ * The listener methods are called directly, so this measures the consumer and the database, not RabbitMQ.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=AlertPersistenceBenchmarkTest
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // one transaction per listener call, as in the container
+class AlertPersistenceBenchmarkTest {
+
+    private static final int ALERTS = 20_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Alert persistence: single message vs batch listener (alerts/sec)")
+    void compareListenerModes() {
+        RuleEngineService rules = new RuleEngineService(new DefaultResourceLoader(), new ObjectMapper(),
+                "classpath:telemetry-rules.json");
+        CentralCommandListener listener = new CentralCommandListener(
+                new AlertHandlingService(new AIService(rules), alertRepository, new SimpleMeterRegistry()));
+        List<SystemAlert> alerts = alerts();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long single;
+        long batched;
+        try {
+            runSingle(tx, listener, alerts.subList(0, 2_000)); // warm-up
+            runBatched(tx, listener, alerts.subList(0, 2_000));
+            alertRepository.deleteAllInBatch();
+
+            single = runSingle(tx, listener, alerts);
+            assertEquals(ALERTS, alertRepository.count());
+            alertRepository.deleteAllInBatch();
+
+            batched = runBatched(tx, listener, alerts);
+            assertEquals(ALERTS, alertRepository.count());
+        } finally {
+            System.setOut(console);
+        }
+
+        System.out.printf("%n=== Alert persistence (%d alerts, H2) ===%n", ALERTS);
+        System.out.printf("%-32s %10.0f alerts/s%n", "handleCriticalAlert (1 per tx)", ALERTS * 1e9 / single);
+        System.out.printf("%-32s %10.0f alerts/s%n", "handleCriticalAlerts (" + BATCH_SIZE + " per tx)", ALERTS * 1e9 / batched);
+    }
+
+    private static long runSingle(TransactionTemplate tx, CentralCommandListener listener, List<SystemAlert> alerts) {
+        long start = System.nanoTime();
+        for (SystemAlert alert : alerts) {
+            tx.executeWithoutResult(status -> listener.handleCriticalAlert(alert));
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long runBatched(TransactionTemplate tx, CentralCommandListener listener, List<SystemAlert> alerts) {
+        long start = System.nanoTime();
+        for (int from = 0; from < alerts.size(); from += BATCH_SIZE) {
+            List<SystemAlert> batch = alerts.subList(from, Math.min(from + BATCH_SIZE, alerts.size()));
+            tx.executeWithoutResult(status -> listener.handleCriticalAlerts(batch));
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static List<SystemAlert> alerts() {
+        List<SystemAlert> alerts = new ArrayList<>(ALERTS);
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 10, 0);
+        for (int i = 0; i < ALERTS; i++) {
+            alerts.add(SystemAlert.builder()
+                    .systemSource("LIFE_SUPPORT")
+                    .severity(i % 4 == 0 ? "WARNING" : "CRITICAL")
+                    .message("Oxygen level hypoxic: " + (19.0 - i % 10 / 10.0) + "%")
+                    .timestamp(start.plusSeconds(i))
+                    .value(19.0 - i % 10 / 10.0)
+                    .threshold(19.5)
+                    .occurrences(1 + i % 5)
+                    .build());
+        }
+        return alerts;
+    }
+}
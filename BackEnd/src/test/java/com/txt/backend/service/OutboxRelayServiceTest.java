@@ -0,0 +1,109 @@
+package com.txt.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.dto.SystemAlert;
+import com.txt.backend.model.OutboxEvent;
+import com.txt.backend.repository.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // the relay commits its own transactions
+class OutboxRelayServiceTest {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxService outboxService;
+    private final List<OutboxEvent> broker = new ArrayList<>();
+    private boolean brokerDown;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAllInBatch();
+        outboxService = new OutboxService(outboxRepository, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("An event is stored only if the surrounding transaction commits")
+    void appendJoinsCallerTransaction() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        assertThrows(IllegalStateException.class, () -> tx.executeWithoutResult(status -> {
+            outboxService.append("QUARANTINE", "Q-1", "QuarantineStarted", "quarantine.started", alert("Q-1", 1));
+            throw new IllegalStateException("domain change failed");
+        }));
+        assertEquals(0, outboxRepository.count());
+
+        tx.executeWithoutResult(status ->
+                outboxService.append("QUARANTINE", "Q-1", "QuarantineStarted", "quarantine.started", alert("Q-1", 1)));
+        assertEquals(1, outboxRepository.count());
+    }
+
+    @Test
+    @DisplayName("Batches that fail stay in the outbox and are published later, each aggregate in order")
+    void relayRetriesAndKeepsOrderPerAggregate() {
+        for (int i = 0; i < 25; i++) {
+            String source = i % 2 == 0 ? "LIFE_SUPPORT" : "POWER_GRID";
+            outboxService.append("ALERT", source, "AlertRaised", "alert.critical." + source.toLowerCase(),
+                    alert(source, i));
+        }
+        OutboxRelayService relay = relay(10);
+
+        brokerDown = true;
+        assertEquals(0, relay.drain());
+        assertEquals(25, outboxRepository.count());
+
+        brokerDown = false;
+        assertEquals(25, relay.drain());
+        assertEquals(0, outboxRepository.count());
+        assertEquals(25, broker.size());
+
+        for (String source : List.of("LIFE_SUPPORT", "POWER_GRID")) {
+            List<Long> ids = broker.stream()
+                    .filter(event -> event.getAggregateId().equals(source))
+                    .map(OutboxEvent::getId)
+                    .toList();
+            assertEquals(ids.stream().sorted().toList(), ids, source + " events out of order");
+        }
+        assertEquals(SystemAlert.class.getName(), broker.get(0).getPayloadType());
+    }
+
+    private OutboxRelayService relay(int batchSize) {
+        OutboxPublisher publisher = events -> {
+            if (brokerDown) {
+                throw new IllegalStateException("broker unreachable");
+            }
+            broker.addAll(events);
+        };
+        return new OutboxRelayService(outboxRepository, publisher, transactionManager, batchSize,
+                new SimpleMeterRegistry());
+    }
+
+    private static SystemAlert alert(String source, int n) {
+        return SystemAlert.builder()
+                .systemSource(source)
+                .severity("CRITICAL")
+                .message("alert " + n)
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.txt.backend.service;
+
+import com.txt.backend.aggregation.AggregateScope;
+import com.txt.backend.aggregation.WindowAggregate;
+import com.txt.backend.aggregation.WindowMode;
+import com.txt.backend.dto.TelemetryData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TelemetryAggregationServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TelemetryAggregationService service = new TelemetryAggregationService(10, 60, 16, meterRegistry);
+
+    @Test
+    @DisplayName("A reading from a skewed clock far ahead is skipped and does not block the current pane")
+    void shouldSkipFarFutureReadings() {
+        Instant now = Instant.now();
+        // 70 panes ahead lands on the same ring slot (7 panes of 10 s) as the current pane
+        service.process(List.of(reading(42, now.plusSeconds(700))));
+        service.process(List.of(reading(20, now), reading(22, now.minusSeconds(2))));
+
+        assertEquals(1, meterRegistry.get("telemetry.aggregation.future").counter().count());
+        assertEquals(0, meterRegistry.get("telemetry.aggregation.late").counter().count());
+        for (AggregateScope scope : AggregateScope.values()) {
+            String key = scope == AggregateScope.SENSOR ? "sensor-1" : "oxygen";
+            List<WindowAggregate> windows = service.aggregates(scope, key, WindowMode.SLIDING, 60, 1).orElseThrow();
+            assertEquals(2, windows.get(0).statistics().count(), scope.name());
+            assertEquals(21, windows.get(0).statistics().mean(), 1e-9, scope.name());
+        }
+    }
+
+    private static TelemetryData reading(double value, Instant timestamp) {
+        return new TelemetryData("sensor-1", "oxygen", value, "%", timestamp.toString());
+    }
+}
@@ -0,0 +1,171 @@
+package com.txt.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.dto.TelemetryData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TelemetryStreamServiceTest {
+
+    private static final int FAST_SUBSCRIBERS = 400;
+    private static final int SLOW_SUBSCRIBERS = 100;
+    private static final int SENSORS = 10;
+    private static final int BATCHES = 50;
+    private static final int READINGS_PER_BATCH = 100;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TelemetryStreamService service =
+            new TelemetryStreamService(objectMapper, 64, 1_000, 8, 60_000, 60_000, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Hundreds of subscribers: slow clients are conflated and never block the consumer")
+    void shouldFanOutToHundredsOfSubscribers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Recorder> fast = new ArrayList<>();
+        List<Recorder> slow = new ArrayList<>();
+        for (int i = 0; i < FAST_SUBSCRIBERS; i++) {
+            fast.add(subscribe(null));
+        }
+        for (int i = 0; i < SLOW_SUBSCRIBERS; i++) {
+            slow.add(subscribe(release));
+        }
+        assertEquals(FAST_SUBSCRIBERS + SLOW_SUBSCRIBERS, meterRegistry.get("telemetry.stream.subscribers").gauge().value());
+
+        // The slow clients cannot write anything until the consumer is done, so it only finishes if it never waits on them
+        ExecutorService consumer = Executors.newSingleThreadExecutor();
+        double last;
+        try {
+            last = consumer.submit(() -> {
+                double value = 0;
+                for (int b = 0; b < BATCHES; b++) {
+                    List<TelemetryData> batch = new ArrayList<>(READINGS_PER_BATCH);
+                    for (int r = 0; r < READINGS_PER_BATCH; r++) {
+                        batch.add(new TelemetryData("sensor-" + (r % SENSORS), "oxygen", value++, "%", null));
+                    }
+                    service.process(batch);
+                }
+                return value;
+            }).get(60, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            consumer.shutdownNow();
+        }
+
+        Map<String, Double> expected = new ConcurrentHashMap<>();
+        for (int s = 0; s < SENSORS; s++) {
+            expected.put("sensor-" + s, last - SENSORS + s);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        for (Recorder recorder : concat(fast, slow)) {
+            while (!recorder.latest.equals(expected) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(expected, recorder.latest, "every subscriber ends with the latest value per sensor");
+        }
+
+        long slowEvents = slow.stream().mapToLong(r -> r.events.get()).max().orElseThrow();
+        assertTrue(slowEvents < (long) BATCHES * READINGS_PER_BATCH, "slow subscribers were conflated");
+        assertTrue(meterRegistry.get("telemetry.stream.conflated").counter().count() > 0);
+        assertTrue(meterRegistry.get("telemetry.stream.send.latency").timer().count() > 0);
+    }
+
+    @Test
+    @DisplayName("A failing client is unsubscribed")
+    void shouldDropBrokenSubscribers() throws Exception {
+        service.subscribe(data -> true, (sensorId, json) -> {
+            throw new IOException("broken pipe");
+        });
+        service.process(List.of(new TelemetryData("sensor-1", "oxygen", 20.9, "%", null)));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.subscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, service.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Stuck clients are disconnected instead of occupying every sender thread")
+    void shouldNotStarveFastSubscribers() throws Exception {
+        TelemetryStreamService pool = new TelemetryStreamService(objectMapper, 64, 1_000, 2, 60_000, 200, meterRegistry);
+        try {
+            // Twice as many stuck clients as sender threads; their writes only end when interrupted
+            for (int i = 0; i < 4; i++) {
+                pool.subscribe(data -> true, (sensorId, json) -> {
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        throw new IOException("write interrupted");
+                    }
+                });
+            }
+            Recorder fast = new Recorder();
+            pool.subscribe(data -> true, (sensorId, json) ->
+                    fast.latest.put(sensorId, objectMapper.readValue(json, TelemetryData.class).getValue()));
+
+            double value = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while ((pool.subscriberCount() > 1 || !Double.valueOf(value - 1).equals(fast.latest.get("sensor-1")))
+                    && System.nanoTime() < deadline) {
+                pool.process(List.of(new TelemetryData("sensor-1", "oxygen", value++, "%", null)));
+                Thread.sleep(20);
+            }
+
+            assertEquals(value - 1, fast.latest.get("sensor-1"), "the fast subscriber keeps receiving the latest value");
+            assertEquals(1, pool.subscriberCount(), "stuck subscribers were disconnected");
+            assertEquals(4, meterRegistry.get("telemetry.stream.evicted").counter().count());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // A subscriber with a gate blocks on its first write until the gate opens
+    private Recorder subscribe(CountDownLatch gate) {
+        Recorder recorder = new Recorder();
+        service.subscribe(data -> true, (sensorId, json) -> {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            recorder.latest.put(sensorId, objectMapper.readValue(json, TelemetryData.class).getValue());
+            recorder.events.incrementAndGet();
+        });
+        return recorder;
+    }
+
+    private static List<Recorder> concat(List<Recorder> first, List<Recorder> second) {
+        List<Recorder> all = new ArrayList<>(first);
+        all.addAll(second);
+        return all;
+    }
+
+    private static final class Recorder {
+        final Map<String, Double> latest = new ConcurrentHashMap<>();
+        final AtomicLong events = new AtomicLong();
+    }
+}
@@ -0,0 +1,98 @@
+package com.txt.backend.service;
+
+import com.txt.backend.cache.WarpCacheMode;
+import com.txt.backend.dto.WarpSimulationRequest;
+import com.txt.backend.repository.WarpSimulationRepository;
+import com.txt.backend.warp.AccelerationProfile;
+import com.txt.backend.warp.AlcubierreEnergyEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Simulations/sec through {@link WarpSimulationService#simulateWarp}, one jump and one insert transaction per
+ * call as behind {@code POST /api/warp/simulate}, against {@link WarpBatchService} as behind
+ * {@code POST /api/warp/simulate/batch}, on an in-memory H2 with hibernate.jdbc.batch_size=50. The engine uses
+ * the production settings (48-cell grid, one energy worker and one batch worker per CPU); the batch speed-up
+ * over the single path grows with the number of CPUs, so compare runs on the same machine.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=WarpBatchBenchmarkTest
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // each path commits its own transactions
+class WarpBatchBenchmarkTest {
+
+    private static final int JUMPS = 10_000;
+
+    @Autowired
+    private WarpSimulationRepository warpSimulationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Warp simulations: single endpoint path vs batch (simulations/sec)")
+    void compareSingleAndBatch() {
+        ObstacleCatalogService obstacles = new ObstacleCatalogService(new DefaultResourceLoader(), "",
+                new SimpleMeterRegistry());
+        WarpSimulationService simulations = new WarpSimulationService(warpSimulationRepository, obstacles,
+                WarpBatchServiceTest.warpSimulationCache(obstacles), WarpCacheMode.PERSIST, 8, 10,
+                AlcubierreEnergyEngine.Method.GRID, 48, 1e-6, 0, 1000, AccelerationProfile.SMOOTH, 1000, 1_000_000);
+        int threads = Runtime.getRuntime().availableProcessors();
+        WarpBatchService batch = new WarpBatchService(simulations, warpSimulationRepository, transactionManager,
+                threads, 50, JUMPS, new SimpleMeterRegistry());
+        List<WarpSimulationRequest> jumps = WarpBatchServiceTest.jumps(JUMPS);
+        try {
+            // warm-up
+            single(simulations, jumps.subList(0, 1_000));
+            batch.simulate(jumps.subList(0, 1_000), result -> { });
+            warpSimulationRepository.deleteAllInBatch();
+
+            long start = System.nanoTime();
+            single(simulations, jumps);
+            double singleRate = JUMPS / ((System.nanoTime() - start) / 1e9);
+            assertEquals(JUMPS, warpSimulationRepository.count());
+            warpSimulationRepository.deleteAllInBatch();
+
+            start = System.nanoTime();
+            assertEquals(JUMPS, batch.simulate(jumps, result -> { }));
+            double batchRate = JUMPS / ((System.nanoTime() - start) / 1e9);
+            assertEquals(JUMPS, warpSimulationRepository.count());
+
+            System.out.printf("%n=== %d warp jumps, GRID 48, %d CPUs / worker threads, H2 in memory ===%n",
+                    JUMPS, threads);
+            System.out.printf("%-10s %14s%n", "path", "simulations/s");
+            System.out.printf("%-10s %14.0f%n", "single", singleRate);
+            System.out.printf("%-10s %14.0f%n", "batch", batchRate);
+            System.out.printf("speed-up   %13.1fx%n", batchRate / singleRate);
+        } finally {
+            batch.shutdown();
+            simulations.close();
+        }
+    }
+
+    private static void single(WarpSimulationService simulations, List<WarpSimulationRequest> jumps) {
+        for (WarpSimulationRequest jump : jumps) {
+            simulations.simulateWarp(jump.initialX(), jump.initialY(), jump.initialZ(),
+                    jump.finalX(), jump.finalY(), jump.finalZ(), jump.bubbleVelocity());
+        }
+    }
+}
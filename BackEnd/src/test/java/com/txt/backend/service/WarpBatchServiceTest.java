@@ -0,0 +1,164 @@
+package com.txt.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.cache.WarpCacheMode;
+import com.txt.backend.dto.WarpSimulationBatchResult;
+import com.txt.backend.dto.WarpSimulationRequest;
+import com.txt.backend.dto.warpSimulationResponse;
+import com.txt.backend.model.WarpSimulation;
+import com.txt.backend.repository.WarpSimulationRepository;
+import com.txt.backend.warp.AccelerationProfile;
+import com.txt.backend.warp.AlcubierreEnergyEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // the batch commits its own transactions
+class WarpBatchServiceTest {
+
+    @Autowired
+    private WarpSimulationRepository warpSimulationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private WarpSimulationService warpSimulationService;
+    private WarpBatchService warpBatchService;
+
+    @BeforeEach
+    void setUp() {
+        warpSimulationRepository.deleteAllInBatch();
+        warpSimulationService = warpSimulationService(warpSimulationRepository);
+        warpBatchService = new WarpBatchService(warpSimulationService, warpSimulationRepository, transactionManager,
+                4, 50, 500, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        warpBatchService.shutdown();
+        warpSimulationService.close();
+    }
+
+    @Test
+    @DisplayName("Every jump gets one result; failed jumps are reported and the rest are stored")
+    void storesBatchAndReportsFailures() {
+        List<WarpSimulationRequest> requests = new ArrayList<>(jumps(120));
+        requests.set(37, new WarpSimulationRequest(0.0, 0.0, 0.0, 5.0, 5.0, 5.0, 0.0)); // never moves
+        List<WarpSimulationBatchResult> results = new ArrayList<>();
+
+        assertEquals(119, warpBatchService.simulate(requests, results::add));
+
+        assertEquals(120, results.size());
+        assertEquals(IntStream.range(0, 120).boxed().toList(),
+                results.stream().map(WarpSimulationBatchResult::index).sorted().toList());
+        for (WarpSimulationBatchResult result : results) {
+            if (result.index() == 37) {
+                assertNull(result.simulation());
+                assertNotNull(result.error());
+            } else {
+                assertNotNull(result.simulation().id());
+                assertEquals(requests.get(result.index()).finalX(), result.simulation().finalX());
+            }
+        }
+        assertEquals(119, warpSimulationRepository.count());
+        assertThrows(IllegalArgumentException.class, () -> warpBatchService.simulate(jumps(501), r -> { }));
+    }
+
+    @Test
+    @DisplayName("A zero-length jump succeeds with zero energy, alone and in a batch")
+    void simulatesZeroLengthJump() {
+        WarpSimulationRequest nowhere = new WarpSimulationRequest(5.0, 5.0, 5.0, 5.0, 5.0, 5.0, 1000.0);
+
+        warpSimulationResponse single = warpSimulationService.simulate(nowhere, WarpCacheMode.PERSIST);
+        assertEquals(0.0, single.energyRequired());
+        assertNotNull(single.id());
+
+        List<WarpSimulationRequest> requests = new ArrayList<>(jumps(3));
+        requests.set(1, nowhere);
+        List<WarpSimulationBatchResult> results = new ArrayList<>();
+        assertEquals(3, warpBatchService.simulate(requests, results::add));
+        WarpSimulationBatchResult stored = results.stream()
+                .filter(result -> result.index() == 1)
+                .findFirst().orElseThrow();
+        assertNull(stored.error());
+        assertEquals(0.0, stored.simulation().energyRequired());
+        assertEquals(0.0, stored.simulation().bubbleSize());
+    }
+
+    @Test
+    @DisplayName("A failure without a message is still reported as a failure")
+    void reportsFailuresWithoutMessage() {
+        ObstacleCatalogService obstacles = new ObstacleCatalogService(new DefaultResourceLoader(), "",
+                new SimpleMeterRegistry());
+        WarpSimulationService failing = new WarpSimulationService(warpSimulationRepository, obstacles,
+                warpSimulationCache(obstacles), WarpCacheMode.PERSIST, 8, 10, AlcubierreEnergyEngine.Method.ADAPTIVE,
+                48, 1e-6, 1, 1000, AccelerationProfile.SMOOTH, 1000, 1_000_000) {
+            @Override
+            public WarpSimulation compute(double initialX, double initialY, double initialZ,
+                                          double finalX, double finalY, double finalZ, double bubbleVelocity) {
+                if (finalX == 1_003.0) {
+                    throw new IllegalStateException();
+                }
+                return super.compute(initialX, initialY, initialZ, finalX, finalY, finalZ, bubbleVelocity);
+            }
+        };
+        WarpBatchService batch = new WarpBatchService(failing, warpSimulationRepository, transactionManager,
+                2, 50, 500, new SimpleMeterRegistry());
+        List<WarpSimulationBatchResult> results = new ArrayList<>();
+        try {
+            assertEquals(4, batch.simulate(jumps(5), results::add));
+        } finally {
+            batch.shutdown();
+            failing.close();
+        }
+
+        WarpSimulationBatchResult failed = results.stream()
+                .filter(result -> result.index() == 3)
+                .findFirst().orElseThrow();
+        assertNull(failed.simulation());
+        assertEquals("java.lang.IllegalStateException", failed.error());
+        assertEquals(4, warpSimulationRepository.count());
+    }
+
+    static WarpSimulationService warpSimulationService(WarpSimulationRepository repository) {
+        ObstacleCatalogService obstacles = new ObstacleCatalogService(new DefaultResourceLoader(), "",
+                new SimpleMeterRegistry());
+        return new WarpSimulationService(repository, obstacles, warpSimulationCache(obstacles), WarpCacheMode.PERSIST,
+                8, 10, AlcubierreEnergyEngine.Method.ADAPTIVE, 48, 1e-6, 1, 1000, AccelerationProfile.SMOOTH, 1000, 1_000_000);
+    }
+
+    static WarpSimulationCache warpSimulationCache(ObstacleCatalogService obstacles) {
+        return new WarpSimulationCache(obstacles, new ObjectMapper(),
+                new DefaultListableBeanFactory().getBeanProvider(StringRedisTemplate.class), true, 10_000, 600, 1, 1,
+                false, 3600, new SimpleMeterRegistry());
+    }
+
+    static List<WarpSimulationRequest> jumps(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new WarpSimulationRequest(0.0, 0.0, 0.0, 1_000.0 + i, 2_000.0, -500.0, 1e6 + i))
+                .toList();
+    }
+}
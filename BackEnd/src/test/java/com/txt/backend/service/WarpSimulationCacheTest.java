@@ -0,0 +1,206 @@
+package com.txt.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.txt.backend.cache.WarpCacheMode;
+import com.txt.backend.dto.WarpSimulationRequest;
+import com.txt.backend.dto.warpSimulationResponse;
+import com.txt.backend.model.WarpSimulation;
+import com.txt.backend.obstacle.Obstacle;
+import com.txt.backend.repository.WarpSimulationRepository;
+import com.txt.backend.warp.AccelerationProfile;
+import com.txt.backend.warp.AlcubierreEnergyEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WarpSimulationCacheTest {
+
+    private static final WarpSimulationRequest JUMP =
+            new WarpSimulationRequest(0.0, 0.0, 0.0, 1_000.0, 2_000.0, -500.0, 1e6);
+    private static final WarpSimulationRequest NEARBY_JUMP =
+            new WarpSimulationRequest(0.3, -0.2, 0.0, 1_000.4, 2_000.0, -500.1, 1e6 + 0.4);
+
+    @Autowired
+    private WarpSimulationRepository warpSimulationRepository;
+
+    private final ObstacleCatalogService obstacles =
+            new ObstacleCatalogService(new DefaultResourceLoader(), "", new SimpleMeterRegistry());
+    private final Map<String, String> redisStore = new HashMap<>();
+    private SimpleMeterRegistry meterRegistry;
+    private WarpSimulationService warpSimulationService;
+
+    @BeforeEach
+    void setUp() {
+        warpSimulationRepository.deleteAllInBatch();
+        meterRegistry = new SimpleMeterRegistry();
+        warpSimulationService = service(cache(null, meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        warpSimulationService.close();
+    }
+
+    @Test
+    @DisplayName("PERSIST stores a jump once and answers repeats and nearby requests with that row")
+    void persistStoresOnce() {
+        warpSimulationResponse first = warpSimulationService.simulate(JUMP, WarpCacheMode.PERSIST);
+        warpSimulationResponse again = warpSimulationService.simulate(NEARBY_JUMP, null);
+
+        assertEquals(first, again);
+        assertEquals(1, warpSimulationRepository.count());
+        assertEquals(1.0, meterRegistry.counter("warp.cache.requests", "tier", "local", "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter("warp.cache.requests", "tier", "local", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("Concurrent misses on one key are simulated and stored once")
+    void concurrentMissesShareOneSimulation() throws Exception {
+        AtomicInteger computed = new AtomicInteger();
+        WarpSimulationService slow = new WarpSimulationService(warpSimulationRepository, obstacles,
+                cache(null, new SimpleMeterRegistry()), WarpCacheMode.PERSIST, 8, 10,
+                AlcubierreEnergyEngine.Method.ADAPTIVE, 48, 1e-6, 1, 1000, AccelerationProfile.SMOOTH, 1000, 1_000_000) {
+            @Override
+            public WarpSimulation compute(double initialX, double initialY, double initialZ,
+                                          double finalX, double finalY, double finalZ, double bubbleVelocity) {
+                computed.incrementAndGet();
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100)); // long enough for the others to miss too
+                return super.compute(initialX, initialY, initialZ, finalX, finalY, finalZ, bubbleVelocity);
+            }
+        };
+        ExecutorService requests = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<warpSimulationResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                WarpSimulationRequest request = i % 2 == 0 ? JUMP : NEARBY_JUMP;
+                results.add(requests.submit(() -> {
+                    start.await();
+                    return slow.simulate(request, WarpCacheMode.PERSIST);
+                }));
+            }
+            start.countDown();
+            warpSimulationResponse first = results.get(0).get(30, TimeUnit.SECONDS);
+            for (Future<warpSimulationResponse> result : results) {
+                assertEquals(first, result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            requests.shutdownNow();
+            slow.close();
+        }
+        assertEquals(1, computed.get());
+        assertEquals(1, warpSimulationRepository.count());
+    }
+
+    @Test
+    @DisplayName("COMPUTE_ONLY never stores; a later PERSIST request stores the jump")
+    void computeOnlyNeverStores() {
+        warpSimulationResponse computed = warpSimulationService.simulate(JUMP, WarpCacheMode.COMPUTE_ONLY);
+        assertNull(computed.id());
+        assertEquals(computed, warpSimulationService.simulate(JUMP, WarpCacheMode.COMPUTE_ONLY));
+        assertEquals(0, warpSimulationRepository.count());
+
+        warpSimulationResponse stored = warpSimulationService.simulate(JUMP, WarpCacheMode.PERSIST);
+        assertTrue(stored.id() != null);
+        assertEquals(computed.energyRequired(), stored.energyRequired());
+        assertEquals(1, warpSimulationRepository.count());
+    }
+
+    @Test
+    @DisplayName("Changing the obstacle catalog makes earlier results miss")
+    void obstacleChangesMiss() {
+        assertFalse(warpSimulationService.simulate(JUMP, WarpCacheMode.COMPUTE_ONLY).obstaclesDetected());
+        obstacles.put(new Obstacle(1, 500, 1_000, -250, 10));
+        warpSimulationResponse blocked = warpSimulationService.simulate(JUMP, WarpCacheMode.COMPUTE_ONLY);
+        assertTrue(blocked.obstaclesDetected());
+        assertEquals(1L, blocked.obstacleId());
+    }
+
+    @Test
+    @DisplayName("Another instance finds results in the shared Redis tier")
+    void redisTierIsShared() {
+        StringRedisTemplate redis = redis();
+        WarpSimulationService instanceA = service(cache(redis, new SimpleMeterRegistry()));
+        SimpleMeterRegistry metricsB = new SimpleMeterRegistry();
+        WarpSimulationService instanceB = service(cache(redis, metricsB));
+        try {
+            warpSimulationResponse stored = instanceA.simulate(JUMP, WarpCacheMode.PERSIST);
+            assertEquals(1, redisStore.size());
+            assertEquals(stored, instanceB.simulate(JUMP, WarpCacheMode.PERSIST));
+            assertEquals(1.0, metricsB.counter("warp.cache.requests", "tier", "redis", "result", "hit").count());
+            assertEquals(1, warpSimulationRepository.count());
+
+            when(redis.opsForValue().get(anyString())).thenThrow(new IllegalStateException("Redis down"));
+            WarpSimulationRequest other = new WarpSimulationRequest(0.0, 0.0, 0.0, 5_000.0, 0.0, 0.0, 1e6);
+            assertNotEquals(stored.id(), instanceB.simulate(other, WarpCacheMode.PERSIST).id());
+            assertEquals(1.0, metricsB.counter("warp.cache.redis.errors").count());
+        } finally {
+            instanceA.close();
+            instanceB.close();
+        }
+    }
+
+    private WarpSimulationCache cache(StringRedisTemplate redis, SimpleMeterRegistry registry) {
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        if (redis != null) {
+            beans.registerSingleton("redis", redis);
+        }
+        return new WarpSimulationCache(obstacles, new ObjectMapper(), beans.getBeanProvider(StringRedisTemplate.class),
+                true, 100, 600, 1, 1, redis != null, 3600, registry);
+    }
+
+    private WarpSimulationService service(WarpSimulationCache cache) {
+        return new WarpSimulationService(warpSimulationRepository, obstacles, cache, WarpCacheMode.PERSIST, 8, 10,
+                AlcubierreEnergyEngine.Method.ADAPTIVE, 48, 1e-6, 1, 1000, AccelerationProfile.SMOOTH, 1000, 1_000_000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private StringRedisTemplate redis() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(values);
+        when(values.get(anyString())).thenAnswer(call -> redisStore.get(call.<String>getArgument(0)));
+        doAnswer(call -> redisStore.put(call.getArgument(0), call.getArgument(1)))
+                .when(values).set(anyString(), anyString(), any(Duration.class));
+        return redis;
+    }
+}
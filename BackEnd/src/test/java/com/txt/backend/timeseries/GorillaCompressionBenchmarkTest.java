@@ -0,0 +1,116 @@
+package com.txt.backend.timeseries;
+
+import com.txt.backend.dto.TelemetryData;
+import com.txt.backend.serialization.TelemetryTimestamps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Compressed size and decode throughput of Gorilla chunks on sensor-like series.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=GorillaCompressionBenchmarkTest
+ */
+@Tag("benchmark")
+class GorillaCompressionBenchmarkTest {
+
+    private static final int SAMPLES = 64 * 1024;
+    private static final int CHUNK = 1024;
+    private static final int ROUNDS = 40;
+
+    @Test
+    @DisplayName("Gorilla: bytes/sample and decode throughput per telemetry type")
+    void measureCompression() {
+        Random random = new Random(2026);
+        System.out.printf("%n=== Gorilla chunks (%d samples, %d per chunk, 1 Hz with clock jitter) ===%n", SAMPLES, CHUNK);
+        System.out.printf("%-22s %12s %10s %16s%n", "series", "bytes/sample", "ratio", "decode Msamples/s");
+
+        // Oxygen %: steady around 20.9, two decimals of resolution
+        report("oxygen (0.01 %)", stream("O2-1", "oxygen", "%", random, v -> round(20.9 + random.nextGaussian() * 0.05, 100)));
+        // Hull temperature: slow random walk with 0.1 C resolution
+        double[] temperature = {21.0};
+        report("temperature (0.1 C)", stream("TEMP-1", "temperature", "C", random,
+                v -> round(temperature[0] += random.nextGaussian() * 0.05, 10)));
+        // Speed: holds a set point, occasionally changes it
+        double[] speed = {0.25};
+        report("speed (set points)", stream("NAV-1", "speed", "c", random, v -> {
+            if (random.nextInt(300) == 0) {
+                speed[0] = round(random.nextDouble(), 1000);
+            }
+            return speed[0];
+        }));
+        // Worst case: full-precision noise
+        report("noise (full double)", stream("RAD-1", "radiation", "mSv", random, v -> random.nextDouble()));
+    }
+
+    private static void report(String label, List<TelemetryData> readings) {
+        long[] timestamps = new long[readings.size()];
+        double[] values = new double[readings.size()];
+        for (int i = 0; i < readings.size(); i++) {
+            timestamps[i] = TelemetryTimestamps.toEpochMicros(readings.get(i).getTimestamp());
+            values[i] = readings.get(i).getValue();
+        }
+
+        List<GorillaChunk> chunks = new ArrayList<>();
+        long bytes = 0;
+        for (int start = 0; start < readings.size(); start += CHUNK) {
+            GorillaChunk chunk = GorillaChunk.encode(start,
+                    Arrays.copyOfRange(timestamps, start, start + CHUNK),
+                    Arrays.copyOfRange(values, start, start + CHUNK), CHUNK);
+            chunks.add(chunk);
+            bytes += chunk.sizeBytes();
+        }
+
+        long[] decodedTs = new long[readings.size()];
+        double[] decodedValues = new double[readings.size()];
+        long nanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int c = 0; c < chunks.size(); c++) {
+                chunks.get(c).decode(decodedTs, decodedValues, c * CHUNK);
+            }
+            if (round >= ROUNDS / 2) { // first half is warm-up
+                nanos += System.nanoTime() - start;
+            }
+        }
+        assertArrayEquals(timestamps, decodedTs, "timestamps round trip");
+        assertArrayEquals(values, decodedValues, "values round trip");
+
+        double bytesPerSample = (double) bytes / readings.size();
+        double samplesPerSecond = (double) readings.size() * (ROUNDS - ROUNDS / 2) / (nanos / 1e9);
+        System.out.printf("%-22s %12.2f %9.1fx %16.1f%n", label, bytesPerSample, 16 / bytesPerSample, samplesPerSecond / 1e6);
+    }
+
+    private static List<TelemetryData> stream(String sensorId, String type, String unit, Random random,
+                                              DoubleUnaryOperator nextValue) {
+        LocalDateTime start = LocalDateTime.of(2026, 10, 18, 10, 0);
+        List<TelemetryData> readings = new ArrayList<>(SAMPLES);
+        double value = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            value = nextValue.applyAsDouble(value);
+            // 1 s period, sensor clock jitter of a few milliseconds
+            long jitterMicros = random.nextInt(5) == 0 ? random.nextInt(4_000) : 0;
+            readings.add(TelemetryData.builder()
+                    .sensorId(sensorId)
+                    .type(type)
+                    .value(value)
+                    .unit(unit)
+                    .timestamp(start.plusSeconds(i).plusNanos(jitterMicros * 1_000).toString())
+                    .build());
+        }
+        return readings;
+    }
+
+    private static double round(double value, int scale) {
+        return Math.round(value * scale) / (double) scale;
+    }
+}
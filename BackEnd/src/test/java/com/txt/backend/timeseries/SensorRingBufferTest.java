@@ -0,0 +1,84 @@
+package com.txt.backend.timeseries;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SensorRingBufferTest {
+
+    @Test
+    @DisplayName("Keeps only the newest samples once the ring wraps around")
+    void shouldOverwriteOldestSamples() {
+        SensorRingBuffer buffer = new SensorRingBuffer(4);
+        for (int i = 1; i <= 6; i++) {
+            buffer.append(i * 10L, i);
+        }
+
+        SeriesSnapshot all = buffer.last(100);
+
+        assertArrayEquals(new long[]{30, 40, 50, 60}, all.timestampsMicros());
+        assertArrayEquals(new double[]{3, 4, 5, 6}, all.values());
+    }
+
+    @Test
+    @DisplayName("Returns the newest N samples, oldest first")
+    void shouldLimitToNewestSamples() {
+        SensorRingBuffer buffer = new SensorRingBuffer(8);
+        for (int i = 1; i <= 5; i++) {
+            buffer.append(i, i * 1.5);
+        }
+
+        assertArrayEquals(new long[]{4, 5}, buffer.last(2).timestampsMicros());
+    }
+
+    @Test
+    @DisplayName("Time window is inclusive at the start and exclusive at the end")
+    void shouldSelectTimeWindow() {
+        SensorRingBuffer buffer = new SensorRingBuffer(8);
+        for (int i = 1; i <= 8; i++) {
+            buffer.append(i * 100L, i);
+        }
+
+        SeriesSnapshot window = buffer.range(300, 600, 100);
+
+        assertEquals(3, window.size());
+        assertArrayEquals(new long[]{300, 400, 500}, window.timestampsMicros());
+    }
+
+    @Test
+    @DisplayName("Queries continue into compressed chunks once the raw ring has wrapped")
+    void shouldReadCompressedHistory() {
+        SensorRingBuffer buffer = new SensorRingBuffer(8, 4, 1 << 16);
+        for (int i = 0; i < 20; i++) {
+            buffer.append(i * 1_000_000L, 20.0 + i * 0.1);
+        }
+
+        SeriesSnapshot all = buffer.last(100);
+        assertEquals(20, all.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i * 1_000_000L, all.timestampsMicros()[i]);
+            assertEquals(20.0 + i * 0.1, all.values()[i]);
+        }
+
+        SeriesSnapshot window = buffer.range(3_000_000, 6_000_000, 100);
+        assertArrayEquals(new long[]{3_000_000, 4_000_000, 5_000_000}, window.timestampsMicros());
+        assertEquals(10, buffer.last(10).size());
+    }
+
+    @Test
+    @DisplayName("Gorilla chunks round-trip irregular timestamps and special values")
+    void shouldRoundTripEdgeCases() {
+        long[] ts = {Long.MIN_VALUE / 4, -5, 0, 1, 1, 3_000_000_000L, Long.MAX_VALUE / 4, Long.MAX_VALUE / 4 - 1};
+        double[] vs = {0.0, -0.0, Double.NaN, Double.MAX_VALUE, Double.MIN_VALUE, -1e300, 20.9, 20.9};
+
+        GorillaChunk chunk = GorillaChunk.encode(0, ts, vs, ts.length);
+        long[] decodedTs = new long[ts.length];
+        double[] decodedVs = new double[vs.length];
+        chunk.decode(decodedTs, decodedVs, 0);
+
+        assertArrayEquals(ts, decodedTs);
+        assertArrayEquals(vs, decodedVs);
+    }
+}
@@ -0,0 +1,55 @@
+package com.txt.backend.warp;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Wall time of the 3D grid integration by resolution and worker threads, and its error against the adaptive
+ * radial integral.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=AlcubierreEnergyBenchmarkTest
+ */
+@Tag("benchmark")
+class AlcubierreEnergyBenchmarkTest {
+
+    private static final int[] RESOLUTIONS = {16, 32, 48, 64, 96, 128};
+    private static final int ROUNDS = 3;
+
+    @Test
+    @DisplayName("Alcubierre grid integral: ms by resolution and threads")
+    void scaling() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int[] threads = cores >= 4 ? new int[]{1, 2, 4, cores} : new int[]{1, 2, 4};
+        ShapeFunction shape = new ShapeFunction(8);
+
+        double reference;
+        try (AlcubierreEnergyEngine engine = new AlcubierreEnergyEngine(shape, 10, 1)) {
+            reference = engine.radialIntegral(1e-12);
+        }
+
+        System.out.printf("%n=== Alcubierre energy grid, sigmaR = 8, %d cpus ===%n", cores);
+        System.out.printf("%-8s %10s", "cells", "rel error");
+        for (int t : threads) {
+            System.out.printf(" %9s", t + " thr ms");
+        }
+        System.out.println();
+        for (int cells : RESOLUTIONS) {
+            double integral = 0;
+            StringBuilder row = new StringBuilder();
+            for (int t : threads) {
+                try (AlcubierreEnergyEngine engine = new AlcubierreEnergyEngine(shape, 10, t)) {
+                    engine.gridIntegral(cells); // warm-up
+                    long best = Long.MAX_VALUE;
+                    for (int round = 0; round < ROUNDS; round++) {
+                        long start = System.nanoTime();
+                        integral = engine.gridIntegral(cells);
+                        best = Math.min(best, System.nanoTime() - start);
+                    }
+                    row.append(String.format(" %9.1f", best / 1e6));
+                }
+            }
+            System.out.printf("%-8s %10.1e%s%n", cells + "^3", Math.abs(integral - reference) / reference, row);
+        }
+    }
+}
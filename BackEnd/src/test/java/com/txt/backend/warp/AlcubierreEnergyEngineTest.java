@@ -0,0 +1,57 @@
+package com.txt.backend.warp;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlcubierreEnergyEngineTest {
+
+    @Test
+    @DisplayName("Shape function is 1 inside the bubble, 0 outside, and its derivative matches finite differences")
+    void shapeFunction() {
+        ShapeFunction shape = new ShapeFunction(8);
+        assertEquals(1, shape.value(0), 1e-9);
+        assertEquals(0, shape.value(3), 1e-9);
+        for (double u : new double[]{0.5, 0.95, 1.0, 1.1}) {
+            double numeric = (shape.value(u + 1e-6) - shape.value(u - 1e-6)) / 2e-6;
+            assertEquals(numeric, shape.derivative(u), 1e-5 * Math.max(1, Math.abs(numeric)));
+        }
+    }
+
+    @Test
+    @DisplayName("The 3D grid converges to the adaptive radial integral, with any number of threads")
+    void gridConvergesToRadialIntegral() {
+        try (AlcubierreEnergyEngine sequential = new AlcubierreEnergyEngine(new ShapeFunction(8), 10, 1);
+             AlcubierreEnergyEngine parallel = new AlcubierreEnergyEngine(new ShapeFunction(8), 10, 4)) {
+            double reference = sequential.radialIntegral(1e-10);
+            assertEquals(reference, sequential.radialIntegral(1e-6), reference * 1e-5);
+
+            double coarse = Math.abs(sequential.gridIntegral(16) - reference);
+            double fine = Math.abs(sequential.gridIntegral(48) - reference);
+            assertTrue(fine < coarse, "error should shrink as the grid is refined");
+            assertTrue(fine < reference * 5e-3, "48 cells per axis should be within 0.5%");
+            assertEquals(sequential.gridIntegral(64), parallel.gridIntegral(64), reference * 1e-12);
+        }
+    }
+
+    @Test
+    @DisplayName("Energy is negative and scales the integral with R and v²")
+    void energyScaling() {
+        try (AlcubierreEnergyEngine engine = new AlcubierreEnergyEngine(new ShapeFunction(8), 10, 2)) {
+            double base = engine.energy(100, 1e7, AlcubierreEnergyEngine.Method.ADAPTIVE, 1e-8);
+            assertTrue(base < 0);
+            assertEquals(2 * base, engine.energy(200, 1e7, AlcubierreEnergyEngine.Method.ADAPTIVE, 1e-8),
+                    Math.abs(base) * 1e-9);
+            assertEquals(4 * base, engine.energy(100, 2e7, AlcubierreEnergyEngine.Method.ADAPTIVE, 1e-8),
+                    Math.abs(base) * 1e-9);
+            assertEquals(engine.gridIntegral(32), engine.integral(AlcubierreEnergyEngine.Method.GRID, 32));
+            assertEquals(0, engine.energy(0, 1e7, AlcubierreEnergyEngine.Method.GRID, 32));
+            assertEquals(0, engine.energy(100, 0, AlcubierreEnergyEngine.Method.GRID, 32));
+            assertThrows(IllegalArgumentException.class,
+                    () -> engine.energy(-1, 1e7, AlcubierreEnergyEngine.Method.GRID, 32));
+        }
+    }
+}
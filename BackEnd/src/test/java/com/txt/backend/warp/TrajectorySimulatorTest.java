@@ -0,0 +1,85 @@
+package com.txt.backend.warp;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrajectorySimulatorTest {
+
+    @Test
+    @DisplayName("A long jump accelerates, cruises and decelerates, ending exactly at the destination")
+    void longJumpGoesThroughEveryPhase() throws IOException {
+        for (AccelerationProfile profile : AccelerationProfile.values()) {
+            TrajectoryPlan plan = TrajectoryPlan.of(profile, 10_000, 100, 10);
+            assertEquals(100, plan.peakVelocity(), 1e-9);
+            assertEquals(plan.distance(), plan.distanceAt(plan.rampTime() + plan.cruiseTime() + plan.rampTime()));
+
+            List<double[]> samples = new ArrayList<>();
+            List<WarpPhase> phases = new ArrayList<>();
+            TrajectorySimulator.Summary summary = new TrajectorySimulator(plan, new double[]{0, 0, 0},
+                    new double[]{6_000, 8_000, 0}, 0.5, 1, 1e40).run((t, x, y, z, v, phase, draw) -> {
+                samples.add(new double[]{t, x, y, z, v});
+                if (phases.isEmpty() || phases.get(phases.size() - 1) != phase) {
+                    phases.add(phase);
+                }
+            });
+
+            assertEquals(List.of(WarpPhase.START, WarpPhase.CRUISE, WarpPhase.END), phases, profile.name());
+            double[] last = samples.get(samples.size() - 1);
+            assertEquals(plan.totalTime(), last[0], 1e-9);
+            assertEquals(6_000, last[1], 1e-6);
+            assertEquals(8_000, last[2], 1e-6);
+            assertEquals(0, last[4], 1e-9);
+            assertEquals(summary.steps() + 1, summary.samples());
+            // Energy put into the bubble on the way up comes back on the way down
+            assertEquals(1e40, summary.energyDrawn(), 1e28);
+            assertEquals(summary.energyDrawn(), summary.energyRecovered(), 1e28);
+
+            double travelled = 0;
+            for (int i = 1; i < samples.size(); i++) {
+                double step = samples.get(i)[0] - samples.get(i - 1)[0];
+                assertTrue(samples.get(i)[4] <= 100 + 1e-9, "never faster than cruise");
+                travelled += (samples.get(i)[4] + samples.get(i - 1)[4]) / 2 * step;
+            }
+            assertEquals(10_000, travelled, 1.0, "integrated velocity should match the distance covered");
+        }
+    }
+
+    @Test
+    @DisplayName("A jump too short to reach cruise velocity turns around at a lower peak")
+    void shortJumpNeverCruises() {
+        TrajectoryPlan plan = TrajectoryPlan.of(AccelerationProfile.LINEAR, 100, 1_000, 10);
+        assertEquals(0, plan.cruiseTime());
+        assertEquals(Math.sqrt(10 * 100), plan.peakVelocity(), 1e-9);
+        assertEquals(50, plan.distanceAt(plan.rampTime()), 1e-9);
+        assertEquals(WarpPhase.END, plan.phaseAt(plan.rampTime()));
+    }
+
+    @Test
+    @DisplayName("Sampling every n-th step keeps the first and last steps and the total energy draw")
+    void sparseSamplingKeepsEndpoints() throws IOException {
+        TrajectoryPlan plan = TrajectoryPlan.of(AccelerationProfile.SMOOTH, 5_000, 50, 5);
+        List<Double> times = new ArrayList<>();
+        double[] netDraw = {0};
+        TrajectorySimulator simulator = new TrajectorySimulator(plan, new double[]{0, 0, 0},
+                new double[]{5_000, 0, 0}, 0.1, 7, 1.0);
+        TrajectorySimulator.Summary summary = simulator.run((t, x, y, z, v, phase, draw) -> {
+            times.add(t);
+            netDraw[0] += draw;
+        });
+
+        assertEquals(0, times.get(0));
+        assertEquals(plan.totalTime(), times.get(times.size() - 1), 1e-9);
+        assertEquals(summary.samples(), times.size());
+        assertTrue(times.size() < simulator.steps() / 5);
+        assertEquals(0, netDraw[0], 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> TrajectoryPlan.of(AccelerationProfile.LINEAR, 10, 0, 1));
+    }
+}